@@ -0,0 +1,63 @@
+package seedu.address.logic.commands;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.ArchivedBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.SortKey;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Benchmarks sorting the displayed persons with a {@code SortCommand}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SortCommandBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int bookSize;
+
+    private final SortCommand sortByName = new SortCommand(List.of(new SortKey(SortKey.Field.NAME, false)));
+    private final SortCommand sortByAppointment = new SortCommand(List.of(
+            new SortKey(SortKey.Field.APPOINTMENT, true), new SortKey(SortKey.Field.NAME, false)));
+
+    private Model model;
+    private boolean isByNameNext;
+
+    /**
+     * Creates a model of {@code bookSize} synthetic persons.
+     */
+    @Setup
+    public void setUp() {
+        model = new ModelManager(SyntheticDataUtil.getSyntheticAddressBook(bookSize), new UserPrefs(),
+                new ArchivedBook());
+    }
+
+    /**
+     * Sorts by name and by appointment in turn, so that every sort starts from a list in another order.
+     */
+    @Benchmark
+    public CommandResult sortByAlternatingKeys() {
+        isByNameNext = !isByNameNext;
+        return (isByNameNext ? sortByName : sortByAppointment).execute(model);
+    }
+}
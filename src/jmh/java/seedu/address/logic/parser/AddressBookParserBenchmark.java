@@ -0,0 +1,72 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelManager;
+
+/**
+ * Benchmarks tokenizing and parsing user input.
+ * Parsing does not look at the persons in the model, so unlike the other benchmarks these are not run for each book
+ * size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AddressBookParserBenchmark {
+
+    private static final String ADD_ARGUMENTS = " n/Charlotte Oliveiro p/93210283 e/charlotte@example.com"
+            + " a/Blk 11 Ang Mo Kio Street 74, #11-04";
+
+    private AddressBookParser parser;
+
+    @Setup
+    public void setUp() {
+        parser = new AddressBookParser(new ModelManager());
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenizeAdd() {
+        return ArgumentTokenizer.tokenize(ADD_ARGUMENTS, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS);
+    }
+
+    @Benchmark
+    public Command parseAdd() throws ParseException {
+        return parser.parseCommand("add" + ADD_ARGUMENTS);
+    }
+
+    @Benchmark
+    public Command parseFind() throws ParseException {
+        return parser.parseCommand("find ta/Peanuts AND NOT tc/Asthma");
+    }
+
+    @Benchmark
+    public Command parseDelete() throws ParseException {
+        return parser.parseCommand("delete 1,4,7-20");
+    }
+
+    @Benchmark
+    public Command parseSort() throws ParseException {
+        return parser.parseCommand("sort appointment desc name");
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Benchmarks committing and undoing an edit of a single person in a {@code VersionedAddressBook}, which should take
+ * the same time whatever the size of the address book.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class VersionedAddressBookBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int bookSize;
+
+    private VersionedAddressBook versionedAddressBook;
+    private Person shownPerson;
+    private Person hiddenPerson;
+
+    /**
+     * Fills the address book with {@code bookSize} synthetic persons, and keeps one more to swap in for one of them.
+     */
+    @Setup
+    public void setUp() {
+        List<Person> persons = SyntheticDataUtil.getSyntheticPersons(bookSize + 1);
+        hiddenPerson = persons.remove(bookSize);
+        shownPerson = persons.get(bookSize / 2);
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        versionedAddressBook = new VersionedAddressBook(addressBook);
+    }
+
+    /**
+     * Replaces a person in the middle of the address book and commits the change.
+     */
+    @Benchmark
+    public void editThenCommit() {
+        swapPerson();
+        versionedAddressBook.commit();
+    }
+
+    /**
+     * Replaces a person in the middle of the address book, commits the change and undoes it.
+     */
+    @Benchmark
+    public void editThenCommitThenUndo() throws CommandException {
+        versionedAddressBook.setPerson(shownPerson, hiddenPerson);
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+    }
+
+    private void swapPerson() {
+        versionedAddressBook.setPerson(shownPerson, hiddenPerson);
+        Person replaced = shownPerson;
+        shownPerson = hiddenPerson;
+        hiddenPerson = replaced;
+    }
+}
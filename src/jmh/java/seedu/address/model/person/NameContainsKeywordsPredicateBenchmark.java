@@ -0,0 +1,82 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.ArchivedBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Benchmarks finding persons by keywords, both by testing every person with a {@code NameContainsKeywordsPredicate}
+ * and by filtering a {@code Model}, which looks the keywords up in its search index instead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class NameContainsKeywordsPredicateBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int bookSize;
+
+    private final NameContainsKeywordsPredicate firstPredicate =
+            new NameContainsKeywordsPredicate(List.of("Charlotte", "Balakrishnan"));
+    private final NameContainsKeywordsPredicate secondPredicate =
+            new NameContainsKeywordsPredicate(List.of("David", "Oliveiro"));
+
+    private List<Person> persons;
+    private Model model;
+    private boolean isFirstPredicateNext;
+
+    /**
+     * Creates {@code bookSize} synthetic persons, and a model that holds them.
+     */
+    @Setup
+    public void setUp() {
+        persons = SyntheticDataUtil.getSyntheticPersons(bookSize);
+        model = new ModelManager(SyntheticDataUtil.getSyntheticAddressBook(bookSize), new UserPrefs(),
+                new ArchivedBook());
+    }
+
+    /**
+     * Tests every person against the predicate, as when the model is filtered without a search index.
+     */
+    @Benchmark
+    public int testEveryPerson() {
+        int matchCount = 0;
+        for (Person person : persons) {
+            if (firstPredicate.test(person)) {
+                matchCount++;
+            }
+        }
+        return matchCount;
+    }
+
+    /**
+     * Filters the model by one of two predicates in turn, as the model skips filtering by the predicate it is
+     * already filtered by.
+     */
+    @Benchmark
+    public int filterModel() {
+        isFirstPredicateNext = !isFirstPredicateNext;
+        model.updateFilteredPersonList(isFirstPredicateNext ? firstPredicate : secondPredicate);
+        return model.getFilteredPersonList().size();
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Benchmarks adding persons to, looking persons up in and replacing the persons of a {@code UniquePersonList}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int bookSize;
+
+    private List<Person> persons;
+    private UniquePersonList list;
+    private Person absentPerson;
+    private int nextPersonIndex;
+
+    /**
+     * Fills the list with {@code bookSize} synthetic persons, and keeps one more that is not in the list.
+     */
+    @Setup
+    public void setUp() {
+        persons = SyntheticDataUtil.getSyntheticPersons(bookSize + 1);
+        absentPerson = persons.remove(bookSize);
+        list = new UniquePersonList();
+        list.setPersons(persons);
+    }
+
+    /**
+     * Adds a person to the full list, and removes it again so that every invocation sees a list of the same size.
+     */
+    @Benchmark
+    public void addThenRemove() {
+        list.add(absentPerson);
+        list.remove(absentPerson);
+    }
+
+    /**
+     * Looks up each person in the list in turn.
+     */
+    @Benchmark
+    public boolean containsPresent() {
+        nextPersonIndex = (nextPersonIndex + 1) % bookSize;
+        return list.contains(persons.get(nextPersonIndex));
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return list.contains(absentPerson);
+    }
+
+    /**
+     * Replaces the persons in the list with the same persons, as when an address book is loaded or reset.
+     */
+    @Benchmark
+    public UniquePersonList setPersons() {
+        list.setPersons(persons);
+        return list;
+    }
+}
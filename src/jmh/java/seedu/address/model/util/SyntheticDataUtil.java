@@ -0,0 +1,115 @@
+package seedu.address.model.util;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Appointment;
+import seedu.address.model.person.DateTime;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.EmergencyPerson;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Relationship;
+
+/**
+ * Contains utility methods for populating {@code AddressBook} with any number of synthetic patients, for benchmarks.
+ * The patients are drawn from the same kinds of names, tags and appointments as the sample data, and are the same
+ * for the same count and seed, so that runs of a benchmark can be compared.
+ */
+public class SyntheticDataUtil extends SampleDataUtil {
+
+    /** The seed used unless another is given, so that every benchmark sees the same patients. */
+    public static final long DEFAULT_SEED = 2103L;
+
+    /** The share of patients, out of 4, that have an appointment. */
+    private static final int APPOINTMENT_QUARTERS = 3;
+    /** The number of days over which appointments are spread, from {@link #FIRST_APPOINTMENT_DAY}. */
+    private static final int APPOINTMENT_DAYS = 730;
+    private static final LocalDateTime FIRST_APPOINTMENT_DAY = LocalDateTime.of(2025, 1, 1, 8, 0);
+    /** The appointments of a day are on the quarter hour, from 8:00 to 17:45. */
+    private static final int APPOINTMENT_SLOTS_PER_DAY = 40;
+    private static final int APPOINTMENT_SLOT_MINUTES = 15;
+
+    private static final String[] FIRST_NAMES = {"Charlotte", "David", "Irfan", "Roy", "Alex", "Bernice", "Wei Ming",
+        "Siti", "Rajesh", "Mei Ling", "Ahmad", "Priya", "Jun Jie", "Nurul", "Kumar", "Hui Min"};
+    private static final String[] LAST_NAMES = {"Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Yeoh", "Tan", "Lim",
+        "Ng", "Rahman", "Pillai", "Chua", "Goh", "Abdullah", "Wong", "Teo", "Krishnan"};
+    private static final String[] STREETS = {"Ang Mo Kio Street 74", "Serangoon Gardens Street 26",
+        "Tampines Street 20", "Aljunied Street 85", "Jurong West Ave 6", "Clementi Ave 2", "Bedok North Road"};
+    private static final String[] ALLERGIES = {"Peanuts", "Shellfish", "Dust", "Gluten", "Penicillin", "Pollen",
+        "None"};
+    private static final String[] CONDITIONS = {"Asthma", "Diabetes", "Hypertension", "Eczema", "None"};
+    private static final String[] INSURANCES = {"HealthShield", "MediSave", "GreatCare", "LifeProtect", "MediShield"};
+    private static final String[] RELATIONSHIPS = {"Father", "Mother", "Spouse", "Sibling", "Child", "Cousin"};
+
+    /**
+     * Returns {@code count} distinct synthetic patients, generated from {@link #DEFAULT_SEED}.
+     */
+    public static List<Person> getSyntheticPersons(int count) {
+        return getSyntheticPersons(count, DEFAULT_SEED);
+    }
+
+    /**
+     * Returns {@code count} distinct synthetic patients, generated from {@code seed}.
+     * The returned list is modifiable.
+     */
+    public static List<Person> getSyntheticPersons(int count, long seed) {
+        Random random = new Random(seed);
+        List<Person> persons = new ArrayList<>(count);
+        for (int id = 0; id < count; id++) {
+            persons.add(getSyntheticPerson(id, random));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an address book of {@code count} synthetic patients, generated from {@link #DEFAULT_SEED}.
+     */
+    public static AddressBook getSyntheticAddressBook(int count) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(getSyntheticPersons(count));
+        return addressBook;
+    }
+
+    /**
+     * Returns the synthetic patient numbered {@code id}, which is unique among the patients of different ids.
+     * The name, phone and email are derived from {@code id} alone, and the other fields are drawn from {@code random}.
+     */
+    public static Person getSyntheticPerson(int id, Random random) {
+        String firstName = pick(FIRST_NAMES, random);
+        String lastName = pick(LAST_NAMES, random);
+        // the number keeps names distinct, while the words in them are shared as in a real patient list
+        Name name = new Name(firstName + " " + lastName + " " + id);
+        Phone phone = new Phone(String.valueOf(80000000 + id));
+        Email email = new Email("patient" + id + "@example.com");
+        Address address = new Address("Blk " + (id % 999 + 1) + " " + pick(STREETS, random) + ", #"
+                + (random.nextInt(20) + 1) + "-" + (random.nextInt(90) + 10));
+
+        return new Person(name, phone, email, address,
+                getTagSet(pick(ALLERGIES, random)), getTagSet(pick(CONDITIONS, random)),
+                getTagSet(pick(INSURANCES, random)), getAppointment(random),
+                new EmergencyPerson(new Name(pick(FIRST_NAMES, random) + " " + lastName),
+                        new Phone(String.valueOf(90000000 + random.nextInt(10000000))),
+                        new Relationship(pick(RELATIONSHIPS, random))));
+    }
+
+    private static Appointment getAppointment(Random random) {
+        if (random.nextInt(4) >= APPOINTMENT_QUARTERS) {
+            return new Appointment();
+        }
+        long firstMinute = FIRST_APPOINTMENT_DAY.toEpochSecond(ZoneOffset.UTC) / 60;
+        long minute = firstMinute + random.nextInt(APPOINTMENT_DAYS) * 24L * 60
+                + random.nextInt(APPOINTMENT_SLOTS_PER_DAY) * (long) APPOINTMENT_SLOT_MINUTES;
+        return new Appointment(DateTime.ofEpochMinute(minute), "");
+    }
+
+    private static String pick(String[] choices, Random random) {
+        return choices[random.nextInt(choices.length)];
+    }
+}
@@ -9,6 +9,7 @@ import javafx.application.Application;
 import javafx.scene.text.Font;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
@@ -26,8 +27,9 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
 import seedu.address.storage.ArchivedBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
-import seedu.address.storage.JsonArchivedBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
+import seedu.address.storage.JournalArchivedBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -65,9 +67,12 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        ArchivedBookStorage archivedBookStorage = new JsonArchivedBookStorage(userPrefs.getArchivedBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage, archivedBookStorage);
+        AddressBookStorage addressBookStorage = userPrefs.getAddressBookFileFormat() == DataFileFormat.BINARY
+                ? new BinaryAddressBookStorage(userPrefs.getAddressBookFilePath())
+                : new JournalAddressBookStorage(userPrefs.getAddressBookFilePath());
+        ArchivedBookStorage archivedBookStorage =
+                new JournalArchivedBookStorage(userPrefs.getArchivedBookFilePath());
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, archivedBookStorage, true);
 
         model = initModelManager(storage, userPrefs);
 
@@ -200,5 +205,23 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.warning("Failed to save data in the background, saving it again " + StringUtil.getDetails(e));
+            saveBooks();
+        }
+    }
+
+    /**
+     * Saves both books before returning, so that a change whose background save failed is not lost on exit.
+     */
+    private void saveBooks() {
+        try {
+            storage.saveAddressBook(model.getAddressBook(), storage.getAddressBookFilePath());
+            storage.saveArchivedContacts(model.getArchivedBook(), storage.getArchivedContactsFilePath());
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
     }
 }
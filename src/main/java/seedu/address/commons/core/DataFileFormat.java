@@ -0,0 +1,11 @@
+package seedu.address.commons.core;
+
+/**
+ * The formats in which the address book data file can be stored.
+ */
+public enum DataFileFormat {
+    /** Human-readable JSON, with changes between snapshots appended to a journal. */
+    JSON,
+    /** Compact binary, which is smaller and faster to load. */
+    BINARY
+}
@@ -0,0 +1,161 @@
+package seedu.address.commons.core.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents a selection of items in a displayed list, either by their indexes, such as {@code 1,4,7-20}, or as
+ * every item shown.
+ *
+ * The selected indexes are held as sorted, non-overlapping ranges rather than one by one, so that a selection such as
+ * {@code 1-100000} takes constant space and can be checked against the size of a list in constant time.
+ */
+public class IndexSelection {
+
+    /** The selection as it is entered by the user to select every item shown. */
+    public static final String ALL_SHOWN = "all shown";
+
+    private static final IndexSelection ALL_SHOWN_SELECTION = new IndexSelection(null);
+
+    /** The selected ranges of zero-based indexes as pairs of first and last index, or null if all are selected. */
+    private final int[][] ranges;
+
+    private IndexSelection(int[][] ranges) {
+        this.ranges = ranges;
+    }
+
+    /**
+     * Returns a selection of the item at {@code index} alone.
+     */
+    public static IndexSelection of(Index index) {
+        requireNonNull(index);
+        return ofRange(index, index);
+    }
+
+    /**
+     * Returns a selection of the items from {@code first} to {@code last}, both inclusive.
+     *
+     * @throws IllegalArgumentException if {@code last} is before {@code first}.
+     */
+    public static IndexSelection ofRange(Index first, Index last) {
+        requireNonNull(first);
+        requireNonNull(last);
+        if (last.getZeroBased() < first.getZeroBased()) {
+            throw new IllegalArgumentException("The last index of a range must not be before the first");
+        }
+        return new IndexSelection(new int[][] {{first.getZeroBased(), last.getZeroBased()}});
+    }
+
+    /**
+     * Returns a selection of every item shown.
+     */
+    public static IndexSelection allShown() {
+        return ALL_SHOWN_SELECTION;
+    }
+
+    public boolean isAllShown() {
+        return ranges == null;
+    }
+
+    /**
+     * Returns a selection of the items in this selection or in {@code other}.
+     */
+    public IndexSelection union(IndexSelection other) {
+        requireNonNull(other);
+        if (isAllShown() || other.isAllShown()) {
+            return ALL_SHOWN_SELECTION;
+        }
+
+        int[][] combined = Arrays.copyOf(ranges, ranges.length + other.ranges.length);
+        System.arraycopy(other.ranges, 0, combined, ranges.length, other.ranges.length);
+        Arrays.sort(combined, Comparator.comparingInt(range -> range[0]));
+
+        // overlapping and adjacent ranges are merged, so that every index is selected once
+        List<int[]> merged = new ArrayList<>();
+        for (int[] range : combined) {
+            int[] previous = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (previous != null && range[0] <= previous[1] + 1) {
+                merged.set(merged.size() - 1, new int[] {previous[0], Math.max(previous[1], range[1])});
+            } else {
+                merged.add(range);
+            }
+        }
+        return new IndexSelection(merged.toArray(new int[0][]));
+    }
+
+    /**
+     * Returns true if every selected index is within a list of {@code size} items.
+     */
+    public boolean isWithin(int size) {
+        return isAllShown() || ranges[ranges.length - 1][1] < size;
+    }
+
+    /**
+     * Returns the selected items of {@code items}, in the order they are listed.
+     * The returned list is a copy, so it is not affected by later changes to {@code items}.
+     *
+     * @throws IndexOutOfBoundsException if the selection is not within {@code items}.
+     */
+    public <T> List<T> selectFrom(List<T> items) {
+        requireNonNull(items);
+        if (!isWithin(items.size())) {
+            throw new IndexOutOfBoundsException("Selection " + this + " is not within " + items.size() + " items");
+        }
+        if (isAllShown()) {
+            return new ArrayList<>(items);
+        }
+
+        List<T> selected = new ArrayList<>();
+        for (int[] range : ranges) {
+            selected.addAll(items.subList(range[0], range[1] + 1));
+        }
+        return selected;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IndexSelection otherSelection)) {
+            return false;
+        }
+
+        return Arrays.deepEquals(ranges, otherSelection.ranges);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.deepHashCode(ranges);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("selection", getDescription()).toString();
+    }
+
+    /**
+     * Returns this selection as it is entered by the user, with one-based indexes, e.g. {@code 1,4,7-20}.
+     */
+    public String getDescription() {
+        if (isAllShown()) {
+            return ALL_SHOWN;
+        }
+
+        List<String> parts = new ArrayList<>();
+        for (int[] range : ranges) {
+            parts.add(range[0] == range[1]
+                    ? String.valueOf(range[0] + 1)
+                    : (range[0] + 1) + "-" + (range[1] + 1));
+        }
+        return String.join(",", parts);
+    }
+}
@@ -1,18 +1,39 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    public static final String BACKUP_FILE_SUFFIX = ".bak";
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private static final Logger logger = LogsCenter.getLogger(FileUtil.class);
     private static final String CHARSET = "UTF-8";
 
+    /**
+     * Represents an operation that writes the contents of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
     }
@@ -75,9 +96,95 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The file is replaced atomically, so it is never left partially written.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        replaceAtomically(file, false, out -> out.write(bytes));
+    }
+
+    /**
+     * Returns the path of the backup kept by {@link #replaceAtomically(Path, boolean, ContentWriter)} for
+     * {@code file}.
+     */
+    public static Path getBackupFilePath(Path file) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX);
+    }
+
+    /**
+     * Replaces the contents of {@code file} with what {@code writer} writes, creating the file and its missing
+     * parent directories if needed.
+     *
+     * The contents are written to a temporary file in the same directory and forced to disk before the temporary
+     * file is renamed over {@code file} in a single step, so a crash leaves either the old or the new contents in
+     * place. If {@code isBackupKept} is true, the replaced file is kept at {@link #getBackupFilePath(Path)}, and
+     * only the previous generation is kept. The backup is linked or copied from {@code file} rather than moved, so
+     * {@code file} exists at every moment of the replacement.
+     *
+     * @throws IOException if there was any problem writing the file, in which case {@code file} is unchanged.
+     */
+    public static void replaceAtomically(Path file, boolean isBackupKept, ContentWriter writer) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+                writer.writeTo(out);
+            }
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+
+            if (isBackupKept && isFileExists(file)) {
+                keepBackup(file);
+            }
+            move(tempFile, file);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        syncDirectory(file.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Replaces the backup of {@code file} with the current contents of {@code file}, which is left in place.
+     */
+    private static void keepBackup(Path file) throws IOException {
+        Path backupFile = getBackupFilePath(file);
+        Path tempBackupFile = backupFile.resolveSibling(backupFile.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            Files.deleteIfExists(tempBackupFile);
+            try {
+                Files.createLink(tempBackupFile, file);
+            } catch (IOException | UnsupportedOperationException e) {
+                // not every file system supports hard links
+                Files.copy(file, tempBackupFile);
+                try (FileChannel channel = FileChannel.open(tempBackupFile, StandardOpenOption.WRITE)) {
+                    channel.force(true);
+                }
+            }
+            move(tempBackupFile, backupFile);
+        } finally {
+            Files.deleteIfExists(tempBackupFile);
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException amnse) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the renames in {@code directory} to disk, on platforms that allow directories to be opened.
+     */
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ioe) {
+            logger.fine("Unable to sync directory " + directory + ": " + ioe);
+        }
     }
 
 }
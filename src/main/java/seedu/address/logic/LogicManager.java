@@ -12,6 +12,7 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FileAccess;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListArchiveCommand;
@@ -37,16 +38,24 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions.";
 
+    public static final String MESSAGE_BACKGROUND_SAVE_FAILED =
+            "Warning: an earlier change was not saved and is being saved again. %s";
+
     public static final String MESSAGE_COMMAND_RESTRICTED =
             "The %s command is restricted in %s mode.";
 
+    private static final long UNSAVED_MODIFICATION_COUNT = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
     private final Model model;
     private final Storage storage;
+    private final FileAccess fileAccess;
     private final AddressBookParser addressBookParser;
 
     private Optional<Command> pendingCommand = Optional.empty();
     private boolean isArchiveMode = false;
+    private long savedAddressBookModificationCount;
+    private long savedArchivedBookModificationCount;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -57,7 +66,11 @@ public class LogicManager implements Logic {
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
+        this.fileAccess = new StorageFileAccess(storage);
         addressBookParser = new AddressBookParser(model);
+        // the initial data was read from storage, or can be regenerated, so there is nothing to save yet
+        savedAddressBookModificationCount = model.getAddressBookModificationCount();
+        savedArchivedBookModificationCount = model.getArchivedBookModificationCount();
     }
 
     /**
@@ -86,8 +99,7 @@ public class LogicManager implements Logic {
             pendingCommand = Optional.of(command);
         }
 
-        saveDataSafely();
-        return commandResult;
+        return saveDataSafely(commandResult);
     }
 
     /**
@@ -130,14 +142,14 @@ public class LogicManager implements Logic {
     }
 
     /**
-     * Executes the given Command object and validates the result.
+     * Executes the given Command object, carrying out any files it asks to read or write, and validates the result.
      *
      * @param command The Command object to execute.
      * @return The result of executing the command.
      * @throws CommandException If an error occurs during command execution.
      */
     private CommandResult executeAndValidateCommand(Command command) throws CommandException {
-        CommandResult commandResult = command.execute(model);
+        CommandResult commandResult = command.execute(model).carryOutFileRequest(model, fileAccess);
         if (commandResult == null) {
             throw new AssertionError("Command execution returned null result.");
         }
@@ -146,10 +158,13 @@ public class LogicManager implements Logic {
 
     /**
      * Attempts to save data and logs any exceptions that occur.
+     *
+     * @param commandResult The result of the executed command.
+     * @return The result, with any failure to save an earlier change reported in its feedback.
      */
-    private void saveDataSafely() throws CommandException {
+    private CommandResult saveDataSafely(CommandResult commandResult) throws CommandException {
         try {
-            saveData();
+            return saveData(commandResult);
         } catch (CommandException e) {
             logger.severe("Error saving data: " + e.getMessage());
             throw e;
@@ -180,9 +195,8 @@ public class LogicManager implements Logic {
         if (userInput.equalsIgnoreCase("y")) {
             Command confirmedCommand = pendingCommand.get();
             pendingCommand = Optional.empty();
-            CommandResult result = confirmedCommand.execute(model);
-            saveData();
-            return result;
+            CommandResult result = executeAndValidateCommand(confirmedCommand);
+            return saveData(result);
         }
         pendingCommand = Optional.empty();
         return new CommandResult("Command cancelled");
@@ -190,18 +204,56 @@ public class LogicManager implements Logic {
 
     /**
      * Saves application data to storage.
+     * Each book is only saved if it has been changed since it was last saved, or if an earlier save of it in the
+     * background failed, even when the command did not change anything.
      *
+     * @param commandResult The result of the command that was executed.
+     * @return The result, with any failure to save an earlier change in the background reported in its feedback.
      * @throws CommandException If there is an issue saving data.
      */
-    private void saveData() throws CommandException {
+    private CommandResult saveData(CommandResult commandResult) throws CommandException {
+        Optional<String> backgroundSaveFailure = Optional.empty();
+        try {
+            storage.checkBackgroundSaves();
+        } catch (IOException ioe) {
+            logger.warning("Saving again after an earlier save failed: " + ioe.getMessage());
+            markBooksUnsaved();
+            backgroundSaveFailure = Optional.of(ioe.getMessage());
+        }
+
         try {
-            storage.saveAddressBook(model.getAddressBook());
-            storage.saveArchivedContacts(model.getArchivedBook());
+            long addressBookModificationCount = model.getAddressBookModificationCount();
+            if (addressBookModificationCount != savedAddressBookModificationCount) {
+                storage.saveAddressBook(model.getAddressBook());
+                savedAddressBookModificationCount = addressBookModificationCount;
+            }
+
+            long archivedBookModificationCount = model.getArchivedBookModificationCount();
+            if (archivedBookModificationCount != savedArchivedBookModificationCount) {
+                storage.saveArchivedContacts(model.getArchivedBook());
+                savedArchivedBookModificationCount = archivedBookModificationCount;
+            }
         } catch (AccessDeniedException e) {
+            markBooksUnsaved();
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
+            markBooksUnsaved();
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
+        return backgroundSaveFailure
+                .map(failure -> commandResult.withFeedbackAppended(
+                        String.format(MESSAGE_BACKGROUND_SAVE_FAILED, failure)))
+                .orElse(commandResult);
+    }
+
+    /**
+     * Ensures that both books are saved again with the next command.
+     * The failure may have come from saving an earlier change in the background, in which case it is not known
+     * which book was not saved.
+     */
+    private void markBooksUnsaved() {
+        savedAddressBookModificationCount = UNSAVED_MODIFICATION_COUNT;
+        savedArchivedBookModificationCount = UNSAVED_MODIFICATION_COUNT;
     }
 
     /**
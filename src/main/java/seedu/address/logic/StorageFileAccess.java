@@ -0,0 +1,54 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.ObjIntConsumer;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.commands.FileAccess;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.storage.Storage;
+
+/**
+ * Gives commands access to files through {@code Storage}, as the data files are saved.
+ */
+public class StorageFileAccess implements FileAccess {
+
+    private final Storage storage;
+
+    /**
+     * Creates a {@code StorageFileAccess} that reads and writes files through {@code storage}.
+     */
+    public StorageFileAccess(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    @Override
+    public DataFileFormat convertAddressBook(Path source, Path target) throws IOException, DataLoadingException {
+        return storage.convertAddressBook(source, target);
+    }
+
+    @Override
+    public void saveAddressBookAs(ReadOnlyAddressBook addressBook, DataFileFormat format, Path filePath)
+            throws IOException {
+        storage.saveAddressBookAs(addressBook, format, filePath);
+    }
+
+    @Override
+    public void readCsvPersons(Path filePath, ObjIntConsumer<Person> personHandler,
+            ObjIntConsumer<String> errorHandler) throws IOException, IllegalValueException {
+        storage.readCsvPersons(filePath, personHandler, errorHandler);
+    }
+
+    @Override
+    public void writeCsvPersons(Path filePath, List<Person> persons) throws IOException {
+        storage.writeCsvPersons(filePath, persons);
+    }
+}
@@ -53,7 +53,6 @@ public class AddCommand extends Command {
         if (model.hasPerson(toAdd)) {
             throw new CommandException(MESSAGE_DUPLICATE_PERSON);
         }
-        model.setLastCommandArchiveRelated(false);
 
         model.addPerson(toAdd);
         return new CommandResult(String.format(MESSAGE_SUCCESS,
@@ -0,0 +1,93 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.AppointmentInRangePredicate;
+import seedu.address.model.person.DateTime;
+import seedu.address.model.person.Person;
+
+/**
+ * Lists the persons with appointments on a day or range of days, in order of their appointments.
+ * The appointments are read from the appointment index, so the address book itself is neither reordered nor saved.
+ */
+public class AgendaCommand extends Command {
+
+    public static final String COMMAND_WORD = "agenda";
+
+    public static final String WEEK_KEYWORD = "week";
+    public static final String TODAY_KEYWORD = "today";
+    public static final String TOMORROW_KEYWORD = "tomorrow";
+    public static final String DATE_RANGE_SEPARATOR = "..";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all appointments on a day, in a week or in "
+            + "a range of days, in time order.\n"
+            + "Parameters: [" + TODAY_KEYWORD + "|" + TOMORROW_KEYWORD + "|DD-MM-YYYY|DD-MM-YYYY"
+            + DATE_RANGE_SEPARATOR + "DD-MM-YYYY] or " + WEEK_KEYWORD + " [DD-MM-YYYY]\n"
+            + "Example: " + COMMAND_WORD + " " + TOMORROW_KEYWORD + "\n"
+            + "Example: " + COMMAND_WORD + " " + WEEK_KEYWORD + " 20-10-2025";
+
+    public static final String MESSAGE_SUCCESS = "%1$d appointments from %2$s to %3$s";
+    public static final String MESSAGE_MORE_APPOINTMENTS = "... and %1$d more";
+
+    /** The number of appointments that are listed in the result message, as the rest are in the person list. */
+    public static final int MAX_LISTED_APPOINTMENTS = 50;
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    /**
+     * Creates an {@code AgendaCommand} for the appointments from {@code startDate} to {@code endDate}, inclusive.
+     */
+    public AgendaCommand(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.setArchiveMode(false);
+        model.updateFilteredPersonList(
+                new AppointmentInRangePredicate(startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay()));
+
+        List<Person> persons = model.getFilteredPersonList();
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, persons.size(),
+                startDate.format(DateTime.DATE_FORMATTER), endDate.format(DateTime.DATE_FORMATTER)));
+        for (Person person : persons.subList(0, Math.min(persons.size(), MAX_LISTED_APPOINTMENTS))) {
+            message.append("\n").append(person.getAppointment()).append("  ").append(person.getName())
+                    .append(", ").append(person.getPhone());
+        }
+        if (persons.size() > MAX_LISTED_APPOINTMENTS) {
+            message.append("\n").append(String.format(MESSAGE_MORE_APPOINTMENTS,
+                    persons.size() - MAX_LISTED_APPOINTMENTS));
+        }
+        return new CommandResult(message.toString(), CommandResult.ListType.NORMAL);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AgendaCommand)) {
+            return false;
+        }
+
+        AgendaCommand otherCommand = (AgendaCommand) other;
+        return startDate.equals(otherCommand.startDate) && endDate.equals(otherCommand.endDate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("startDate", startDate).add("endDate", endDate).toString();
+    }
+}
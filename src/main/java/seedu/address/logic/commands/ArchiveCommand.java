@@ -2,48 +2,86 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+
+import seedu.address.commons.core.index.IndexSelection;
+import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
 
 /**
- * Represents a command to archive a specific contact in the address book.
+ * Represents a command to archive specific contacts in the address book.
  */
 public class ArchiveCommand extends Command {
 
     public static final String COMMAND_WORD = "archive";
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Archives the specified contact. \n"
-        + "Parameters: INDEX (must be a positive integer)\n"
-        + "Example: " + COMMAND_WORD + " 1";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Archives the specified contacts. \n"
+        + "Parameters: INDEXES (positive integers or ranges of them, separated by commas)"
+        + " or " + IndexSelection.ALL_SHOWN + "\n"
+        + "Example: " + COMMAND_WORD + " 1, " + COMMAND_WORD + " 1,4,7-20";
     public static final String MESSAGE_ARCHIVE_SUCCESS = "Archived Patient : %1$s is now in archive list! \n"
         + "Use 'listarchive' to see archive list.";
+    public static final String MESSAGE_ARCHIVE_MULTIPLE_SUCCESS = "Archived %1$d patients! \n"
+        + "Use 'listarchive' to see archive list.";
     public static final String MESSAGE_PERSON_NOT_FOUND = "This contact does not exist.";
-    public final int targetIndex;
+
+    private final IndexSelection targetIndexes;
 
     /**
-     * Construct an ArchiveCommand with the specified index.
+     * Construct an ArchiveCommand with the specified indexes.
      *
-     * @param index the index of the contact ot archive
+     * @param targetIndexes the indexes of the contacts to archive
      */
-    public ArchiveCommand(int index) {
-        this.targetIndex = index;
+    public ArchiveCommand(IndexSelection targetIndexes) {
+        requireNonNull(targetIndexes);
+        this.targetIndexes = targetIndexes;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        if (targetIndex < 0 || targetIndex >= model.getFilteredPersonList().size()) {
+        List<Person> lastShownList = model.getFilteredPersonList();
+        if (!targetIndexes.isWithin(lastShownList.size())) {
             throw new CommandException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
             ArchiveCommand.MESSAGE_USAGE));
         }
 
-        Person personToArchive = model.getFilteredPersonList().get(targetIndex);
+        List<Person> personsToArchive = targetIndexes.selectFrom(lastShownList);
+        if (personsToArchive.isEmpty()) {
+            throw new CommandException(Messages.MESSAGE_NO_PERSONS_SHOWN);
+        }
+
+        // archived as one change, so that a single undo restores every person
+        model.batch(batchModel -> batchModel.archivePersons(personsToArchive));
 
-        model.archivePerson(personToArchive);
-        model.setLastCommandArchiveRelated(true);
+        if (personsToArchive.size() == 1) {
+            return new CommandResult(String.format(MESSAGE_ARCHIVE_SUCCESS,
+                    Messages.showName(personsToArchive.get(0))));
+        }
+        return new CommandResult(String.format(MESSAGE_ARCHIVE_MULTIPLE_SUCCESS, personsToArchive.size()));
+    }
 
-        return new CommandResult(String.format(MESSAGE_ARCHIVE_SUCCESS, Messages.showName(personToArchive)));
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ArchiveCommand otherArchiveCommand)) {
+            return false;
+        }
+
+        return targetIndexes.equals(otherArchiveCommand.targetIndexes);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetIndexes", targetIndexes)
+                .toString();
     }
 }
@@ -3,8 +3,11 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
 
 /**
  * Represents the result of a command execution.
@@ -28,6 +31,9 @@ public class CommandResult {
 
     private final ListType listType;
 
+    /** Files to read or write before the result is shown, which give the actual result. */
+    private final Optional<FileRequest> fileRequest;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
@@ -37,6 +43,7 @@ public class CommandResult {
         this.exit = exit;
         this.requiresConfirmation = requiresConfirmation;
         this.listType = ListType.NORMAL;
+        this.fileRequest = Optional.empty();
     }
 
     /**
@@ -49,6 +56,7 @@ public class CommandResult {
         this.showHelp = false;
         this.exit = false;
         this.requiresConfirmation = false;
+        this.fileRequest = Optional.empty();
     }
 
     /**
@@ -59,6 +67,46 @@ public class CommandResult {
         this(feedbackToUser, false, false, false);
     }
 
+    /**
+     * Constructs a {@code CommandResult} whose actual result is given by carrying out {@code fileRequest}.
+     */
+    public CommandResult(FileRequest fileRequest) {
+        this("", false, false, false, ListType.NORMAL, Optional.of(requireNonNull(fileRequest)));
+    }
+
+    private CommandResult(String feedbackToUser, boolean showHelp, boolean exit, boolean requiresConfirmation,
+            ListType listType, Optional<FileRequest> fileRequest) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = showHelp;
+        this.exit = exit;
+        this.requiresConfirmation = requiresConfirmation;
+        this.listType = listType;
+        this.fileRequest = fileRequest;
+    }
+
+    /**
+     * Returns a copy of this result with {@code message} shown to the user on a new line after the feedback.
+     */
+    public CommandResult withFeedbackAppended(String message) {
+        requireNonNull(message);
+        return new CommandResult(feedbackToUser + "\n" + message, showHelp, exit, requiresConfirmation, listType,
+                fileRequest);
+    }
+
+    /**
+     * Returns the result of carrying out the file request of this result with {@code fileAccess}, or this result if
+     * it has none.
+     *
+     * @throws CommandException if the files could not be read or written.
+     */
+    public CommandResult carryOutFileRequest(Model model, FileAccess fileAccess) throws CommandException {
+        requireNonNull(fileAccess);
+        if (fileRequest.isEmpty()) {
+            return this;
+        }
+        return fileRequest.get().carryOut(model, fileAccess);
+    }
+
     public String getFeedbackToUser() {
         return feedbackToUser;
     }
@@ -89,12 +137,13 @@ public class CommandResult {
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
                 && exit == otherCommandResult.exit
-                && requiresConfirmation == otherCommandResult.requiresConfirmation;
+                && requiresConfirmation == otherCommandResult.requiresConfirmation
+                && fileRequest.equals(otherCommandResult.fileRequest);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit, requiresConfirmation);
+        return Objects.hash(feedbackToUser, showHelp, exit, requiresConfirmation, fileRequest);
     }
 
     @Override
@@ -0,0 +1,110 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Converts an address book data file between the JSON and the binary format.
+ * The patients in the app are not changed; the converted file is used once the preferences point to it.
+ * Converting the data file in use converts the patients in the app, as saves of them may not have been written yet.
+ */
+public class ConvertCommand extends Command {
+
+    public static final String COMMAND_WORD = "convert";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Converts an address book data file from JSON to binary, or from binary to JSON, "
+            + "replacing the target file if it exists.\n"
+            + "Parameters: SOURCE_FILE_PATH TARGET_FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/addressbook.json data/addressbook.bin";
+
+    public static final String MESSAGE_SUCCESS = "Converted %1$s to %2$s file %3$s.";
+    public static final String MESSAGE_SAME_FILE = "The source and target files must be different.";
+    public static final String MESSAGE_TARGET_IN_USE =
+            "Cannot convert to %1$s, which is the data file in use. Convert to another file instead.";
+    public static final String MESSAGE_CONVERT_FAILED = "Could not convert %1$s: %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(ConvertCommand.class);
+
+    private final Path source;
+    private final Path target;
+
+    /**
+     * Creates a ConvertCommand to convert the data file at {@code source} and save it to {@code target}.
+     */
+    public ConvertCommand(Path source, Path target) {
+        requireAllNonNull(source, target);
+        this.source = source;
+        this.target = target;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (isSameFile(source, target)) {
+            throw new CommandException(MESSAGE_SAME_FILE);
+        }
+        // the data file in use is overwritten in its own format by the next save
+        if (isSameFile(target, model.getAddressBookFilePath())) {
+            throw new CommandException(String.format(MESSAGE_TARGET_IN_USE, target));
+        }
+
+        return new CommandResult(this::convert);
+    }
+
+    private CommandResult convert(Model model, FileAccess fileAccess) throws CommandException {
+        try {
+            DataFileFormat targetFormat;
+            if (isSameFile(source, model.getAddressBookFilePath())) {
+                // the data file in use may have saves still waiting to be written, so the patients in the app,
+                // which those saves are of, are converted instead
+                targetFormat = model.getUserPrefs().getAddressBookFileFormat() == DataFileFormat.BINARY
+                        ? DataFileFormat.JSON
+                        : DataFileFormat.BINARY;
+                fileAccess.saveAddressBookAs(model.getAddressBook(), targetFormat, target);
+            } else {
+                targetFormat = fileAccess.convertAddressBook(source, target);
+            }
+            return new CommandResult(String.format(MESSAGE_SUCCESS, source, targetFormat, target));
+        } catch (IOException | DataLoadingException e) {
+            logger.warning("Failed to convert " + source + ": " + e);
+            throw new CommandException(String.format(MESSAGE_CONVERT_FAILED, source, e.getMessage()), e);
+        }
+    }
+
+    private static boolean isSameFile(Path first, Path second) {
+        return first.toAbsolutePath().normalize().equals(second.toAbsolutePath().normalize());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ConvertCommand otherConvertCommand)) {
+            return false;
+        }
+
+        return source.equals(otherConvertCommand.source) && target.equals(otherConvertCommand.target);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("source", source)
+                .add("target", target)
+                .toString();
+    }
+}
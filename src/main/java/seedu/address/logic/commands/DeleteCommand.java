@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.List;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -12,21 +13,25 @@ import seedu.address.model.Model;
 import seedu.address.model.person.Person;
 
 /**
- * Deletes a patient identified using it's displayed index from the address book.
+ * Deletes the patients identified using their displayed indexes from the address book.
  */
 public class DeleteCommand extends Command {
 
     public static final String COMMAND_WORD = "delete";
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the patient identified by the index number used"
+            + ": Deletes the patients identified by the index numbers used"
             + " in the displayed patient list.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + "Parameters: INDEXES (positive integers or ranges of them, separated by commas)"
+            + " or " + IndexSelection.ALL_SHOWN + "\n"
+            + "Example: " + COMMAND_WORD + " 1, " + COMMAND_WORD + " 1,4,7-20";
 
     public static final String MESSAGE_DELETE_PERSON_SUCCESS = "Deleted Patient : %1$s is removed.";
+    public static final String MESSAGE_DELETE_PERSONS_SUCCESS = "Deleted %1$d patients.";
     public static final String MESSAGE_CONFIRMATION = "Are you sure you want to delete this patient? (y/n)";
+    public static final String MESSAGE_CONFIRMATION_MULTIPLE =
+            "Are you sure you want to delete these %1$d patients? (y/n)";
 
-    private final Index targetIndex;
+    private final IndexSelection targetIndexes;
     private boolean needsConfirmation;
 
     /**
@@ -35,11 +40,19 @@ public class DeleteCommand extends Command {
      * @param targetIndex the index of the person to delete
      */
     public DeleteCommand(Index targetIndex) {
-        requireNonNull(targetIndex);
+        this(IndexSelection.of(targetIndex));
+    }
 
-        this.targetIndex = targetIndex;
-        this.needsConfirmation = true;
+    /**
+     * Constructs a DeleteCommand to delete the persons at the specified indexes.
+     *
+     * @param targetIndexes the indexes of the persons to delete
+     */
+    public DeleteCommand(IndexSelection targetIndexes) {
+        requireNonNull(targetIndexes);
 
+        this.targetIndexes = targetIndexes;
+        this.needsConfirmation = true;
     }
 
     @Override
@@ -48,21 +61,32 @@ public class DeleteCommand extends Command {
         List<Person> lastShownList = model.getFilteredPersonList();
 
         // Use ParserUtil's message for consistency with parser
-        if (targetIndex.getZeroBased() >= lastShownList.size() || targetIndex.getZeroBased() < 0) {
+        if (!targetIndexes.isWithin(lastShownList.size())) {
             throw new CommandException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
             DeleteCommand.MESSAGE_USAGE));
         }
 
+        List<Person> personsToDelete = targetIndexes.selectFrom(lastShownList);
+        if (personsToDelete.isEmpty()) {
+            throw new CommandException(Messages.MESSAGE_NO_PERSONS_SHOWN);
+        }
+
         if (needsConfirmation) {
             needsConfirmation = false;
-            return new CommandResult(MESSAGE_CONFIRMATION, false, false, true);
+            String confirmation = personsToDelete.size() == 1
+                    ? MESSAGE_CONFIRMATION
+                    : String.format(MESSAGE_CONFIRMATION_MULTIPLE, personsToDelete.size());
+            return new CommandResult(confirmation, false, false, true);
         }
 
-        Person personToDelete = lastShownList.get(targetIndex.getZeroBased());
-        model.setLastCommandArchiveRelated(false);
-        model.deletePerson(personToDelete);
+        // deleted as one change, so that a single undo restores every person
+        model.deletePersons(personsToDelete);
 
-        return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.showName(personToDelete)));
+        if (personsToDelete.size() == 1) {
+            return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS,
+                    Messages.showName(personsToDelete.get(0))));
+        }
+        return new CommandResult(String.format(MESSAGE_DELETE_PERSONS_SUCCESS, personsToDelete.size()));
     }
 
     @Override
@@ -76,7 +100,7 @@ public class DeleteCommand extends Command {
             return false;
         }
 
-        return targetIndex.equals(otherDeleteCommand.targetIndex);
+        return targetIndexes.equals(otherDeleteCommand.targetIndexes);
     }
 
     public void setConfirmation(boolean needsConfirmation) {
@@ -86,7 +110,7 @@ public class DeleteCommand extends Command {
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("targetIndex", targetIndex)
+                .add("targetIndexes", targetIndexes)
                 .toString();
     }
 }
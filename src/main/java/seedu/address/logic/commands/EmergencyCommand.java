@@ -4,7 +4,6 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_RELATIONSHIP;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.List;
 
@@ -75,9 +74,7 @@ public class EmergencyCommand extends Command {
         EmergencyPerson newEmergencyContact = new EmergencyPerson(emergencyName, emergencyPhone, relationship);
         Person editedPerson = personToEdit.setEmergencyContact(newEmergencyContact);
 
-        model.setLastCommandArchiveRelated(false);
         model.setPerson(personToEdit, editedPerson);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(String.format(MESSAGE_EDIT_EMERGENCY_SUCCESS, editedPerson.getName()));
     }
 
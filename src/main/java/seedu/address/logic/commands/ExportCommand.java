@@ -0,0 +1,74 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes the patients in the displayed list to a CSV file, which can be read back with {@link ImportCommand}.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Writes the patients in the displayed patient list to a CSV file, replacing the file if it exists.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/patients.csv";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d patients to %2$s.";
+    public static final String MESSAGE_WRITE_FAILED = "Could not export to %1$s: %2$s";
+
+    private final Path filePath;
+
+    /**
+     * Creates an ExportCommand to write the displayed patients to the CSV file at {@code filePath}.
+     */
+    public ExportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        return new CommandResult(this::export);
+    }
+
+    private CommandResult export(Model model, FileAccess fileAccess) throws CommandException {
+        List<Person> personsToExport = model.getFilteredPersonList();
+        try {
+            fileAccess.writeCsvPersons(filePath, personsToExport);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_WRITE_FAILED, filePath, ioe.getMessage()), ioe);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, personsToExport.size(), filePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand otherExportCommand)) {
+            return false;
+        }
+
+        return filePath.equals(otherExportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.logic.commands;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.ObjIntConsumer;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * The files that commands can read and write, apart from the data files in use.
+ * Commands only see the model, so they ask for files through a {@link FileRequest}, which {@code LogicManager}
+ * carries out through storage once the command has been executed.
+ */
+public interface FileAccess {
+
+    /**
+     * Converts the address book data file at {@code source} to the other format, saves it to {@code target}, and
+     * returns the format it was converted to.
+     *
+     * @throws DataLoadingException if the address book at {@code source} could not be loaded.
+     * @throws IOException if {@code source} is not found, or there was any problem writing to {@code target}.
+     */
+    DataFileFormat convertAddressBook(Path source, Path target) throws IOException, DataLoadingException;
+
+    /**
+     * Saves {@code addressBook} in {@code format} to {@code filePath}, which must not be a data file in use.
+     *
+     * @throws IOException if {@code filePath} is a data file in use, or there was any problem writing to it.
+     */
+    void saveAddressBookAs(ReadOnlyAddressBook addressBook, DataFileFormat format, Path filePath) throws IOException;
+
+    /**
+     * Reads the persons in the CSV file at {@code filePath} in the order they are listed, passing each person with
+     * the line its row starts on to {@code personHandler}, and the error of each row that is not valid with its line
+     * to {@code errorHandler}.
+     *
+     * @throws IOException if the file could not be read.
+     * @throws IllegalValueException if the file is not a valid CSV file of persons.
+     */
+    void readCsvPersons(Path filePath, ObjIntConsumer<Person> personHandler, ObjIntConsumer<String> errorHandler)
+            throws IOException, IllegalValueException;
+
+    /**
+     * Writes {@code persons} to a CSV file at {@code filePath}, replacing the file if it exists.
+     *
+     * @throws IOException if {@code filePath} is a data file in use, or there was any problem writing to it.
+     */
+    void writeCsvPersons(Path filePath, List<Person> persons) throws IOException;
+}
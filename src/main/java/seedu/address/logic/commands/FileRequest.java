@@ -0,0 +1,18 @@
+package seedu.address.logic.commands;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Reads or writes files for a command once it has been executed, and returns the result of the command.
+ */
+@FunctionalInterface
+public interface FileRequest {
+
+    /**
+     * Carries out the request with {@code fileAccess}, applying any change to {@code model}.
+     *
+     * @throws CommandException if the files could not be read or written.
+     */
+    CommandResult carryOut(Model model, FileAccess fileAccess) throws CommandException;
+}
@@ -1,28 +1,51 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ALLERGY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_APPOINTMENT_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CONDITION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INSURANCE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+
+import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
-import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Keyword matching is case insensitive. With {@link #APPROXIMATE_FLAG}, words that start with a keyword or are
+ * likely misspellings of it also match, and the best matches are listed first.
+ * Alternatively, finds all persons matching a structured query of field clauses.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
+    public static final String APPROXIMATE_FLAG = "-f";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "With " + APPROXIMATE_FLAG + ", also finds partial and misspelled keywords, best matches first.\n"
+            + "Parameters: [" + APPROXIMATE_FLAG + "] KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " " + APPROXIMATE_FLAG + " alic jhon\n"
+            + "Alternatively, finds all persons matching clauses on their fields, combined with AND, OR, NOT and "
+            + "parentheses.\n"
+            + "Clauses: " + PREFIX_NAME + "NAME " + PREFIX_PHONE + "PHONE " + PREFIX_EMAIL + "EMAIL "
+            + PREFIX_ADDRESS + "ADDRESS " + PREFIX_ALLERGY + "ALLERGY " + PREFIX_CONDITION + "CONDITION "
+            + PREFIX_INSURANCE + "INSURANCE " + PREFIX_APPOINTMENT_DATE + "DD-MM-YYYY[..DD-MM-YYYY]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_ALLERGY + "Penicillin AND "
+            + PREFIX_APPOINTMENT_DATE + "20-10-2025..26-10-2025 NOT " + PREFIX_CONDITION + "Asthma";
 
-    private final NameContainsKeywordsPredicate predicate;
+    private final Predicate<Person> predicate;
 
-    public FindCommand(NameContainsKeywordsPredicate predicate) {
+    public FindCommand(Predicate<Person> predicate) {
         this.predicate = predicate;
     }
 
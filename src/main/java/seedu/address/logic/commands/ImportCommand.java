@@ -0,0 +1,110 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Adds the patients in a CSV file to the address book.
+ * Rows that are not valid, or whose patient is already in the address book, are skipped and reported, and the rest
+ * are added as a single change, which a single undo reverts.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Adds the patients in a CSV file, whose first line must be the header\n"
+            + "name,phone,email,address,allergies,conditions,insurances,appointment,"
+            + "emergency name,emergency phone,emergency relationship\n"
+            + "Tags of the same category are separated by ';'.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/patients.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d patients from %2$s.";
+    public static final String MESSAGE_ROWS_SKIPPED = "\n%1$d rows were skipped:";
+    public static final String MESSAGE_ROW_ERROR = "\nLine %1$d: %2$s";
+    public static final String MESSAGE_MORE_ROWS_SKIPPED = "\n... and %1$d more.";
+    public static final String MESSAGE_DUPLICATE_PERSON = "This patient already exists in HealthSync.";
+    public static final String MESSAGE_READ_FAILED = "Could not import %1$s: %2$s";
+
+    /** The number of skipped rows whose errors are shown, so that a badly formed file does not flood the output. */
+    static final int MAX_ERRORS_SHOWN = 10;
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to add the patients in the CSV file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        return new CommandResult(this::importPersons);
+    }
+
+    private CommandResult importPersons(Model model, FileAccess fileAccess) throws CommandException {
+        List<Person> importedPersons = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        // added as one change, so that the list is refreshed once and a single undo removes every patient, and a file
+        // that cannot be read to the end adds none
+        model.batch(batchModel -> {
+            try {
+                fileAccess.readCsvPersons(filePath, (person, lineNumber) -> {
+                    if (batchModel.hasPerson(person)) {
+                        // patients added from earlier rows are checked too
+                        errors.add(String.format(MESSAGE_ROW_ERROR, lineNumber, MESSAGE_DUPLICATE_PERSON));
+                    } else {
+                        batchModel.addPerson(person);
+                        importedPersons.add(person);
+                    }
+                }, (error, lineNumber) -> errors.add(String.format(MESSAGE_ROW_ERROR, lineNumber, error)));
+            } catch (IOException | IllegalValueException e) {
+                throw new CommandException(String.format(MESSAGE_READ_FAILED, filePath, e.getMessage()), e);
+            }
+        });
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, importedPersons.size(), filePath));
+        if (!errors.isEmpty()) {
+            message.append(String.format(MESSAGE_ROWS_SKIPPED, errors.size()));
+            errors.stream().limit(MAX_ERRORS_SHOWN).forEach(message::append);
+            if (errors.size() > MAX_ERRORS_SHOWN) {
+                message.append(String.format(MESSAGE_MORE_ROWS_SKIPPED, errors.size() - MAX_ERRORS_SHOWN));
+            }
+        }
+        return new CommandResult(message.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand otherImportCommand)) {
+            return false;
+        }
+
+        return filePath.equals(otherImportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
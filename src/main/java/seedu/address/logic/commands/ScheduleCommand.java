@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.List;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -12,17 +13,23 @@ import seedu.address.model.person.Appointment;
 import seedu.address.model.person.Person;
 
 /**
- * Represents a command to schedule an appointment for a person in the address book.
+ * Represents a command to schedule an appointment for one or more persons in the address book.
+ * Several persons are given back-to-back appointments, one {@link Appointment#CONFLICT_WINDOW_MINUTES} after another,
+ * in the order they are listed.
  */
 public class ScheduleCommand extends Command {
     public static final String COMMAND_WORD = "schedule";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Adds a schedule to the schedule list.\n"
-            + "Parameters: INDEX (must be a positive integer) "
-            + "DD-MM-YYYY HH:MM\n";
+            + "Parameters: INDEXES (positive integers or ranges of them, separated by commas, or "
+            + IndexSelection.ALL_SHOWN + ") "
+            + "DD-MM-YYYY HH:MM\n"
+            + "Several patients are given back-to-back appointments, "
+            + Appointment.CONFLICT_WINDOW_MINUTES + " minutes apart.\n";
 
     public static final String MESSAGE_SUCCESS = "New schedule added!";
+    public static final String MESSAGE_MULTIPLE_SUCCESS = "New schedules added for %1$d patients, from %2$s to %3$s!";
     public static final String MESSAGE_SHOW_SCHEDULE = "Show schedule";
     public static final String MESSAGE_INVALID_DATETIME =
             "The format should be schedule DD-MM-YYYY HH:MM. The date must be a valid date.";
@@ -31,7 +38,7 @@ public class ScheduleCommand extends Command {
     public static final String MESSAGE_DUPLICATE_APPOINTMENT = "This appointment already exists in the schedule";
     public static final String MESSAGE_INVALID_TIME = "Please enter a valid date and time";
 
-    private final Index index;
+    private final IndexSelection indexes;
     private Appointment appointment;
 
     /**
@@ -41,41 +48,60 @@ public class ScheduleCommand extends Command {
      * @param appointment The appointment date and time.
      */
     public ScheduleCommand(Index index, Appointment appointment) {
-        this.index = index;
+        this(IndexSelection.of(index), appointment);
+    }
+
+    /**
+     * Constructs a {@code ScheduleCommand} to schedule back-to-back appointments for the selected persons.
+     *
+     * @param indexes The indexes of the persons in the filtered person list.
+     * @param appointment The date and time of the first appointment.
+     */
+    public ScheduleCommand(IndexSelection indexes, Appointment appointment) {
+        this.indexes = indexes;
         this.appointment = appointment;
     }
 
     /**
-     * Executes the schedule command by adding an appointment to a selected person.
+     * Executes the schedule command by adding an appointment to each selected person.
+     * Every person is scheduled in a single batch, so if any appointment clashes, none of them are added.
      *
      * @param model The model which maintains the list of persons and appointments.
      * @return A CommandResult indicating the outcome of execution.
-     * @throws CommandException If the provided index is out of bounds.
+     * @throws CommandException If the provided indexes are out of bounds, or an appointment clashes.
      */
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        if (model.hasSchedule(appointment)) {
-            throw new CommandException(MESSAGE_DUPLICATE_APPOINTMENT);
-        }
-
         List<Person> lastShownList = model.getFilteredPersonList();
-        if (index.getZeroBased() >= lastShownList.size()) {
+        if (!indexes.isWithin(lastShownList.size())) {
             throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
         }
 
-        Person personToEdit = lastShownList.get(index.getZeroBased());
-        System.out.println(appointment);
-        System.out.println(index);
-
-        // Create an updated person instance with the new appointment
-        Person editedPerson = personToEdit.withAppointment(appointment);
+        List<Person> personsToSchedule = indexes.selectFrom(lastShownList);
+        if (personsToSchedule.isEmpty()) {
+            throw new CommandException(Messages.MESSAGE_NO_PERSONS_SHOWN);
+        }
 
-        // Update the model with the edited person
-        model.setLastCommandArchiveRelated(false);
-        model.setPerson(personToEdit, editedPerson);
+        model.batch(batchModel -> {
+            Appointment slot = appointment;
+            for (Person personToEdit : personsToSchedule) {
+                // earlier slots of this command are already in the model, so they are checked too
+                if (batchModel.hasSchedule(slot)) {
+                    throw new CommandException(MESSAGE_DUPLICATE_APPOINTMENT);
+                }
+                batchModel.setPerson(personToEdit, personToEdit.withAppointment(slot));
+                slot = slot.plusMinutes(Appointment.CONFLICT_WINDOW_MINUTES);
+            }
+        });
 
-        return new CommandResult(MESSAGE_SUCCESS);
+        if (personsToSchedule.size() == 1) {
+            return new CommandResult(MESSAGE_SUCCESS);
+        }
+        Appointment lastAppointment = appointment.plusMinutes(
+                (long) (personsToSchedule.size() - 1) * Appointment.CONFLICT_WINDOW_MINUTES);
+        return new CommandResult(String.format(MESSAGE_MULTIPLE_SUCCESS, personsToSchedule.size(),
+                appointment, lastAppointment));
     }
 }
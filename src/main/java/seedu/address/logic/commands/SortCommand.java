@@ -1,53 +1,61 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.Model;
+import seedu.address.model.person.SortKey;
 
 /**
- * Sorts all persons in the address book by the specified field.
+ * Sorts the listed persons by one or more fields. Only the list shown is sorted, so the order of the persons in the
+ * address book is unchanged and the sort is neither saved nor recorded for undo. The persons listed are unchanged.
  */
 public class SortCommand extends Command {
     public static final String COMMAND_WORD = "sort";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts all patients in the address book "
-          + "by the specified field.\n"
-          + "Parameters: FIELD (must be either \"name\" or \"appointment\")\n"
-          + "Example: " + COMMAND_WORD + " name";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts the listed patients "
+          + "by the specified fields, in order. Each field may be followed by \"" + SortKey.ASCENDING_KEYWORD
+          + "\" or \"" + SortKey.DESCENDING_KEYWORD + "\".\n"
+          + "Parameters: FIELD [" + SortKey.ASCENDING_KEYWORD + "|" + SortKey.DESCENDING_KEYWORD + "] "
+          + "[FIELD [" + SortKey.ASCENDING_KEYWORD + "|" + SortKey.DESCENDING_KEYWORD + "]]... "
+          + "(FIELD must be either \"name\" or \"appointment\")\n"
+          + "Example: " + COMMAND_WORD + " appointment " + SortKey.DESCENDING_KEYWORD + " name";
 
-    public static final String MESSAGE_SUCCESS = "Sorted all patients by %s!";
+    public static final String MESSAGE_SUCCESS = "Sorted the listed patients by %s!";
 
-    private final String sortField;
+    private final List<SortKey> sortKeys;
 
-    public SortCommand(String sortField) {
-        this.sortField = sortField;
+    /**
+     * Creates a SortCommand to sort the listed persons by each of {@code sortKeys} in turn.
+     */
+    public SortCommand(List<SortKey> sortKeys) {
+        requireNonNull(sortKeys);
+        this.sortKeys = List.copyOf(sortKeys);
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
 
-        switch (sortField.toLowerCase()) {
-        case "name":
-            model.sortPersonListByName();
-            break;
-        case "appointment":
-            model.sortPersonListByAppointment();
-            break;
-        default:
-            throw new AssertionError("Unknown sort field: " + sortField);
-        }
-
-        model.setLastCommandArchiveRelated(false);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, sortField));
+        model.updateSortedPersonList(SortKey.toComparator(sortKeys));
+        String description = sortKeys.stream().map(SortKey::getDescription).collect(Collectors.joining(", "));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, description));
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this
             || (other instanceof SortCommand
-            && sortField.equals(((SortCommand) other).sortField));
+            && sortKeys.equals(((SortCommand) other).sortKeys));
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("sortKeys", sortKeys)
+                .toString();
     }
 }
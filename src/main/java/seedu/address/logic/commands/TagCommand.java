@@ -5,12 +5,14 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_ALLERGY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CONDITION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_INSURANCE;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -19,32 +21,37 @@ import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
 
 /**
- * Command that manages adding, deleting, or editing tags for a person in HealthSync.
+ * Command that manages adding, deleting, or editing tags for one or more persons in HealthSync.
  * This command allows for the manipulation of tags such as allergies, conditions, and insurances
- * associated with a specific person in the HealthSync application.
+ * associated with specific persons in the HealthSync application.
  */
 public class TagCommand extends Command {
 
     public static final String COMMAND_WORD = "tag";
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Adds, deletes, or edits different types of tags to an existing patient in HealthSync.\n"
-            + "Parameters:\n"
-            + "  Adding tags: INDEX " + PREFIX_ALLERGY + "TAG " + PREFIX_CONDITION + "TAG " + PREFIX_INSURANCE + "TAG\n"
-            + "  Deleting a tag: INDEX td/TAG\n"
+            + "Parameters (INDEXES are positive integers or ranges of them, separated by commas, or "
+            + IndexSelection.ALL_SHOWN + "):\n"
+            + "  Adding tags: INDEXES " + PREFIX_ALLERGY + "TAG " + PREFIX_CONDITION + "TAG "
+            + PREFIX_INSURANCE + "TAG\n"
+            + "  Deleting a tag: INDEXES td/TAG\n"
             + "Example:\n"
             + "  " + COMMAND_WORD + " 1 " + PREFIX_ALLERGY + "Peanuts\n"
             + "  " + COMMAND_WORD + " 1 " + PREFIX_CONDITION + "Asthma\n"
             + "  " + COMMAND_WORD + " 1 " + PREFIX_INSURANCE + "Medisave\n"
-            + "  " + COMMAND_WORD + " 1 " + " td/Peanuts\n";
+            + "  " + COMMAND_WORD + " 1 " + " td/Peanuts\n"
+            + "  " + COMMAND_WORD + " 1,4,7-20 " + PREFIX_INSURANCE + "Medisave\n";
 
     public static final String MESSAGE_ADD_SUCCESS = "Tag(s) added to patient!\n"
         + "Updated Tag(s): %1$s";
     public static final String MESSAGE_DELETE_SUCCESS = "Tag deleted from patient!\n"
         + "Updated Tag(s): %1$s";
+    public static final String MESSAGE_ADD_MULTIPLE_SUCCESS = "Tag(s) added to %1$d patients!";
+    public static final String MESSAGE_DELETE_MULTIPLE_SUCCESS = "Tag deleted from %1$d patients!";
     public static final String MESSAGE_DUPLICATE_TAGS = "Some tags are already in the patient's tag list";
     public static final String MESSAGE_TAG_NOT_FOUND = "Tag not found in the patient's tag list";
 
-    private final Index targetIndex;
+    private final IndexSelection targetIndexes;
     private final Set<Tag> allergies;
     private final Set<Tag> conditions;
     private final Set<Tag> insurances;
@@ -53,20 +60,30 @@ public class TagCommand extends Command {
     /**
      * Constructs a TagCommand object to add, delete, or edit tags for a person at the specified index.
      *
-     * @param targetIndex The index of the person in the filtered person list to add, delete, or edit tags.
+     * @see #TagCommand(IndexSelection, Set, Set, Set, Set)
+     */
+    public TagCommand(Index targetIndex, Set<Tag> allergies, Set<Tag> conditions, Set<Tag> insurances,
+                      Set<Tag> tagsToDelete) {
+        this(IndexSelection.of(targetIndex), allergies, conditions, insurances, tagsToDelete);
+    }
+
+    /**
+     * Constructs a TagCommand object to add, delete, or edit tags for the persons at the specified indexes.
+     *
+     * @param targetIndexes The indexes of the persons in the filtered person list to add, delete, or edit tags.
      * @param allergies Set of allergy tags to be added to the person.
      * @param conditions Set of condition tags to be added to the person.
      * @param insurances Set of insurance tags to be added to the person.
      * @param tagsToDelete Set of tags to be deleted from the person.
      */
-    public TagCommand(Index targetIndex, Set<Tag> allergies, Set<Tag> conditions, Set<Tag> insurances,
+    public TagCommand(IndexSelection targetIndexes, Set<Tag> allergies, Set<Tag> conditions, Set<Tag> insurances,
                       Set<Tag> tagsToDelete) {
-        requireNonNull(targetIndex);
+        requireNonNull(targetIndexes);
         requireNonNull(allergies);
         requireNonNull(conditions);
         requireNonNull(insurances);
 
-        this.targetIndex = targetIndex;
+        this.targetIndexes = targetIndexes;
         this.allergies = allergies;
         this.conditions = conditions;
         this.insurances = insurances;
@@ -74,7 +91,8 @@ public class TagCommand extends Command {
     }
 
     /**
-     * Executes the TagCommand, which modifies the tags of a person as specified (add, delete, or edit).
+     * Executes the TagCommand, which modifies the tags of each selected person as specified (add, delete, or edit).
+     * Every person is changed in a single batch, so if any of them cannot be changed, none of them are.
      *
      * @param model The model of the application that contains the data.
      * @return A CommandResult containing the outcome message indicating success.
@@ -86,23 +104,45 @@ public class TagCommand extends Command {
 
         List<Person> lastShownList = model.getFilteredPersonList();
 
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+        if (!targetIndexes.isWithin(lastShownList.size())) {
             throw new CommandException("The person index is invalid.");
         }
 
-        Person personToTag = lastShownList.get(targetIndex.getZeroBased());
+        List<Person> personsToTag = targetIndexes.selectFrom(lastShownList);
+        if (personsToTag.isEmpty()) {
+            throw new CommandException(Messages.MESSAGE_NO_PERSONS_SHOWN);
+        }
         checkForCrossCategoryDuplicates();
 
+        List<Person> updatedPersons = new ArrayList<>();
+        model.batch(batchModel -> {
+            for (Person personToTag : personsToTag) {
+                updatedPersons.add(tag(batchModel, personToTag));
+            }
+        });
+
+        if (updatedPersons.size() > 1) {
+            return new CommandResult(String.format(
+                    tagsToDelete.isEmpty() ? MESSAGE_ADD_MULTIPLE_SUCCESS : MESSAGE_DELETE_MULTIPLE_SUCCESS,
+                    updatedPersons.size()));
+        }
+        return new CommandResult(String.format(tagsToDelete.isEmpty() ? MESSAGE_ADD_SUCCESS : MESSAGE_DELETE_SUCCESS,
+                Messages.showTag(updatedPersons.get(0))));
+    }
+
+    /**
+     * Adds or deletes the tags of this command for {@code personToTag} and returns the updated person.
+     */
+    private Person tag(Model model, Person personToTag) throws CommandException {
         if (!tagsToDelete.isEmpty()) {
             for (Tag tagToDelete : tagsToDelete) {
                 boolean tagFound = personToTag.getTags().stream().anyMatch(tagSet -> tagSet.contains(tagToDelete));
                 if (!tagFound) {
                     throw new CommandException(MESSAGE_TAG_NOT_FOUND);
                 }
-                model.setLastCommandArchiveRelated(false);
-                personToTag = model.deleteTagFromPerson(personToTag, Collections.singleton(tagToDelete));
             }
-            return new CommandResult(String.format(MESSAGE_DELETE_SUCCESS, Messages.showTag(personToTag)));
+            // delete every tag at once, so that undo restores all of them together
+            return model.deleteTagFromPerson(personToTag, tagsToDelete);
         }
         Set<Tag> allTags = mergeTags();
 
@@ -111,9 +151,7 @@ public class TagCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_TAGS);
         }
 
-        model.setLastCommandArchiveRelated(false);
-        Person updatedPerson = model.addTagsToPerson(personToTag, allergies, conditions, insurances);
-        return new CommandResult(String.format(MESSAGE_ADD_SUCCESS, Messages.showTag(updatedPerson)));
+        return model.addTagsToPerson(personToTag, allergies, conditions, insurances);
     }
 
     /**
@@ -173,7 +211,7 @@ public class TagCommand extends Command {
             return false;
         }
 
-        return targetIndex.equals(otherTagCommand.targetIndex)
+        return targetIndexes.equals(otherTagCommand.targetIndexes)
                 && allergies.equals(otherTagCommand.allergies)
                 && conditions.equals(otherTagCommand.conditions)
                 && insurances.equals(otherTagCommand.insurances);
@@ -187,7 +225,7 @@ public class TagCommand extends Command {
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("targetIndex", targetIndex)
+                .add("targetIndexes", targetIndexes)
                 .add("allergies", allergies)
                 .add("conditions", conditions)
                 .add("insurances", insurances)
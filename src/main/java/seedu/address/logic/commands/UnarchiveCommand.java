@@ -36,7 +36,6 @@ public class UnarchiveCommand extends Command {
 
         Person personToRestore = model.getFilteredArchivedPersonList().get(targetIndex - 1);
         model.unarchivePerson(personToRestore);
-        model.setLastCommandArchiveRelated(true);
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.showName(personToRestore)),
         CommandResult.ListType.ARCHIVE);
@@ -0,0 +1,90 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAdjusters;
+
+import seedu.address.logic.commands.AgendaCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.DateTime;
+
+/**
+ * Parses input arguments and creates a new AgendaCommand object
+ */
+public class AgendaCommandParser implements Parser<AgendaCommand> {
+
+    public static final String MESSAGE_INVALID_RANGE = "The start of the range cannot be after its end";
+
+    private final Clock clock;
+
+    public AgendaCommandParser() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates an {@code AgendaCommandParser} that resolves relative days, such as today, with {@code clock}.
+     */
+    AgendaCommandParser(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AgendaCommand
+     * and returns an AgendaCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public AgendaCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String[] words = args.trim().split("\\s+");
+        LocalDate today = LocalDate.now(clock);
+
+        if (words[0].equalsIgnoreCase(AgendaCommand.WEEK_KEYWORD)) {
+            if (words.length > 2) {
+                throw invalidFormat();
+            }
+            LocalDate day = words.length == 2 ? parseDate(words[1]) : today;
+            LocalDate monday = day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            return new AgendaCommand(monday, monday.plusDays(6));
+        }
+        if (words.length > 1) {
+            throw invalidFormat();
+        }
+
+        String range = words[0];
+        if (range.isEmpty() || range.equalsIgnoreCase(AgendaCommand.TODAY_KEYWORD)) {
+            return new AgendaCommand(today, today);
+        }
+        if (range.equalsIgnoreCase(AgendaCommand.TOMORROW_KEYWORD)) {
+            return new AgendaCommand(today.plusDays(1), today.plusDays(1));
+        }
+
+        int separatorIndex = range.indexOf(AgendaCommand.DATE_RANGE_SEPARATOR);
+        if (separatorIndex < 0) {
+            LocalDate day = parseDate(range);
+            return new AgendaCommand(day, day);
+        }
+        LocalDate startDate = parseDate(range.substring(0, separatorIndex));
+        LocalDate endDate = parseDate(range.substring(separatorIndex + AgendaCommand.DATE_RANGE_SEPARATOR.length()));
+        if (startDate.isAfter(endDate)) {
+            throw new ParseException(MESSAGE_INVALID_RANGE);
+        }
+        return new AgendaCommand(startDate, endDate);
+    }
+
+    private static LocalDate parseDate(String date) throws ParseException {
+        try {
+            return LocalDate.parse(date, DateTime.DATE_FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AgendaCommand.MESSAGE_USAGE), e);
+        }
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AgendaCommand.MESSAGE_USAGE));
+    }
+}
@@ -16,4 +16,5 @@ public class CliSyntax {
     public static final Prefix PREFIX_INSURANCE = new Prefix("ti/");
     public static final Prefix PREFIX_TAG_DELETE = new Prefix("td/");
     public static final Prefix PREFIX_TAG_EDIT = new Prefix("te/");
+    public static final Prefix PREFIX_APPOINTMENT_DATE = new Prefix("d/");
 }
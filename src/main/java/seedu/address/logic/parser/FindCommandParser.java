@@ -3,10 +3,13 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import java.util.Arrays;
+import java.util.List;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameResemblesKeywordsPredicate;
+import seedu.address.model.person.query.PersonQueryPredicate;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -25,9 +28,20 @@ public class FindCommandParser implements Parser<FindCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        if (PersonQueryParser.isQuery(trimmedArgs)) {
+            return new FindCommand(new PersonQueryPredicate(PersonQueryParser.parse(trimmedArgs)));
+        }
+
+        List<String> nameKeywords = Arrays.asList(trimmedArgs.split("\\s+"));
+        if (!nameKeywords.get(0).equals(FindCommand.APPROXIMATE_FLAG)) {
+            return new FindCommand(new NameContainsKeywordsPredicate(nameKeywords));
+        }
 
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        if (nameKeywords.size() == 1) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        return new FindCommand(new NameResemblesKeywordsPredicate(nameKeywords.subList(1, nameKeywords.size())));
     }
 
 }
@@ -2,11 +2,15 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
@@ -23,6 +27,9 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_INDEX_RANGE =
+            "Index range %1$s must be two indexes joined by '-', with the smaller one first.";
+    public static final String MESSAGE_INVALID_FILE_PATH = "File path is not a valid path.";
     public static final String MESSAGE_INVALID_PHONE = "Phone numbers must be exactly 8 digits "
             + "and start with 6, 8 or 9";
     public static final String MESSAGE_INVALID_EMAIL = "Email addresses must not contain spaces.";
@@ -41,6 +48,56 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code selection} into an {@code IndexSelection} and returns it. The selection is either
+     * {@link IndexSelection#ALL_SHOWN}, or a comma-separated list of one-based indexes and ranges of them, such as
+     * {@code 1,4,7-20}. Whitespace around the indexes is ignored.
+     *
+     * @throws ParseException if any index or range in the selection is invalid.
+     */
+    public static IndexSelection parseIndexSelection(String selection) throws ParseException {
+        requireNonNull(selection);
+        String trimmedSelection = selection.trim();
+        if (trimmedSelection.replaceAll("\\s+", " ").equalsIgnoreCase(IndexSelection.ALL_SHOWN)) {
+            return IndexSelection.allShown();
+        }
+
+        IndexSelection indexSelection = null;
+        for (String part : trimmedSelection.split(",", -1)) {
+            String[] bounds = part.split("-", -1);
+            IndexSelection partSelection;
+            if (bounds.length == 1) {
+                partSelection = IndexSelection.of(parseIndex(part));
+            } else if (bounds.length == 2) {
+                Index first = parseIndex(bounds[0]);
+                Index last = parseIndex(bounds[1]);
+                if (last.getZeroBased() < first.getZeroBased()) {
+                    throw new ParseException(String.format(MESSAGE_INVALID_INDEX_RANGE, part.trim()));
+                }
+                partSelection = IndexSelection.ofRange(first, last);
+            } else {
+                throw new ParseException(String.format(MESSAGE_INVALID_INDEX_RANGE, part.trim()));
+            }
+            indexSelection = indexSelection == null ? partSelection : indexSelection.union(partSelection);
+        }
+        return indexSelection;
+    }
+
+    /**
+     * Parses {@code filePath} into a {@code Path} and returns it.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code filePath} is blank or not a valid path.
+     */
+    public static Path parseFilePath(String filePath) throws ParseException {
+        requireNonNull(filePath);
+        String trimmedFilePath = filePath.trim();
+        if (trimmedFilePath.isEmpty() || !FileUtil.isValidPath(trimmedFilePath)) {
+            throw new ParseException(MESSAGE_INVALID_FILE_PATH);
+        }
+        return Paths.get(trimmedFilePath);
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
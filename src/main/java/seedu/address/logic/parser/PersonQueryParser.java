@@ -0,0 +1,221 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ALLERGY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_APPOINTMENT_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CONDITION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INSURANCE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.DateTime;
+import seedu.address.model.person.query.AndQuery;
+import seedu.address.model.person.query.AppointmentQuery;
+import seedu.address.model.person.query.FieldQuery;
+import seedu.address.model.person.query.FieldQuery.Field;
+import seedu.address.model.person.query.NotQuery;
+import seedu.address.model.person.query.OrQuery;
+import seedu.address.model.person.query.PersonQuery;
+
+/**
+ * Parses a structured query made of field clauses, e.g. {@code ta/Penicillin d/20-10-2025..26-10-2025}.
+ *
+ * Each clause is a prefix followed by its value, which runs until the next clause, operator or parenthesis.
+ * Clauses are combined with {@code AND}, {@code OR} and {@code NOT}, which bind from tightest to loosest in the order
+ * {@code NOT}, {@code AND}, {@code OR}, and can be grouped with parentheses. Clauses without an operator between them
+ * are combined with {@code AND}.
+ */
+public class PersonQueryParser {
+
+    public static final String OPERATOR_AND = "AND";
+    public static final String OPERATOR_OR = "OR";
+    public static final String OPERATOR_NOT = "NOT";
+    public static final String DATE_RANGE_SEPARATOR = "..";
+
+    public static final String MESSAGE_MISSING_VALUE = "Missing value after %1$s";
+    public static final String MESSAGE_UNEXPECTED_TOKEN = "Unexpected \"%1$s\" in query";
+    public static final String MESSAGE_INCOMPLETE_QUERY = "Query is incomplete";
+    public static final String MESSAGE_INVALID_DATE_RANGE =
+            "Appointment dates should be DD-MM-YYYY or DD-MM-YYYY" + DATE_RANGE_SEPARATOR + "DD-MM-YYYY, "
+            + "with the start not after the end";
+
+    private static final Map<Prefix, Field> FIELDS_BY_PREFIX = Map.of(
+            PREFIX_NAME, Field.NAME,
+            PREFIX_PHONE, Field.PHONE,
+            PREFIX_EMAIL, Field.EMAIL,
+            PREFIX_ADDRESS, Field.ADDRESS,
+            PREFIX_ALLERGY, Field.ALLERGY,
+            PREFIX_CONDITION, Field.CONDITION,
+            PREFIX_INSURANCE, Field.INSURANCE);
+
+    private static final String OPEN_PARENTHESIS = "(";
+    private static final String CLOSE_PARENTHESIS = ")";
+
+    private final List<String> tokens;
+    private int position;
+
+    private PersonQueryParser(String args) {
+        String spacedArgs = args.replace(OPEN_PARENTHESIS, " " + OPEN_PARENTHESIS + " ")
+                .replace(CLOSE_PARENTHESIS, " " + CLOSE_PARENTHESIS + " ")
+                .trim();
+        this.tokens = spacedArgs.isEmpty() ? List.of() : List.of(spacedArgs.split("\\s+"));
+    }
+
+    /**
+     * Returns true if {@code args} has any field clause, and so should be parsed as a query.
+     * A clause is a token starting with a prefix that is followed by a value, in the same token or the next one.
+     */
+    public static boolean isQuery(String args) {
+        requireNonNull(args);
+        String[] argTokens = args.trim().split("[\\s()]+");
+        for (int i = 0; i < argTokens.length; i++) {
+            Prefix prefix = getPrefix(argTokens[i]);
+            if (prefix == null) {
+                continue;
+            }
+            boolean hasValueInToken = argTokens[i].length() > prefix.getPrefix().length();
+            boolean hasValueAfterToken = i + 1 < argTokens.length && !isReserved(argTokens[i + 1]);
+            if (hasValueInToken || hasValueAfterToken) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parses {@code args} into a {@code PersonQuery}.
+     *
+     * @throws ParseException if {@code args} is not a valid query.
+     */
+    public static PersonQuery parse(String args) throws ParseException {
+        requireNonNull(args);
+        PersonQueryParser parser = new PersonQueryParser(args);
+        PersonQuery query = parser.parseOr();
+        if (parser.hasNext()) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, parser.peek()));
+        }
+        return query;
+    }
+
+    private PersonQuery parseOr() throws ParseException {
+        List<PersonQuery> queries = new ArrayList<>();
+        queries.add(parseAnd());
+        while (OPERATOR_OR.equals(peek())) {
+            position++;
+            queries.add(parseAnd());
+        }
+        return queries.size() == 1 ? queries.get(0) : new OrQuery(queries);
+    }
+
+    private PersonQuery parseAnd() throws ParseException {
+        List<PersonQuery> queries = new ArrayList<>();
+        queries.add(parseUnary());
+        while (hasNext() && !OPERATOR_OR.equals(peek()) && !CLOSE_PARENTHESIS.equals(peek())) {
+            if (OPERATOR_AND.equals(peek())) {
+                position++;
+            }
+            queries.add(parseUnary());
+        }
+        return queries.size() == 1 ? queries.get(0) : new AndQuery(queries);
+    }
+
+    private PersonQuery parseUnary() throws ParseException {
+        if (!hasNext()) {
+            throw new ParseException(MESSAGE_INCOMPLETE_QUERY);
+        }
+
+        String token = tokens.get(position++);
+        if (OPERATOR_NOT.equals(token)) {
+            return new NotQuery(parseUnary());
+        }
+        if (OPEN_PARENTHESIS.equals(token)) {
+            PersonQuery query = parseOr();
+            if (!CLOSE_PARENTHESIS.equals(peek())) {
+                throw new ParseException(MESSAGE_INCOMPLETE_QUERY);
+            }
+            position++;
+            return query;
+        }
+
+        Prefix prefix = getPrefix(token);
+        if (prefix == null) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, token));
+        }
+        return parseClause(prefix, token.substring(prefix.getPrefix().length()));
+    }
+
+    private PersonQuery parseClause(Prefix prefix, String firstWord) throws ParseException {
+        List<String> words = new ArrayList<>();
+        if (!firstWord.isEmpty()) {
+            words.add(firstWord);
+        }
+        while (hasNext() && !isReserved(peek())) {
+            words.add(tokens.get(position++));
+        }
+        if (words.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_MISSING_VALUE, prefix));
+        }
+
+        String value = String.join(" ", words);
+        if (prefix.equals(PREFIX_APPOINTMENT_DATE)) {
+            return parseDateRange(value);
+        }
+        return new FieldQuery(FIELDS_BY_PREFIX.get(prefix), value);
+    }
+
+    private static AppointmentQuery parseDateRange(String value) throws ParseException {
+        int separatorIndex = value.indexOf(DATE_RANGE_SEPARATOR);
+        String start = separatorIndex < 0 ? value : value.substring(0, separatorIndex);
+        String end = separatorIndex < 0 ? value : value.substring(separatorIndex + DATE_RANGE_SEPARATOR.length());
+        try {
+            LocalDate startDate = LocalDate.parse(start.trim(), DateTime.DATE_FORMATTER);
+            LocalDate endDate = LocalDate.parse(end.trim(), DateTime.DATE_FORMATTER);
+            if (startDate.isAfter(endDate)) {
+                throw new ParseException(MESSAGE_INVALID_DATE_RANGE);
+            }
+            return new AppointmentQuery(startDate, endDate);
+        } catch (DateTimeParseException e) {
+            throw new ParseException(MESSAGE_INVALID_DATE_RANGE, e);
+        }
+    }
+
+    private boolean hasNext() {
+        return position < tokens.size();
+    }
+
+    private String peek() {
+        return hasNext() ? tokens.get(position) : null;
+    }
+
+    /**
+     * Returns true if {@code token} cannot be part of the value of a clause.
+     */
+    private static boolean isReserved(String token) {
+        return token.equals(OPERATOR_AND) || token.equals(OPERATOR_OR) || token.equals(OPERATOR_NOT)
+                || token.equals(OPEN_PARENTHESIS) || token.equals(CLOSE_PARENTHESIS) || getPrefix(token) != null;
+    }
+
+    /**
+     * Returns the prefix of the clause that {@code token} starts, or null if it does not start one.
+     * A date clause must be followed by a date, so that words such as the "d/o" in "Ravi d/o Kumar" are not clauses.
+     */
+    private static Prefix getPrefix(String token) {
+        if (token.startsWith(PREFIX_APPOINTMENT_DATE.getPrefix())) {
+            String date = token.substring(PREFIX_APPOINTMENT_DATE.getPrefix().length());
+            return date.isEmpty() || Character.isDigit(date.charAt(0)) ? PREFIX_APPOINTMENT_DATE : null;
+        }
+        return FIELDS_BY_PREFIX.keySet().stream()
+                .filter(prefix -> token.startsWith(prefix.getPrefix()))
+                .findFirst()
+                .orElse(null);
+    }
+}
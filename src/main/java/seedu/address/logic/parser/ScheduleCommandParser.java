@@ -3,7 +3,9 @@ package seedu.address.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
-import seedu.address.commons.core.index.Index;
+import java.util.Arrays;
+
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.ScheduleCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Appointment;
@@ -28,16 +30,18 @@ public class ScheduleCommandParser implements Parser<ScheduleCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScheduleCommand.MESSAGE_USAGE));
         }
 
-        // Parse patient ID (Index)
-        Index index;
+        // Parse the patient indexes, which are followed by the date and the time
+        IndexSelection indexes;
         try {
-            index = ParserUtil.parseIndex(splitArgs[0]);
+            indexes = ParserUtil.parseIndexSelection(
+                    String.join(" ", Arrays.copyOfRange(splitArgs, 0, splitArgs.length - 2)));
         } catch (ParseException pe) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScheduleCommand.MESSAGE_USAGE), pe);
         }
 
         // Parse DateTime
-        String dateTimeString = splitArgs[1] + " " + splitArgs[2]; // Combine date and time
+        // Combine date and time
+        String dateTimeString = splitArgs[splitArgs.length - 2] + " " + splitArgs[splitArgs.length - 1];
         if (!DateTime.isValidDateTime(dateTimeString)) {
             throw new ParseException(ScheduleCommand.MESSAGE_INVALID_DATETIME);
         }
@@ -48,6 +52,6 @@ public class ScheduleCommandParser implements Parser<ScheduleCommand> {
 
         Appointment appointment = new Appointment(dateTimeString);
 
-        return new ScheduleCommand(index, appointment);
+        return new ScheduleCommand(indexes, appointment);
     }
 }
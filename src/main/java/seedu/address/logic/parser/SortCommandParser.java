@@ -2,14 +2,21 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.SortKey;
 
 /**
  * Parses input arguments and creates a new SortCommand object.
  */
 public class SortCommandParser implements Parser<SortCommand> {
 
+    public static final String MESSAGE_DUPLICATE_FIELD = "Patients can only be sorted by each field once.";
+
     /**
     * Parses the given {@code String} of arguments in the context of the SortCommand
     * and returns a SortCommand object for execution.
@@ -24,12 +31,30 @@ public class SortCommandParser implements Parser<SortCommand> {
               String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
         }
 
-        // Check if sort field is valid
-        String sortField = trimmedArgs.toLowerCase();
-        if (!sortField.equals("name") && !sortField.equals("appointment")) {
-            throw new ParseException(
-              String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+        // each field may be followed by the direction to sort it in
+        String[] words = trimmedArgs.split("\\s+");
+        List<SortKey> sortKeys = new ArrayList<>();
+        for (int i = 0; i < words.length; i++) {
+            Optional<SortKey.Field> field = SortKey.Field.fromKeyword(words[i]);
+            if (field.isEmpty()) {
+                throw new ParseException(
+                  String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+            }
+            if (sortKeys.stream().anyMatch(key -> key.getField() == field.get())) {
+                throw new ParseException(MESSAGE_DUPLICATE_FIELD);
+            }
+
+            boolean isDescending = false;
+            if (i + 1 < words.length && isDirection(words[i + 1])) {
+                i++;
+                isDescending = words[i].equalsIgnoreCase(SortKey.DESCENDING_KEYWORD);
+            }
+            sortKeys.add(new SortKey(field.get(), isDescending));
         }
-        return new SortCommand(sortField);
+        return new SortCommand(sortKeys);
+    }
+
+    private static boolean isDirection(String word) {
+        return word.equalsIgnoreCase(SortKey.ASCENDING_KEYWORD) || word.equalsIgnoreCase(SortKey.DESCENDING_KEYWORD);
     }
 }
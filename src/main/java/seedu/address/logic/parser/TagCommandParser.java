@@ -11,7 +11,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
-import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.TagCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.tag.Tag;
@@ -40,8 +40,8 @@ public class TagCommandParser implements Parser<TagCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, TagCommand.MESSAGE_USAGE));
         }
 
-        // Parse index from the argument preamble
-        Index index = ParserUtil.parseIndex(argMultimap.getPreamble());
+        // Parse indexes from the argument preamble
+        IndexSelection indexes = ParserUtil.parseIndexSelection(argMultimap.getPreamble());
 
         // Check if there are tags to add, delete, or edit
         Set<Tag> allergies = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_ALLERGY));
@@ -66,7 +66,7 @@ public class TagCommandParser implements Parser<TagCommand> {
         checkForCategoryDuplicates("condition", argMultimap.getAllValues(PREFIX_CONDITION));
         checkForCategoryDuplicates("insurance", argMultimap.getAllValues(PREFIX_INSURANCE));
         checkForCategoryDuplicates("delete", argMultimap.getAllValues(PREFIX_TAG_DELETE));
-        return new TagCommand(index, allergies, conditions, insurances, tagsToDelete);
+        return new TagCommand(indexes, allergies, conditions, insurances, tagsToDelete);
     }
 
     /**
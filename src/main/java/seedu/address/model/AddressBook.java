@@ -2,11 +2,17 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Comparator;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonAppointmentIndex;
+import seedu.address.model.person.PersonListEdit;
+import seedu.address.model.person.PersonSearchIndex;
+import seedu.address.model.person.PersonTagIndex;
+import seedu.address.model.person.SortKey;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -67,6 +73,15 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns true if a person with the same identity as {@code person}, other than {@code excluded},
+     * exists in the address book.
+     */
+    public boolean hasPersonOtherThan(Person person, Person excluded) {
+        requireNonNull(person);
+        return persons.containsOtherThan(person, excluded);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
@@ -94,26 +109,77 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    /**
+     * Removes {@code keys} from this {@code AddressBook} in a single pass over it.
+     * Every key must exist in the address book.
+     */
+    public void removePersons(Collection<Person> keys) {
+        persons.removeAll(keys);
+    }
+
     /**
      * Sorts persons in this address book by name alphabetically.
      */
     public void sortPersonsByName() {
-        Comparator<Person> nameComparator = Comparator.comparing(
-                person -> person.getName().toString().toLowerCase()
-        );
-
-        persons.sort(nameComparator);
+        persons.sort(new SortKey(SortKey.Field.NAME, false).getComparator());
     }
 
     /**
      * Sorts persons in this address book by appointment dates.
      */
     public void sortPersonsByAppointment() {
-        Comparator<Person> appointmentComparator = Comparator.comparing(
-                Person::getEarliestAppointment
-        );
+        persons.sort(new SortKey(SortKey.Field.APPOINTMENT, false).getComparator());
+    }
+
+    /**
+     * Starts a batch of changes to the person list, whose listeners are told about them in a single change when
+     * the outermost batch ends.
+     */
+    void beginBatch() {
+        persons.beginBatch();
+    }
+
+    /**
+     * Ends the current batch of changes to the person list.
+     */
+    void endBatch() {
+        persons.endBatch();
+    }
 
-        persons.sort(appointmentComparator);
+    /**
+     * Returns the number of changes made to the person list so far.
+     * Two equal counts mean that the address book has not been changed in between.
+     */
+    public long getModificationCount() {
+        return persons.getModificationCount();
+    }
+
+    /**
+     * Returns the search index of the person list, which is kept in sync with the list.
+     */
+    public PersonSearchIndex getSearchIndex() {
+        return persons.getSearchIndex();
+    }
+
+    /**
+     * Returns the index of the persons by their tags, which is kept in sync with the list.
+     */
+    public PersonTagIndex getTagIndex() {
+        return persons.getSearchIndex().getTagIndex();
+    }
+
+    /**
+     * Returns the index of the persons by their appointments, which is kept in sync with the list.
+     */
+    public PersonAppointmentIndex getAppointmentIndex() {
+        return persons.getSearchIndex().getAppointmentIndex();
+    }
+
+    /**
+     * Reports every subsequent change to the person list to {@code editRecorder}.
+     */
+    void setEditRecorder(Consumer<PersonListEdit> editRecorder) {
+        persons.setEditRecorder(editRecorder);
     }
 
     //// util methods
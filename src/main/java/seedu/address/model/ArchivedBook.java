@@ -3,10 +3,15 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonAppointmentIndex;
+import seedu.address.model.person.PersonListEdit;
+import seedu.address.model.person.PersonSearchIndex;
+import seedu.address.model.person.PersonTagIndex;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -74,6 +79,57 @@ public class ArchivedBook implements ReadOnlyArchivedBook {
         return archivedPersons.contains(person);
     }
 
+    /**
+     * Starts a batch of changes to the archived persons list, whose listeners are told about them in a single change
+     * when the outermost batch ends.
+     */
+    void beginBatch() {
+        archivedPersons.beginBatch();
+    }
+
+    /**
+     * Ends the current batch of changes to the archived persons list.
+     */
+    void endBatch() {
+        archivedPersons.endBatch();
+    }
+
+    /**
+     * Returns the number of changes made to the archived persons list so far.
+     * Two equal counts mean that the archived book has not been changed in between.
+     */
+    public long getModificationCount() {
+        return archivedPersons.getModificationCount();
+    }
+
+    /**
+     * Returns the search index of the archived persons list, which is kept in sync with the list.
+     */
+    public PersonSearchIndex getSearchIndex() {
+        return archivedPersons.getSearchIndex();
+    }
+
+    /**
+     * Returns the index of the archived persons by their tags, which is kept in sync with the list.
+     */
+    public PersonTagIndex getTagIndex() {
+        return archivedPersons.getSearchIndex().getTagIndex();
+    }
+
+    /**
+     * Returns the index of the archived persons by their appointments, which is kept in sync with the list.
+     */
+    public PersonAppointmentIndex getAppointmentIndex() {
+        return archivedPersons.getSearchIndex().getAppointmentIndex();
+    }
+
+    /**
+     * Reports every subsequent change to the archived persons list to {@code editRecorder}.
+     */
+    void setEditRecorder(Consumer<PersonListEdit> editRecorder) {
+        archivedPersons.setEditRecorder(editRecorder);
+    }
+
     @Override
     public ObservableList<Person> getArchivedContactList() {
         return archivedPersons.asUnmodifiableObservableList();
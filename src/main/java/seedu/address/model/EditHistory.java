@@ -0,0 +1,126 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.person.PersonListEdit;
+
+/**
+ * Records the changes made to one or more person lists as a history of commits that can be undone and redone.
+ * Each commit holds the inverse-able {@link PersonListEdit}s made since the previous commit, in the order they were
+ * made, so undoing a commit only reverts the persons it changed, whichever list they are in.
+ */
+public class EditHistory {
+    public static final int DEFAULT_HISTORY_DEPTH = 50;
+
+    private final int historyDepth;
+    private final Deque<List<PersonListEdit>> undoHistory = new ArrayDeque<>();
+    private final Deque<List<PersonListEdit>> redoHistory = new ArrayDeque<>();
+    private List<PersonListEdit> uncommittedEdits = new ArrayList<>();
+
+    /**
+     * Creates an empty {@code EditHistory} that keeps up to {@code historyDepth} commits that can be undone.
+     *
+     * @param historyDepth The maximum number of commits that can be undone, which must be positive.
+     */
+    public EditHistory(int historyDepth) {
+        if (historyDepth <= 0) {
+            throw new IllegalArgumentException("History depth must be positive");
+        }
+        this.historyDepth = historyDepth;
+    }
+
+    /**
+     * Records {@code edit} as part of the next commit.
+     */
+    public void record(PersonListEdit edit) {
+        requireNonNull(edit);
+        uncommittedEdits.add(edit);
+    }
+
+    /**
+     * Saves the edits recorded since the previous commit as a single step in the history.
+     * Removes any steps that could have been redone, and the oldest step if the history is full.
+     * Does nothing if no edits were recorded, so commands that change nothing do not take up the history.
+     */
+    public void commit() {
+        if (uncommittedEdits.isEmpty()) {
+            return;
+        }
+        undoHistory.push(uncommittedEdits);
+        redoHistory.clear();
+        uncommittedEdits = new ArrayList<>();
+
+        if (undoHistory.size() > historyDepth) {
+            undoHistory.removeLast();
+        }
+    }
+
+    /**
+     * Reverts the edits recorded since the previous commit and discards them, leaving the history as it was after
+     * that commit.
+     */
+    public void rollback() {
+        revert(uncommittedEdits);
+        uncommittedEdits = new ArrayList<>();
+    }
+
+    /**
+     * Reverts the most recent commit.
+     * Edits that have not been committed are reverted as well.
+     */
+    public void undo() throws CommandException {
+        if (!canUndo()) {
+            throw new CommandException("Cannot undo");
+        }
+        revert(uncommittedEdits);
+        List<PersonListEdit> edits = undoHistory.pop();
+        revert(edits);
+        redoHistory.push(edits);
+        uncommittedEdits = new ArrayList<>();
+    }
+
+    /**
+     * Returns true if there is a commit to revert.
+     */
+    public boolean canUndo() {
+        return !undoHistory.isEmpty();
+    }
+
+    /**
+     * Reapplies the most recently reverted commit.
+     * Edits that have not been committed are reverted first.
+     */
+    public void redo() throws CommandException {
+        if (!canRedo()) {
+            throw new CommandException("Cannot redo");
+        }
+        revert(uncommittedEdits);
+        List<PersonListEdit> edits = redoHistory.pop();
+        edits.forEach(PersonListEdit::redo);
+        undoHistory.push(edits);
+        uncommittedEdits = new ArrayList<>();
+    }
+
+    /**
+     * Returns true if there is a reverted commit to reapply.
+     */
+    public boolean canRedo() {
+        return !redoHistory.isEmpty();
+    }
+
+    /**
+     * Reverts {@code edits} in the reverse order in which they were made.
+     * Reverting an edit is not recorded as a new edit.
+     */
+    private static void revert(List<PersonListEdit> edits) {
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            edits.get(i).undo();
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -21,6 +24,19 @@ public interface Model {
     /** {@code Predicate} that always evaluate to true */
     Predicate<Person> PREDICATE_SHOW_ALL_PERSONS = unused -> true;
 
+    /**
+     * A group of changes to a model that is applied by {@link #batch(BatchOperation)}.
+     */
+    @FunctionalInterface
+    interface BatchOperation {
+        /**
+         * Makes the changes of this operation to {@code model}.
+         *
+         * @throws CommandException if the changes cannot be made.
+         */
+        void apply(Model model) throws CommandException;
+    }
+
     /**
      * Replaces user prefs data with the data in {@code userPrefs}.
      */
@@ -61,6 +77,18 @@ public interface Model {
 
     ReadOnlyArchivedBook getArchivedBook();
 
+    /**
+     * Returns the number of changes made to the address book so far.
+     * Two equal counts mean that the address book has not been changed in between.
+     */
+    long getAddressBookModificationCount();
+
+    /**
+     * Returns the number of changes made to the archived book so far.
+     * Two equal counts mean that the archived book has not been changed in between.
+     */
+    long getArchivedBookModificationCount();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in
      * the address book.
@@ -75,6 +103,12 @@ public interface Model {
      */
     void deletePerson(Person target);
 
+    /**
+     * Deletes the given persons at once, in a single pass over the address book.
+     * Every person must exist in the address book.
+     */
+    void deletePersons(List<Person> targets);
+
     /**
      * Adds the given person.
      * {@code person} must not already exist in the address book.
@@ -135,10 +169,6 @@ public interface Model {
      */
     void undoAddressBook() throws CommandException;
 
-    boolean isLastCommandArchiveRelated();
-
-    void setLastCommandArchiveRelated(boolean isLastCommandArchiveRelated);
-
     /**
      * Checks if the address book can be redone.
      * @return true if redo is possible, false otherwise.
@@ -156,6 +186,17 @@ public interface Model {
      */
     void commitAddressBook();
 
+    /**
+     * Applies the changes that {@code operation} makes to this model as one: the person lists tell their listeners
+     * about all of them in a single change, and they are committed, and so undone, together.
+     * Batches may be nested, in which case the changes are committed when the outermost batch ends.
+     * If {@code operation} throws, every change made by the outermost batch is reverted before the exception is
+     * rethrown, and nothing is committed.
+     *
+     * @throws CommandException if {@code operation} throws one.
+     */
+    void batch(BatchOperation operation) throws CommandException;
+
     boolean isArchiveMode();
 
     void setArchiveMode(boolean isArchiveMode);
@@ -167,6 +208,11 @@ public interface Model {
      */
     void archivePerson(Person person);
 
+    /**
+     * Archives the specified persons, removing them from the address book in a single pass over it.
+     */
+    void archivePersons(List<Person> persons);
+
     /**
      * Remove the specified person from the archive list
      * and add them back to AddressBook
@@ -176,17 +222,24 @@ public interface Model {
     /** Returns an unmodifiable view of the filtered archived list */
     ObservableList<Person> getFilteredArchivedPersonList();
 
+    /**
+     * Returns true if a person in the address book has an appointment that clashes with {@code appointment}.
+     */
     boolean hasSchedule(Appointment appointment);
 
     /**
-     * Sorts the person list by name in alphabetical order.
+     * Returns the persons in the address book with an appointment from {@code start} inclusive to {@code end}
+     * exclusive, in order of their appointments.
      */
-    void sortPersonListByName();
+    List<Person> getPersonsWithAppointmentsBetween(LocalDateTime start, LocalDateTime end);
 
     /**
-     * Sorts the person list by appointment date with earliest first.
+     * Sorts the filtered person list by {@code comparator}, without changing the order of the persons in the
+     * address book. Persons that a ranking filter ranks equally are also sorted by it.
+     *
+     * @param comparator the order to list persons in, or null to list them in the order of the address book.
      */
-    void sortPersonListByAppointment();
+    void updateSortedPersonList(Comparator<Person> comparator);
 
     /**
      * Returns an empty AddressBook.
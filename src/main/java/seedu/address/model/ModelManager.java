@@ -4,23 +4,31 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
-import java.util.HashSet;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.person.Appointment;
+import seedu.address.model.person.CandidateFilteredList;
+import seedu.address.model.person.DateTime;
 import seedu.address.model.person.EmergencyPerson;
+import seedu.address.model.person.IndexedPersonPredicate;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+import seedu.address.model.person.RankedPersonPredicate;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -28,13 +36,20 @@ import seedu.address.model.tag.Tag;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
     private boolean isArchiveMode = false;
-    private boolean isLastCommandArchiveRelated = false;
     private final AddressBook addressBook;
     private final VersionedAddressBook versionedAddressBook;
     private final UserPrefs userPrefs;
     private final ArchivedBook archivedBook;
-    private final FilteredList<Person> filteredPersons;
-    private final FilteredList<Person> filteredArchivedPersons;
+    private final CandidateFilteredList<Person> filteredPersons;
+    private final CandidateFilteredList<Person> filteredArchivedPersons;
+    private final SortedList<Person> rankedPersons;
+    private final SortedList<Person> rankedArchivedPersons;
+    /** The order the filtered person list is sorted in, or null for the order of the address book. */
+    private Comparator<Person> sortOrder;
+    private Predicate<Person> personFilter = PREDICATE_SHOW_ALL_PERSONS;
+    private Predicate<Person> archivedPersonFilter = PREDICATE_SHOW_ALL_PERSONS;
+    /** The number of batches currently being applied, which are committed when the outermost one ends. */
+    private int batchDepth;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -48,12 +63,15 @@ public class ModelManager implements Model {
                 + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
-        this.versionedAddressBook = new VersionedAddressBook(addressBook);
+        this.versionedAddressBook = new VersionedAddressBook(addressBook, userPrefs.getUndoHistoryDepth());
         this.userPrefs = new UserPrefs(userPrefs);
         this.archivedBook = new ArchivedBook(archivedBook);
+        this.versionedAddressBook.trackArchivedBook(this.archivedBook);
 
-        this.filteredPersons = new FilteredList<>(this.versionedAddressBook.getPersonList());
-        this.filteredArchivedPersons = new FilteredList<>(this.archivedBook.getArchivedContactList());
+        this.filteredPersons = new CandidateFilteredList<>(this.versionedAddressBook.getPersonList());
+        this.filteredArchivedPersons = new CandidateFilteredList<>(this.archivedBook.getArchivedContactList());
+        this.rankedPersons = new SortedList<>(filteredPersons);
+        this.rankedArchivedPersons = new SortedList<>(filteredArchivedPersons);
     }
 
     public ModelManager() {
@@ -101,9 +119,35 @@ public class ModelManager implements Model {
 
     @Override
     public void commitAddressBook() {
+        if (batchDepth > 0) {
+            // committed once, when the outermost batch ends
+            return;
+        }
         versionedAddressBook.commit();
     }
 
+    @Override
+    public void batch(BatchOperation operation) throws CommandException {
+        requireNonNull(operation);
+        batchDepth++;
+        versionedAddressBook.beginBatch();
+        archivedBook.beginBatch();
+        boolean isApplied = false;
+        try {
+            operation.apply(this);
+            isApplied = true;
+        } finally {
+            batchDepth--;
+            if (batchDepth == 0 && !isApplied) {
+                // reverted while still in the batch, so listeners see no change at all
+                versionedAddressBook.rollback();
+            }
+            archivedBook.endBatch();
+            versionedAddressBook.endBatch();
+        }
+        commitAddressBook();
+    }
+
     @Override
     public void undoAddressBook() throws CommandException {
         versionedAddressBook.undo();
@@ -124,14 +168,6 @@ public class ModelManager implements Model {
         return versionedAddressBook.canRedo();
     }
 
-    public boolean isLastCommandArchiveRelated() {
-        return isLastCommandArchiveRelated;
-    }
-
-    public void setLastCommandArchiveRelated(boolean isLastCommandArchiveRelated) {
-        this.isLastCommandArchiveRelated = isLastCommandArchiveRelated;
-    }
-
     // =========== AddressBook Methods
     // ========================================================================
 
@@ -151,6 +187,16 @@ public class ModelManager implements Model {
         return archivedBook;
     }
 
+    @Override
+    public long getAddressBookModificationCount() {
+        return versionedAddressBook.getModificationCount();
+    }
+
+    @Override
+    public long getArchivedBookModificationCount() {
+        return archivedBook.getModificationCount();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -159,24 +205,25 @@ public class ModelManager implements Model {
 
     @Override
     public boolean hasConflictingPerson(Person edited, Person original) {
-        return versionedAddressBook.getPersonList().stream()
-                .filter(p -> !p.equals(original))
-                .anyMatch(p -> p.getName().equals(edited.getName())
-                        && (p.getPhone().equals(edited.getPhone()) || p.getEmail().equals(edited.getEmail())));
+        return versionedAddressBook.hasPersonOtherThan(edited, original);
     }
 
     @Override
     public void deletePerson(Person target) {
         versionedAddressBook.removePerson(target);
         commitAddressBook();
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    @Override
+    public void deletePersons(List<Person> targets) {
+        versionedAddressBook.removePersons(targets);
+        commitAddressBook();
     }
 
     @Override
     public void addPerson(Person person) {
         versionedAddressBook.addPerson(person);
         commitAddressBook();
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     @Override
@@ -209,6 +256,14 @@ public class ModelManager implements Model {
         commitAddressBook();
     }
 
+    @Override
+    public void archivePersons(List<Person> persons) {
+        requireAllNonNull(persons);
+        persons.forEach(archivedBook::addArchivedPerson);
+        versionedAddressBook.removePersons(persons);
+        commitAddressBook();
+    }
+
     @Override
     public void unarchivePerson(Person person) {
         requireNonNull(person);
@@ -238,12 +293,10 @@ public class ModelManager implements Model {
                                   Set<Tag> insurances) {
         requireAllNonNull(person);
 
-        Set<Tag> currentAllergies = new HashSet<>(person.getAllergyTags());
-        currentAllergies.addAll(allergies);
-        Set<Tag> currentConditions = new HashSet<>(person.getConditionTags());
-        currentConditions.addAll(conditions);
-        Set<Tag> currentInsurances = new HashSet<>(person.getInsuranceTags());
-        currentInsurances.addAll(insurances);
+        // only the categories that gain tags are copied
+        TagSet currentAllergies = TagSet.of(person.getAllergyTags()).union(allergies);
+        TagSet currentConditions = TagSet.of(person.getConditionTags()).union(conditions);
+        TagSet currentInsurances = TagSet.of(person.getInsuranceTags()).union(insurances);
 
         // Create a new person with the updated tags
         Person updatedPerson = new Person(
@@ -267,14 +320,10 @@ public class ModelManager implements Model {
     public Person deleteTagFromPerson(Person person, Set<Tag> tagsToDelete) {
         requireAllNonNull(person, tagsToDelete);
 
-        Set<Tag> currentAllergies = new HashSet<>(person.getAllergyTags());
-        Set<Tag> currentConditions = new HashSet<>(person.getConditionTags());
-        Set<Tag> currentInsurances = new HashSet<>(person.getInsuranceTags());
-
-        // Remove the tags to delete
-        currentAllergies.removeAll(tagsToDelete);
-        currentConditions.removeAll(tagsToDelete);
-        currentInsurances.removeAll(tagsToDelete);
+        // only the categories that lose tags are copied
+        TagSet currentAllergies = TagSet.of(person.getAllergyTags()).difference(tagsToDelete);
+        TagSet currentConditions = TagSet.of(person.getConditionTags()).difference(tagsToDelete);
+        TagSet currentInsurances = TagSet.of(person.getInsuranceTags()).difference(tagsToDelete);
 
         // Create a new person with the updated tags
         Person updatedPerson = new Person(
@@ -300,28 +349,75 @@ public class ModelManager implements Model {
     /**
      * Returns an unmodifiable view of the list of {@code Person} backed by the
      * internal list of
-     * {@code versionedAddressBook}
+     * {@code versionedAddressBook}.
+     * Persons are listed in the sort order, if one is set, and otherwise in the order of the list. If the filter
+     * ranks the persons it matches, they are listed by rank first.
+     * The filter is kept as persons are added, removed or replaced, and only those persons are tested against it.
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return rankedPersons;
     }
 
     @Override
     public ObservableList<Person> getFilteredArchivedPersonList() {
-        return filteredArchivedPersons;
+        return rankedArchivedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        if (predicate.equals(personFilter)) {
+            // the list is kept filtered as persons change, so filtering it again would not change it
+            return;
+        }
+        personFilter = predicate;
+        applyFilter(predicate, versionedAddressBook.getSearchIndex(), filteredPersons, rankedPersons, sortOrder);
+    }
+
+    @Override
+    public void updateSortedPersonList(Comparator<Person> comparator) {
+        sortOrder = comparator;
+        // only the view is reordered, so the address book, its undo history and its file are untouched
+        rankedPersons.setComparator(getListOrder(filteredPersons.getPredicate(), sortOrder));
     }
 
     @Override
     public void updateArchivedFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredArchivedPersons.setPredicate(predicate);
+        if (predicate.equals(archivedPersonFilter)) {
+            return;
+        }
+        archivedPersonFilter = predicate;
+        applyFilter(predicate, archivedBook.getSearchIndex(), filteredArchivedPersons, rankedArchivedPersons, null);
+    }
+
+    /**
+     * Filters {@code filtered} by {@code predicate}, and orders {@code ranked} by the ranking of the predicate, if it
+     * has one, and then by {@code sortOrder}. If the predicate can be evaluated through {@code index}, it is, and only
+     * the candidates the index gives for it are tested.
+     */
+    private static void applyFilter(Predicate<Person> predicate, PersonSearchIndex index,
+            CandidateFilteredList<Person> filtered, SortedList<Person> ranked, Comparator<Person> sortOrder) {
+        Predicate<Person> evaluatedPredicate = predicate;
+        Set<Person> candidates = null;
+        if (predicate instanceof IndexedPersonPredicate indexedPredicate) {
+            evaluatedPredicate = indexedPredicate.usingIndex(index);
+            candidates = indexedPredicate.getCandidates(index).orElse(null);
+        }
+        filtered.setPredicate(evaluatedPredicate, candidates);
+        ranked.setComparator(getListOrder(evaluatedPredicate, sortOrder));
+    }
+
+    /**
+     * Returns the order to list the persons matching {@code predicate} in, or null to keep the order of the list.
+     */
+    private static Comparator<Person> getListOrder(Predicate<? super Person> predicate,
+            Comparator<Person> sortOrder) {
+        if (!(predicate instanceof RankedPersonPredicate rankedPredicate)) {
+            return sortOrder;
+        }
+        return sortOrder == null ? rankedPredicate.getRanking() : rankedPredicate.getRanking().thenComparing(sortOrder);
     }
 
     @Override
@@ -337,9 +433,9 @@ public class ModelManager implements Model {
 
         return versionedAddressBook.equals(otherModelManager.versionedAddressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons)
+                && rankedPersons.equals(otherModelManager.rankedPersons)
                 && archivedBook.equals(otherModelManager.archivedBook)
-                && filteredArchivedPersons.equals(otherModelManager.filteredArchivedPersons);
+                && rankedArchivedPersons.equals(otherModelManager.rankedArchivedPersons);
     }
 
     // =========== Schedule method
@@ -348,22 +444,20 @@ public class ModelManager implements Model {
     @Override
     public boolean hasSchedule(Appointment appointment) {
         requireNonNull(appointment);
-        return versionedAddressBook.getPersonList().stream()
-                .anyMatch(person -> person.getAppointment().equals(appointment));
-    }
-
-    @Override
-    public void sortPersonListByName() {
-        versionedAddressBook.sortPersonsByName();
-        commitAddressBook();
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        DateTime dateTime = appointment.getDateTime();
+        if (dateTime == null) {
+            // persons without an appointment are not indexed
+            return versionedAddressBook.getPersonList().stream()
+                    .anyMatch(person -> person.getAppointment().equals(appointment));
+        }
+        return versionedAddressBook.getAppointmentIndex()
+                .hasAppointmentWithin(dateTime, Appointment.CONFLICT_WINDOW_MINUTES);
     }
 
     @Override
-    public void sortPersonListByAppointment() {
-        versionedAddressBook.sortPersonsByAppointment();
-        commitAddressBook();
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    public List<Person> getPersonsWithAppointmentsBetween(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        return versionedAddressBook.getAppointmentIndex().getPersonsWithAppointmentsBetween(start, end);
     }
 
     @Override
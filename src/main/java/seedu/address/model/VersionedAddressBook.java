@@ -1,59 +1,72 @@
 package seedu.address.model;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import seedu.address.logic.commands.exceptions.CommandException;
 
 /**
  * Wraps an AddressBook with undo/redo functionality.
- * Maintains a history of address book states to support undo operations.
+ * Instead of copying the whole address book on every commit, it records the changes made to the person list since
+ * the previous commit in an {@link EditHistory}, and reverts or reapplies only those changes on undo and redo.
+ * A commit therefore costs time and memory proportional to the number of persons changed, not to the size of the
+ * address book.
  */
 public class VersionedAddressBook extends AddressBook {
-    private final List<ReadOnlyAddressBook> addressBookStateList;
-    private int currentStatePointer;
+    public static final int DEFAULT_HISTORY_DEPTH = EditHistory.DEFAULT_HISTORY_DEPTH;
+
+    private final EditHistory history;
 
     /**
-     * Constructs a {@code VersionedAddressBook} with the given initial state.
-     * Initializes the state history with the provided {@code initialState} and
-     * sets the current state pointer to the first (and only) state.
+     * Constructs a {@code VersionedAddressBook} with the given initial state,
+     * keeping up to {@link #DEFAULT_HISTORY_DEPTH} commits.
      *
      * @param initialState The initial state of the address book.
      */
     public VersionedAddressBook(ReadOnlyAddressBook initialState) {
+        this(initialState, DEFAULT_HISTORY_DEPTH);
+    }
+
+    /**
+     * Constructs a {@code VersionedAddressBook} with the given initial state, keeping up to {@code historyDepth}
+     * commits that can be undone.
+     *
+     * @param initialState The initial state of the address book.
+     * @param historyDepth The maximum number of commits that can be undone, which must be positive.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook initialState, int historyDepth) {
         super(initialState);
-        addressBookStateList = new ArrayList<>();
-        addressBookStateList.add(new AddressBook(initialState));
-        currentStatePointer = 0;
+        history = new EditHistory(historyDepth);
+        setEditRecorder(history::record);
     }
 
     /**
-     * Saves a copy of the current address book state.
-     * Adds the current state to the history and removes any forward states.
+     * Records the changes made to {@code archivedBook} in the same history as this address book, so that
+     * operations that move persons between the two books are undone and redone as a whole.
      */
-    public void commit() {
-        while (currentStatePointer < addressBookStateList.size() - 1) {
-            addressBookStateList.remove(addressBookStateList.size() - 1);
-        }
+    public void trackArchivedBook(ArchivedBook archivedBook) {
+        archivedBook.setEditRecorder(history::record);
+    }
 
-        addressBookStateList.add(new AddressBook(this));
-        currentStatePointer++;
+    /**
+     * Saves the changes made since the previous commit as a single step in the history.
+     * Removes any steps that could have been redone, and the oldest step if the history is full.
+     * Does nothing if there were no changes.
+     */
+    public void commit() {
+        history.commit();
+    }
 
-        while (addressBookStateList.size() > 2) {
-            addressBookStateList.remove(0);
-            currentStatePointer--;
-        }
+    /**
+     * Reverts the changes made since the previous commit, without changing the history.
+     */
+    public void rollback() {
+        history.rollback();
     }
 
     /**
      * Restores the previous address book state.
+     * Changes that have not been committed are discarded as well.
      */
     public void undo() throws CommandException {
-        if (!canUndo()) {
-            throw new CommandException("Cannot undo");
-        }
-        currentStatePointer--;
-        resetData(addressBookStateList.get(currentStatePointer));
+        history.undo();
     }
 
     /**
@@ -61,24 +74,21 @@ public class VersionedAddressBook extends AddressBook {
      * Undo is possible if there is a previous state to return to.
      */
     public boolean canUndo() {
-        return currentStatePointer > 0;
+        return history.canUndo();
     }
 
     /**
      * Restores the next address book state.
+     * Changes that have not been committed are discarded first.
      */
     public void redo() throws CommandException {
-        if (!canRedo()) {
-            throw new CommandException("Cannot redo");
-        }
-        currentStatePointer++;
-        resetData(addressBookStateList.get(currentStatePointer));
+        history.redo();
     }
 
     /**
      * Returns true if redo is possible.
      */
     public boolean canRedo() {
-        return currentStatePointer < addressBookStateList.size() - 1;
+        return history.canRedo();
     }
 }
@@ -5,10 +5,15 @@ import java.util.Objects;
 /**
  * Represents a Schedule in the address book.
  * Guarantees: details are present and not null.
+ *
+ * Appointments are compared by the minute of their {@link DateTime}, and are only formatted when shown.
  */
 public class Appointment implements Comparable<Appointment> {
     public static final String MESSAGE_CONSTRAINTS = "This must be DD-MM-YYYY HH:MM";
-    public final String value;
+    /** Appointments less than this many minutes apart are considered the same appointment. */
+    public static final int CONFLICT_WINDOW_MINUTES = 15;
+    /** The sort key of an appointment without a date and time, which orders it after every other appointment. */
+    public static final long NO_DATE_TIME_SORT_KEY = Long.MAX_VALUE;
     private final DateTime dateTime;
     private final String description;
 
@@ -21,7 +26,6 @@ public class Appointment implements Comparable<Appointment> {
     public Appointment(DateTime dateTime, String description) {
         this.dateTime = Objects.requireNonNull(dateTime);
         this.description = Objects.requireNonNull(description);
-        this.value = dateTime.toString() + " " + description;
     }
 
     /**
@@ -30,7 +34,6 @@ public class Appointment implements Comparable<Appointment> {
     public Appointment() {
         this.dateTime = null;
         this.description = "";
-        this.value = "";
     }
 
     /**
@@ -39,13 +42,7 @@ public class Appointment implements Comparable<Appointment> {
      * @param appointment A valid appointment.
      */
     public Appointment(String appointment) {
-        if (appointment.equals("")) {
-            this.dateTime = null;
-            this.value = "";
-        } else {
-            this.dateTime = new DateTime(appointment);
-            this.value = this.dateTime.toString();
-        }
+        this.dateTime = appointment.equals("") ? null : new DateTime(appointment);
         this.description = "";
     }
 
@@ -57,10 +54,27 @@ public class Appointment implements Comparable<Appointment> {
         return dateTime;
     }
 
+    /**
+     * Returns a key that orders appointments by their date and time, with appointments without one last.
+     * The key is the epoch minute that the date and time is stored as, so sorting by it allocates nothing.
+     */
+    public long getSortKey() {
+        return dateTime == null ? NO_DATE_TIME_SORT_KEY : dateTime.getEpochMinute();
+    }
+
     public String getDescription() {
         return description;
     }
 
+    /**
+     * Returns an appointment with the same description, {@code minutes} after this one.
+     * This appointment must have a date and time.
+     */
+    public Appointment plusMinutes(long minutes) {
+        assert dateTime != null;
+        return new Appointment(DateTime.ofEpochMinute(dateTime.getEpochMinute() + minutes), description);
+    }
+
     public int compareTo(Appointment other) {
         return this.dateTime.compareTo(other.dateTime);
     }
@@ -81,12 +95,12 @@ public class Appointment implements Comparable<Appointment> {
         if (dateTime == null || otherAppointment.dateTime == null) {
             return false;
         }
-        return dateTime.difference(otherAppointment.dateTime).abs().toMinutes() < 15.0;
+        return Math.abs(dateTime.minutesUntil(otherAppointment.dateTime)) < CONFLICT_WINDOW_MINUTES;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(dateTime, description);
+        return Objects.hashCode(dateTime) * 31 + description.hashCode();
     }
 
     @Override
@@ -0,0 +1,110 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person} has an appointment from {@code start} inclusive to {@code end} exclusive.
+ * When evaluated through a {@link PersonSearchIndex}, the matching persons are read from its
+ * {@link PersonAppointmentIndex} once, and persons added to the list afterwards are tested directly.
+ * They are ranked in order of their appointments.
+ */
+public class AppointmentInRangePredicate implements IndexedPersonPredicate {
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+    private final long startMinute;
+    private final long endMinute;
+
+    /**
+     * Creates an {@code AppointmentInRangePredicate} for appointments from {@code start} to {@code end}.
+     */
+    public AppointmentInRangePredicate(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        this.start = start;
+        this.end = end;
+        this.startMinute = DateTime.toEpochMinute(start);
+        this.endMinute = DateTime.toEpochMinute(end);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        DateTime dateTime = person.getAppointment().getDateTime();
+        if (dateTime == null) {
+            return false;
+        }
+        long appointmentMinute = dateTime.getEpochMinute();
+        return appointmentMinute >= startMinute && appointmentMinute < endMinute;
+    }
+
+    @Override
+    public Predicate<Person> usingIndex(PersonSearchIndex index) {
+        return new IndexedAppointments(index);
+    }
+
+    @Override
+    public Optional<Set<Person>> getCandidates(PersonSearchIndex index) {
+        Set<Person> persons = Collections.newSetFromMap(new IdentityHashMap<>());
+        persons.addAll(index.getAppointmentIndex().getPersonsWithAppointmentsBetween(start, end));
+        return Optional.of(persons);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AppointmentInRangePredicate)) {
+            return false;
+        }
+
+        AppointmentInRangePredicate otherPredicate = (AppointmentInRangePredicate) other;
+        return start.equals(otherPredicate.start) && end.equals(otherPredicate.end);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("start", start).add("end", end).toString();
+    }
+
+    /**
+     * The persons with appointments in range in an indexed list, which are looked up when it is first tested.
+     */
+    private class IndexedAppointments implements RankedPersonPredicate {
+        private final PersonSearchIndex index;
+        /** The version of the index when the persons were looked up. */
+        private long version;
+        private Set<Person> persons;
+
+        private IndexedAppointments(PersonSearchIndex index) {
+            this.index = index;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            if (persons == null) {
+                persons = Collections.newSetFromMap(new IdentityHashMap<>());
+                persons.addAll(index.getAppointmentIndex().getPersonsWithAppointmentsBetween(start, end));
+                version = index.getVersion();
+            }
+            // persons are immutable, so only a person added since the lookup can be missing from the set
+            return persons.contains(person)
+                    || (version != index.getVersion() && AppointmentInRangePredicate.this.test(person));
+        }
+
+        @Override
+        public Comparator<Person> getRanking() {
+            return Comparator.comparingLong(person -> person.getAppointment().getSortKey());
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable array list whose changes can be grouped into batches. Listeners are told about every change made
+ * during a batch at once, in a single {@link javafx.collections.ListChangeListener.Change}, when the outermost
+ * batch ends.
+ */
+class BatchableObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final List<E> elements = new ArrayList<>();
+    private int batchDepth;
+
+    /**
+     * Starts a batch of changes, which may be nested in another batch.
+     */
+    void beginBatch() {
+        batchDepth++;
+        beginChange();
+    }
+
+    /**
+     * Ends the current batch of changes. Listeners are told about the changes if it is the outermost batch.
+     */
+    void endBatch() {
+        if (batchDepth == 0) {
+            throw new IllegalStateException("No batch to end");
+        }
+        batchDepth--;
+        endChange();
+    }
+
+    /**
+     * Moves the element at position {@code newOrder[i]} to position {@code i}, for every {@code i}, and reports the
+     * move as a single permutation.
+     */
+    void permute(int[] newOrder) {
+        if (newOrder.length != elements.size()) {
+            throw new IllegalArgumentException("The new order must cover every element");
+        }
+        List<E> original = new ArrayList<>(elements);
+        int[] newPositions = new int[newOrder.length];
+        for (int i = 0; i < newOrder.length; i++) {
+            elements.set(i, original.get(newOrder[i]));
+            newPositions[newOrder[i]] = i;
+        }
+
+        beginChange();
+        nextPermutation(0, elements.size(), newPositions);
+        endChange();
+    }
+
+    /**
+     * Removes the elements at {@code indexes}, which must be in ascending order, in a single pass over the list, and
+     * returns them in the same order. Each run of adjacent elements removed is reported as one removal.
+     */
+    List<E> removeAt(int[] indexes) {
+        requireAscendingWithin(indexes, elements.size());
+        beginChange();
+        List<E> removed = new ArrayList<>(indexes.length);
+        int kept = indexes.length == 0 ? elements.size() : indexes[0];
+        for (int i = kept, next = 0; i < elements.size(); i++) {
+            if (next < indexes.length && indexes[next] == i) {
+                removed.add(elements.get(i));
+                next++;
+            } else {
+                elements.set(kept++, elements.get(i));
+            }
+        }
+        elements.subList(kept, elements.size()).clear();
+
+        for (int start = 0, end; start < indexes.length; start = end) {
+            end = endOfRun(indexes, start);
+            // earlier runs are already gone from the list the listeners see
+            nextRemove(indexes[start] - start, new ArrayList<>(removed.subList(start, end)));
+        }
+        endChange();
+        return removed;
+    }
+
+    /**
+     * Inserts {@code toInsert.get(i)} so that it ends up at position {@code indexes[i]}, for every {@code i}, in a
+     * single pass over the list. {@code indexes} must be in ascending order. Each run of adjacent elements inserted is
+     * reported as one addition.
+     */
+    void insertAt(int[] indexes, List<? extends E> toInsert) {
+        if (indexes.length != toInsert.size()) {
+            throw new IllegalArgumentException("Every element inserted needs an index");
+        }
+        requireAscendingWithin(indexes, elements.size() + indexes.length);
+        beginChange();
+        List<E> merged = new ArrayList<>(elements.size() + indexes.length);
+        for (int i = 0, next = 0, original = 0; i < elements.size() + indexes.length; i++) {
+            merged.add(next < indexes.length && indexes[next] == i ? toInsert.get(next++) : elements.get(original++));
+        }
+        elements.clear();
+        elements.addAll(merged);
+
+        for (int start = 0, end; start < indexes.length; start = end) {
+            end = endOfRun(indexes, start);
+            nextAdd(indexes[start], indexes[end - 1] + 1);
+        }
+        endChange();
+    }
+
+    /**
+     * Returns the position in {@code indexes} just after the run of consecutive indexes that begins at {@code start}.
+     */
+    private static int endOfRun(int[] indexes, int start) {
+        int end = start + 1;
+        while (end < indexes.length && indexes[end] == indexes[end - 1] + 1) {
+            end++;
+        }
+        return end;
+    }
+
+    private static void requireAscendingWithin(int[] indexes, int size) {
+        for (int i = 0; i < indexes.length; i++) {
+            if (indexes[i] < 0 || indexes[i] >= size || (i > 0 && indexes[i] <= indexes[i - 1])) {
+                throw new IllegalArgumentException("The indexes must be ascending and within the list");
+            }
+        }
+    }
+
+    @Override
+    public boolean setAll(Collection<? extends E> col) {
+        // replaced in one step, as removing the elements one at a time from the front would take quadratic time
+        List<E> removed = new ArrayList<>(elements);
+        elements.clear();
+        elements.addAll(col);
+
+        beginChange();
+        nextReplace(0, elements.size(), removed);
+        endChange();
+        return true;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        List<E> range = elements.subList(fromIndex, toIndex);
+        List<E> removed = new ArrayList<>(range);
+        range.clear();
+
+        beginChange();
+        nextRemove(fromIndex, removed);
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+}
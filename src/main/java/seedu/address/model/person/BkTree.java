@@ -0,0 +1,144 @@
+package seedu.address.model.person;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A Burkhard-Keller tree of words, for looking up every word within a given edit distance of a query without
+ * computing the distance to every word.
+ *
+ * Each child of a node is kept under its distance from the node, so by the triangle inequality, only the children
+ * within {@code maxDistance} of the query's distance from the node can lead to matches. Removed words are only
+ * marked as removed, and the tree is rebuilt once most of its words are removed.
+ */
+class BkTree {
+
+    private Node root;
+    private int nodeCount;
+    private final Set<String> removedTokens = new HashSet<>();
+
+    /**
+     * Adds {@code token} to the tree, if it is not already in it.
+     */
+    void add(String token) {
+        if (removedTokens.remove(token)) {
+            return;
+        }
+        if (root == null) {
+            root = new Node(token);
+            nodeCount++;
+            return;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = getDistance(token, node.token);
+            if (distance == 0) {
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(token));
+                nodeCount++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Removes {@code token}, which must be in the tree.
+     */
+    void remove(String token) {
+        removedTokens.add(token);
+        if (removedTokens.size() * 2 > nodeCount) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Returns every word in the tree within {@code maxDistance} edits of {@code query}, with its distance.
+     */
+    Map<String, Integer> search(String query, int maxDistance) {
+        Map<String, Integer> matches = new HashMap<>();
+        if (root == null) {
+            return matches;
+        }
+
+        Deque<Node> candidates = new ArrayDeque<>();
+        candidates.push(root);
+        while (!candidates.isEmpty()) {
+            Node node = candidates.pop();
+            int distance = getDistance(query, node.token);
+            if (distance <= maxDistance && !removedTokens.contains(node.token)) {
+                matches.put(node.token, distance);
+            }
+            for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                    candidates.push(child.getValue());
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code a} and {@code b}, i.e. the least number of single character
+     * insertions, deletions and substitutions that turn one into the other.
+     */
+    static int getDistance(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int substitutionCost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(previous[j - 1] + substitutionCost,
+                        Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    private void rebuild() {
+        List<String> tokens = new ArrayList<>();
+        if (root != null) {
+            Deque<Node> nodes = new ArrayDeque<>();
+            nodes.push(root);
+            while (!nodes.isEmpty()) {
+                Node node = nodes.pop();
+                if (!removedTokens.contains(node.token)) {
+                    tokens.add(node.token);
+                }
+                node.children.values().forEach(nodes::push);
+            }
+        }
+
+        root = null;
+        nodeCount = 0;
+        removedTokens.clear();
+        tokens.forEach(this::add);
+    }
+
+    private static class Node {
+        private final String token;
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        private Node(String token) {
+            this.token = token;
+        }
+    }
+}
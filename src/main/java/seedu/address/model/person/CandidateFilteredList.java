@@ -0,0 +1,250 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A view of the elements of a source list that match a predicate, in the order of the source, like a
+ * {@link javafx.collections.transformation.FilteredList}. As there, only the elements that change in the source are
+ * tested against the predicate afterwards.
+ *
+ * A predicate can be applied together with the candidates it can match, such as the persons an index lists for a
+ * keyword, in which case only those candidates are tested instead of every element of the source. They are put in the
+ * order of the source through a map of the position of each element, which is built when it is first needed and kept
+ * as long as the source only grows at its end.
+ */
+public class CandidateFilteredList<E> extends TransformationList<E, E> {
+
+    private Predicate<? super E> predicate;
+    /** The positions in the source of the elements of this list, in ascending order. */
+    private int[] filtered = new int[0];
+    /** The position of each element in the source, or null if it has to be built again. */
+    private Map<E, Integer> sourcePositions;
+
+    /**
+     * Creates a {@code CandidateFilteredList} that shows every element of {@code source}.
+     */
+    public CandidateFilteredList(ObservableList<E> source) {
+        super(source);
+        filtered = filterSource();
+    }
+
+    public Predicate<? super E> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Shows the elements of the source that match {@code predicate}, or every element if it is null.
+     * Every element of the source is tested.
+     */
+    public void setPredicate(Predicate<? super E> predicate) {
+        setPredicate(predicate, null);
+    }
+
+    /**
+     * Shows the elements of the source that match {@code predicate}, or every element if it is null.
+     * If {@code candidates} is not null, only the candidates are tested, and every other element of the source is
+     * taken not to match. Candidates that are not in the source are ignored.
+     */
+    public void setPredicate(Predicate<? super E> predicate, Collection<? extends E> candidates) {
+        beginChange();
+        List<E> removed = new ArrayList<>(this);
+        this.predicate = predicate;
+        filtered = candidates == null ? filterSource() : filterCandidates(candidates);
+        nextReplace(0, filtered.length, removed);
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return getSource().get(getSourceIndex(index));
+    }
+
+    @Override
+    public int size() {
+        return filtered.length;
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (index < 0 || index >= filtered.length) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return filtered[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        int position = Arrays.binarySearch(filtered, index);
+        return position < 0 ? -1 : position;
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                permute(change);
+            } else if (change.wasUpdated()) {
+                update(change);
+            } else {
+                addRemove(change);
+            }
+        }
+        endChange();
+    }
+
+    private boolean matches(E element) {
+        return predicate == null || predicate.test(element);
+    }
+
+    private int[] filterSource() {
+        int[] matches = new int[getSource().size()];
+        int count = 0;
+        for (int i = 0; i < getSource().size(); i++) {
+            if (matches(getSource().get(i))) {
+                matches[count++] = i;
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    private int[] filterCandidates(Collection<? extends E> candidates) {
+        Map<E, Integer> positions = getSourcePositions();
+        return candidates.stream()
+                .filter(this::matches)
+                .map(positions::get)
+                .filter(Objects::nonNull)
+                .mapToInt(Integer::intValue)
+                .sorted()
+                .toArray();
+    }
+
+    private Map<E, Integer> getSourcePositions() {
+        if (sourcePositions == null) {
+            sourcePositions = new IdentityHashMap<>(getSource().size());
+            for (int i = 0; i < getSource().size(); i++) {
+                sourcePositions.put(getSource().get(i), i);
+            }
+        }
+        return sourcePositions;
+    }
+
+    /**
+     * Returns the position in this list of the first element at or after {@code sourceIndex} in the source.
+     */
+    private int findFirstAtOrAfter(int sourceIndex) {
+        int position = Arrays.binarySearch(filtered, sourceIndex);
+        return position < 0 ? -position - 1 : position;
+    }
+
+    private void permute(ListChangeListener.Change<? extends E> change) {
+        sourcePositions = null;
+        if (filtered.length == 0) {
+            return;
+        }
+        int[] movedTo = new int[filtered.length];
+        for (int i = 0; i < filtered.length; i++) {
+            boolean isMoved = filtered[i] >= change.getFrom() && filtered[i] < change.getTo();
+            movedTo[i] = isMoved ? change.getPermutation(filtered[i]) : filtered[i];
+        }
+        Integer[] oldPositions = new Integer[filtered.length];
+        Arrays.setAll(oldPositions, i -> i);
+        Arrays.sort(oldPositions, (first, second) -> Integer.compare(movedTo[first], movedTo[second]));
+
+        int[] newPositions = new int[filtered.length];
+        for (int i = 0; i < filtered.length; i++) {
+            newPositions[oldPositions[i]] = i;
+            filtered[i] = movedTo[oldPositions[i]];
+        }
+        nextPermutation(0, filtered.length, newPositions);
+    }
+
+    private void update(ListChangeListener.Change<? extends E> change) {
+        sourcePositions = null;
+        for (int i = change.getFrom(); i < change.getTo(); i++) {
+            E element = getSource().get(i);
+            int position = Arrays.binarySearch(filtered, i);
+            boolean isShown = position >= 0;
+            boolean isMatch = matches(element);
+            if (isShown && isMatch) {
+                nextUpdate(position);
+            } else if (isShown) {
+                filtered = remove(filtered, position);
+                nextRemove(position, element);
+            } else if (isMatch) {
+                int insertAt = -position - 1;
+                filtered = insert(filtered, insertAt, i);
+                nextAdd(insertAt, insertAt + 1);
+            }
+        }
+    }
+
+    private void addRemove(ListChangeListener.Change<? extends E> change) {
+        int from = change.getFrom();
+        int removedEnd = from + change.getRemovedSize();
+        boolean isAppend = change.getRemovedSize() == 0 && change.getTo() == getSource().size();
+        if (isAppend && sourcePositions != null) {
+            for (int i = from; i < change.getTo(); i++) {
+                sourcePositions.put(getSource().get(i), i);
+            }
+        } else {
+            sourcePositions = null;
+        }
+
+        int start = findFirstAtOrAfter(from);
+        int end = findFirstAtOrAfter(removedEnd);
+        if (end > start) {
+            List<E> removed = new ArrayList<>(end - start);
+            for (int i = start; i < end; i++) {
+                removed.add(change.getRemoved().get(filtered[i] - from));
+            }
+            nextRemove(start, removed);
+        }
+
+        int[] added = new int[change.getAddedSize()];
+        int addedCount = 0;
+        for (int i = from; i < change.getTo(); i++) {
+            if (matches(getSource().get(i))) {
+                added[addedCount++] = i;
+            }
+        }
+
+        int shift = change.getAddedSize() - change.getRemovedSize();
+        int[] updated = new int[start + addedCount + filtered.length - end];
+        System.arraycopy(filtered, 0, updated, 0, start);
+        System.arraycopy(added, 0, updated, start, addedCount);
+        for (int i = end; i < filtered.length; i++) {
+            updated[start + addedCount + i - end] = filtered[i] + shift;
+        }
+        filtered = updated;
+        if (addedCount > 0) {
+            nextAdd(start, start + addedCount);
+        }
+    }
+
+    private static int[] remove(int[] array, int position) {
+        int[] result = new int[array.length - 1];
+        System.arraycopy(array, 0, result, 0, position);
+        System.arraycopy(array, position + 1, result, position, array.length - position - 1);
+        return result;
+    }
+
+    private static int[] insert(int[] array, int position, int value) {
+        int[] result = new int[array.length + 1];
+        System.arraycopy(array, 0, result, 0, position);
+        result[position] = value;
+        System.arraycopy(array, position, result, position + 1, array.length - position);
+        return result;
+    }
+}
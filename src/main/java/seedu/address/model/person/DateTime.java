@@ -1,7 +1,7 @@
 package seedu.address.model.person;
 
-import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
@@ -9,13 +9,22 @@ import java.time.format.ResolverStyle;
 /**
  * Represents a date and time in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidDateTime(String)}
+ *
+ * A date and time is stored as a single count of minutes from the epoch, both taken as UTC, so that comparing
+ * date and times is integer arithmetic. It is formatted only when it is first shown, and the text is kept.
  */
 public class DateTime implements Comparable<DateTime> {
     public static final String MESSAGE_CONSTRAINTS = "DateTime should be in the format DD-MM-YYYY HH:MM";
     public static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("dd-MM-uuuu HH:mm")
             .withResolverStyle(ResolverStyle.STRICT);
+    public static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-uuuu")
+            .withResolverStyle(ResolverStyle.STRICT);
+    /** A date and time after every date and time that is used, for ordering values that have none last. */
+    public static final DateTime FAR_FUTURE = new DateTime("31-12-9999 23:59");
 
-    private final LocalDateTime dateTime;
+    private final long epochMinute;
+    /** The formatted date and time, or null if it has not been formatted yet. */
+    private String formatted;
 
     /**
      * Constructs a {@code DateTime}.
@@ -23,7 +32,18 @@ public class DateTime implements Comparable<DateTime> {
      * @param dateTime A valid date time string.
      */
     public DateTime(String dateTime) {
-        this.dateTime = LocalDateTime.parse(dateTime, FORMATTER);
+        this.epochMinute = toEpochMinute(LocalDateTime.parse(dateTime, FORMATTER));
+    }
+
+    private DateTime(long epochMinute) {
+        this.epochMinute = epochMinute;
+    }
+
+    /**
+     * Returns the {@code DateTime} that is {@code epochMinute} minutes from the epoch, both taken as UTC.
+     */
+    public static DateTime ofEpochMinute(long epochMinute) {
+        return new DateTime(epochMinute);
     }
 
     /**
@@ -53,15 +73,34 @@ public class DateTime implements Comparable<DateTime> {
         }
     }
 
-    public Duration difference(DateTime other) {
-        return Duration.between(dateTime, other.dateTime);
+    /**
+     * Returns the number of minutes from this date and time to {@code other}, which is negative if {@code other} is
+     * earlier.
+     */
+    public long minutesUntil(DateTime other) {
+        return other.epochMinute - epochMinute;
     }
 
     /**
-     * Compares two DateTime objects based on chronological order.
+     * Returns this date and time as a {@code LocalDateTime}, which is created on every call.
      */
     public LocalDateTime getLocalDateTime() {
-        return dateTime;
+        return LocalDateTime.ofEpochSecond(epochMinute * 60, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * Returns the number of minutes from the epoch to this date and time, both taken as UTC.
+     */
+    public long getEpochMinute() {
+        return epochMinute;
+    }
+
+    /**
+     * Returns the number of minutes from the epoch to {@code dateTime}, both taken as UTC.
+     * Seconds are ignored.
+     */
+    public static long toEpochMinute(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
     }
 
 
@@ -70,7 +109,13 @@ public class DateTime implements Comparable<DateTime> {
      */
     @Override
     public String toString() {
-        return dateTime.format(FORMATTER);
+        String text = formatted;
+        if (text == null) {
+            // a race only formats the same text twice, as strings are immutable
+            text = getLocalDateTime().format(FORMATTER);
+            formatted = text;
+        }
+        return text;
     }
 
     @Override
@@ -84,16 +129,16 @@ public class DateTime implements Comparable<DateTime> {
         }
 
         DateTime otherDateTime = (DateTime) other;
-        return dateTime.equals(otherDateTime.dateTime);
+        return epochMinute == otherDateTime.epochMinute;
     }
 
     @Override
     public int hashCode() {
-        return dateTime.hashCode();
+        return Long.hashCode(epochMinute);
     }
 
     @Override
     public int compareTo(DateTime other) {
-        return this.dateTime.compareTo(other.dateTime);
+        return Long.compare(epochMinute, other.epochMinute);
     }
 }
@@ -0,0 +1,24 @@
+package seedu.address.model.person;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A predicate on persons that can also be evaluated through the {@link PersonSearchIndex} of the list being
+ * filtered, which is faster than inspecting the fields of each person.
+ * The index can also list the persons that may match, so that a filtered list only needs to test those.
+ */
+public interface IndexedPersonPredicate extends Predicate<Person> {
+
+    /**
+     * Returns a predicate that is equivalent to this one for the persons in the list indexed by {@code index}.
+     */
+    Predicate<Person> usingIndex(PersonSearchIndex index);
+
+    /**
+     * Returns the persons in the list indexed by {@code index} that may match this predicate, looked up through the
+     * index, or an empty {@code Optional} if the index cannot narrow them down. No other person in the list matches.
+     */
+    Optional<Set<Person>> getCandidates(PersonSearchIndex index);
+}
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -20,6 +22,7 @@ public class Name {
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum}/\\-'\\s@]*";
 
     public final String value;
+    private final String sortKey;
 
     /**
      * Constructs a {@code Name}.
@@ -29,8 +32,9 @@ public class Name {
     public Name(String name) {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
-        String capitalized = name.substring(0, 1).toUpperCase() + name.substring(1);
+        String capitalized = name.substring(0, 1).toUpperCase(Locale.ROOT) + name.substring(1);
         value = capitalized;
+        sortKey = capitalized.toLowerCase(Locale.ROOT);
     }
 
     /**
@@ -40,6 +44,13 @@ public class Name {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the name in lower case, which orders names alphabetically regardless of case.
+     */
+    public String getSortKey() {
+        return sortKey;
+    }
+
     @Override
     public String toString() {
         return value;
@@ -1,19 +1,26 @@
 package seedu.address.model.person;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
- * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * Tests that a {@code Person}'s {@code Name}, {@code Email} or {@code Phone} contains any of the keywords given.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements IndexedPersonPredicate {
     private final List<String> keywords;
+    private final List<String> normalizedKeywords;
 
+    /**
+     * Creates a {@code NameContainsKeywordsPredicate} that matches any of {@code keywords}, each a single word.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.normalizedKeywords = keywords.stream().map(PersonSearchIndex::normalize).toList();
     }
 
     @Override
@@ -25,6 +32,16 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
                         || StringUtil.containsWordIgnoreCase(person.getPhone().toString(), keyword));
     }
 
+    @Override
+    public Predicate<Person> usingIndex(PersonSearchIndex index) {
+        return person -> index.hasAnyToken(person, normalizedKeywords);
+    }
+
+    @Override
+    public Optional<Set<Person>> getCandidates(PersonSearchIndex index) {
+        return Optional.of(index.getPersonsWithAnyToken(normalizedKeywords));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
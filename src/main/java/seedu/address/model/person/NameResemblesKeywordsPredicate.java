@@ -0,0 +1,130 @@
+package seedu.address.model.person;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person}'s {@code Name}, {@code Email} or {@code Phone} has a word that starts with, or is a
+ * likely misspelling of, any of the keywords given.
+ * When evaluated through a {@link PersonSearchIndex}, matching persons are ranked by how closely they match.
+ * The matches are looked up once, and persons added to the list afterwards are scored directly.
+ *
+ * @see PersonSearchIndex#getMatchScore(String, String)
+ */
+public class NameResemblesKeywordsPredicate implements IndexedPersonPredicate {
+    private final List<String> keywords;
+    private final List<String> normalizedKeywords;
+
+    /**
+     * Creates a {@code NameResemblesKeywordsPredicate} that matches any of {@code keywords}, each a single word.
+     */
+    public NameResemblesKeywordsPredicate(List<String> keywords) {
+        this.keywords = keywords;
+        this.normalizedKeywords = keywords.stream().map(PersonSearchIndex::normalize).toList();
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return getScore(person) >= 0;
+    }
+
+    /**
+     * Returns the score of the best matching word of {@code person}, or -1 if no word matches.
+     */
+    private int getScore(Person person) {
+        int bestScore = -1;
+        for (String field : List.of(person.getName().toString(), person.getEmail().toString(),
+                person.getPhone().toString())) {
+            for (String token : PersonSearchIndex.tokenize(field)) {
+                for (String keyword : normalizedKeywords) {
+                    int score = PersonSearchIndex.getMatchScore(keyword, token);
+                    if (score >= 0 && (bestScore < 0 || score < bestScore)) {
+                        bestScore = score;
+                    }
+                }
+            }
+        }
+        return bestScore;
+    }
+
+    @Override
+    public Predicate<Person> usingIndex(PersonSearchIndex index) {
+        return new IndexedMatches(index);
+    }
+
+    @Override
+    public Optional<Set<Person>> getCandidates(PersonSearchIndex index) {
+        return Optional.of(index.getApproximateMatches(normalizedKeywords).keySet());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameResemblesKeywordsPredicate)) {
+            return false;
+        }
+
+        NameResemblesKeywordsPredicate otherPredicate = (NameResemblesKeywordsPredicate) other;
+        return keywords.equals(otherPredicate.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+
+    /**
+     * The matches of this predicate in an indexed list, which are looked up when it is first tested.
+     */
+    private class IndexedMatches implements RankedPersonPredicate {
+        private final PersonSearchIndex index;
+        /** The version of the index when the matches were looked up. */
+        private long version;
+        private Map<Person, Integer> scores;
+
+        private IndexedMatches(PersonSearchIndex index) {
+            this.index = index;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            if (getScores().containsKey(person)) {
+                return true;
+            }
+            if (version == index.getVersion()) {
+                return false;
+            }
+
+            // persons are immutable, so only a person added since the lookup can be missing from the matches
+            int score = getScore(person);
+            if (score < 0) {
+                return false;
+            }
+            scores.put(person, score);
+            return true;
+        }
+
+        @Override
+        public Comparator<Person> getRanking() {
+            return Comparator.comparing(person -> getScores().getOrDefault(person, Integer.MAX_VALUE));
+        }
+
+        private Map<Person, Integer> getScores() {
+            if (scores == null) {
+                scores = index.getApproximateMatches(normalizedKeywords);
+                version = index.getVersion();
+            }
+            return scores;
+        }
+    }
+}
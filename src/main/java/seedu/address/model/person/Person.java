@@ -2,8 +2,6 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
@@ -11,6 +9,8 @@ import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagCategory;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Represents a Person in the address book.
@@ -29,10 +29,9 @@ public class Person {
 
     // Data fields
     private final Address address;
-    private final List<Set<Tag>> tags;
-    private final Set<Tag> allergies = new HashSet<>();
-    private final Set<Tag> conditions = new HashSet<>();
-    private final Set<Tag> insurances = new HashSet<>();
+    private final TagSet allergies;
+    private final TagSet conditions;
+    private final TagSet insurances;
     private EmergencyPerson emergencyContact;
     private final Appointment appointment;
     /**
@@ -47,15 +46,13 @@ public class Person {
         this.email = email;
         this.address = address;
         if (tags == null) {
-            this.tags = new ArrayList<>();
-            for (int i = 0; i < 3; i++) {
-                this.tags.add(new HashSet<>());
-            }
+            this.allergies = TagSet.EMPTY;
+            this.conditions = TagSet.EMPTY;
+            this.insurances = TagSet.EMPTY;
         } else {
-            this.allergies.addAll(tags.get(0));
-            this.conditions.addAll(tags.get(1));
-            this.insurances.addAll(tags.get(2));
-            this.tags = tags;
+            this.allergies = TagSet.of(tags.get(0));
+            this.conditions = TagSet.of(tags.get(1));
+            this.insurances = TagSet.of(tags.get(2));
         }
         if (appointment == null) {
             this.appointment = new Appointment();
@@ -91,10 +88,9 @@ public class Person {
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.allergies.addAll(allergies);
-        this.conditions.addAll(conditions);
-        this.insurances.addAll(insurances);
-        this.tags = List.of(this.allergies, this.conditions, this.insurances);
+        this.allergies = TagSet.of(allergies);
+        this.conditions = TagSet.of(conditions);
+        this.insurances = TagSet.of(insurances);
         if (appointment == null) {
             this.appointment = new Appointment();
         } else {
@@ -128,7 +124,7 @@ public class Person {
     }
 
     public Person setEmergencyContact(EmergencyPerson emergencyContact) {
-        Person newPerson = new Person(name, phone, email, address, tags, appointment, emergencyContact);
+        Person newPerson = new Person(name, phone, email, address, getTags(), appointment, emergencyContact);
         return newPerson;
     }
 
@@ -148,7 +144,7 @@ public class Person {
      * @return A new {@code Person} instance with the updated appointment.
      */
     public Person withAppointment(Appointment appointment) {
-        return new Person(name, phone, email, address, tags, appointment, emergencyContact);
+        return new Person(name, phone, email, address, getTags(), appointment, emergencyContact);
     }
 
     /**
@@ -160,15 +156,31 @@ public class Person {
     }
 
     public Set<Tag> getAllergyTags() {
-        return Collections.unmodifiableSet(allergies);
+        return allergies;
     }
 
     public Set<Tag> getConditionTags() {
-        return Collections.unmodifiableSet(conditions);
+        return conditions;
     }
 
     public Set<Tag> getInsuranceTags() {
-        return Collections.unmodifiableSet(insurances);
+        return insurances;
+    }
+
+    /**
+     * Returns an immutable set of the tags of this person in {@code category}.
+     */
+    public Set<Tag> getTags(TagCategory category) {
+        switch (category) {
+        case ALLERGY:
+            return getAllergyTags();
+        case CONDITION:
+            return getConditionTags();
+        case INSURANCE:
+            return getInsuranceTags();
+        default:
+            throw new AssertionError("Unknown tag category " + category);
+        }
     }
 
     /**
@@ -191,8 +203,8 @@ public class Person {
      */
     public DateTime getEarliestAppointment() {
         if (appointment == null || appointment.getDateTime() == null) {
-            // Create a far future date that will sort after all real dates
-            return new DateTime("31-12-9999 23:59");
+            // shared, so that sorting does not parse a date for every comparison
+            return DateTime.FAR_FUTURE;
         }
         return appointment.getDateTime();
     }
@@ -220,7 +232,9 @@ public class Person {
                 && phone.equals(otherPerson.phone)
                 && email.equals(otherPerson.email)
                 && address.equals(otherPerson.address)
-                && tags.equals(otherPerson.tags)
+                && allergies.equals(otherPerson.allergies)
+                && conditions.equals(otherPerson.conditions)
+                && insurances.equals(otherPerson.insurances)
                 && emergencyContact.equals(otherPerson.emergencyContact)
                 && appointment.equals(otherPerson.appointment);
     }
@@ -236,7 +250,7 @@ public class Person {
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags, emergencyContact);
+        return Objects.hash(name, phone, email, address, allergies, conditions, insurances, emergencyContact);
     }
 
     @Override
@@ -246,7 +260,7 @@ public class Person {
                 .add("phone", phone)
                 .add("email", email)
                 .add("address", address)
-                .add("tags", tags)
+                .add("tags", getTags())
                 .add("emergencyContact", emergencyContact)
                 .add("appointment", appointment)
                 .toString();
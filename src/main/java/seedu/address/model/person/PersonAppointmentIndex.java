@@ -0,0 +1,88 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Indexes the persons in a {@link UniquePersonList} by the time of their appointment, in epoch minutes, so that
+ * appointments near a time or within a range of times can be looked up without scanning every person.
+ * Persons without an appointment are not indexed.
+ *
+ * Persons are indexed by reference, as the list holds each person object only once.
+ */
+public class PersonAppointmentIndex {
+
+    private final NavigableMap<Long, List<Person>> personsByMinute = new TreeMap<>();
+
+    /**
+     * Returns true if any person has an appointment less than {@code windowMinutes} minutes away from
+     * {@code dateTime}.
+     */
+    public boolean hasAppointmentWithin(DateTime dateTime, int windowMinutes) {
+        requireNonNull(dateTime);
+        long epochMinute = dateTime.getEpochMinute();
+        return !personsByMinute.subMap(epochMinute - windowMinutes, false, epochMinute + windowMinutes, false)
+                .isEmpty();
+    }
+
+    /**
+     * Returns the persons with an appointment from {@code start} inclusive to {@code end} exclusive, in order of
+     * their appointments. Persons with appointments at the same time are in the order they were indexed.
+     */
+    public List<Person> getPersonsWithAppointmentsBetween(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        List<Person> persons = new ArrayList<>();
+        getRange(start, end).values().forEach(persons::addAll);
+        return persons;
+    }
+
+    /**
+     * Returns the number of persons with an appointment from {@code start} inclusive to {@code end} exclusive.
+     */
+    public int getPersonCountBetween(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        return getRange(start, end).values().stream().mapToInt(List::size).sum();
+    }
+
+    private NavigableMap<Long, List<Person>> getRange(LocalDateTime start, LocalDateTime end) {
+        long startMinute = DateTime.toEpochMinute(start);
+        long endMinute = DateTime.toEpochMinute(end);
+        if (startMinute >= endMinute) {
+            return new TreeMap<>();
+        }
+        return personsByMinute.subMap(startMinute, true, endMinute, false);
+    }
+
+    void add(Person person) {
+        DateTime dateTime = person.getAppointment().getDateTime();
+        if (dateTime != null) {
+            personsByMinute.computeIfAbsent(dateTime.getEpochMinute(), unused -> new ArrayList<>()).add(person);
+        }
+    }
+
+    void remove(Person person) {
+        DateTime dateTime = person.getAppointment().getDateTime();
+        if (dateTime == null) {
+            return;
+        }
+        List<Person> persons = personsByMinute.get(dateTime.getEpochMinute());
+        if (persons == null) {
+            return;
+        }
+        // few persons share a time, so they are searched for by reference
+        persons.removeIf(indexedPerson -> indexedPerson == person);
+        if (persons.isEmpty()) {
+            personsByMinute.remove(dateTime.getEpochMinute());
+        }
+    }
+
+    void clear() {
+        personsByMinute.clear();
+    }
+}
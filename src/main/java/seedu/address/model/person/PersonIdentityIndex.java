@@ -0,0 +1,122 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Indexes persons by the identity fields used in {@link Person#isSamePerson(Person)}, so that identity lookups
+ * take constant time instead of a scan over every person.
+ * Two persons have the same identity if their names match and either their phones or their emails match,
+ * hence each person is indexed under both a (name, phone) key and a (name, email) key.
+ *
+ * The index does not enforce uniqueness by itself; callers are expected to check {@link #contains(Person)}
+ * before adding.
+ */
+public class PersonIdentityIndex {
+
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final Map<String, Person> personsByNameAndPhone = new HashMap<>();
+    private final Map<String, Person> personsByNameAndEmail = new HashMap<>();
+
+    /**
+     * Returns true if the index contains a person with the same identity as {@code toCheck}.
+     */
+    public boolean contains(Person toCheck) {
+        requireNonNull(toCheck);
+        return personsByNameAndPhone.containsKey(getNameAndPhoneKey(toCheck))
+                || personsByNameAndEmail.containsKey(getNameAndEmailKey(toCheck));
+    }
+
+    /**
+     * Returns true if the index contains a person with the same identity as {@code toCheck}
+     * that is not equal to {@code excluded}.
+     */
+    public boolean containsOtherThan(Person toCheck, Person excluded) {
+        requireNonNull(toCheck);
+        Person samePhone = personsByNameAndPhone.get(getNameAndPhoneKey(toCheck));
+        Person sameEmail = personsByNameAndEmail.get(getNameAndEmailKey(toCheck));
+        return (samePhone != null && !samePhone.equals(excluded))
+                || (sameEmail != null && !sameEmail.equals(excluded));
+    }
+
+    /**
+     * Adds {@code toAdd} to the index.
+     */
+    public void add(Person toAdd) {
+        requireNonNull(toAdd);
+        personsByNameAndPhone.put(getNameAndPhoneKey(toAdd), toAdd);
+        personsByNameAndEmail.put(getNameAndEmailKey(toAdd), toAdd);
+    }
+
+    /**
+     * Removes {@code toRemove} from the index.
+     * Keys that now refer to a different person are left untouched.
+     */
+    public void remove(Person toRemove) {
+        requireNonNull(toRemove);
+        personsByNameAndPhone.remove(getNameAndPhoneKey(toRemove), toRemove);
+        personsByNameAndEmail.remove(getNameAndEmailKey(toRemove), toRemove);
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    public void clear() {
+        personsByNameAndPhone.clear();
+        personsByNameAndEmail.clear();
+    }
+
+    /**
+     * Returns every pair of persons in {@code persons} that have the same identity, found in a single pass.
+     * Each pair is given as a two-element list of the earlier and the later person, in the order they appear in
+     * {@code persons}. Returns an empty list if all persons are unique.
+     */
+    public static List<List<Person>> findDuplicatePairs(List<Person> persons) {
+        requireNonNull(persons);
+        Map<String, List<Person>> seenByNameAndPhone = new HashMap<>();
+        Map<String, List<Person>> seenByNameAndEmail = new HashMap<>();
+        List<List<Person>> duplicatePairs = new ArrayList<>();
+
+        for (Person person : persons) {
+            List<Person> samePhone = seenByNameAndPhone.computeIfAbsent(getNameAndPhoneKey(person),
+                    unused -> new ArrayList<>());
+            List<Person> sameEmail = seenByNameAndEmail.computeIfAbsent(getNameAndEmailKey(person),
+                    unused -> new ArrayList<>());
+
+            for (Person earlier : samePhone) {
+                duplicatePairs.add(List.of(earlier, person));
+            }
+            for (Person earlier : sameEmail) {
+                // persons matching on both keys have already been paired above
+                if (!samePhone.contains(earlier)) {
+                    duplicatePairs.add(List.of(earlier, person));
+                }
+            }
+
+            samePhone.add(person);
+            sameEmail.add(person);
+        }
+        return duplicatePairs;
+    }
+
+    /**
+     * Returns the key that {@code Name#equals(Object)} considers equal for equal names.
+     */
+    private static String normalizeName(Name name) {
+        return name.value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String getNameAndPhoneKey(Person person) {
+        return normalizeName(person.getName()) + KEY_SEPARATOR + person.getPhone().value.trim();
+    }
+
+    private static String getNameAndEmailKey(Person person) {
+        return normalizeName(person.getName()) + KEY_SEPARATOR + person.getEmail().value.trim();
+    }
+}
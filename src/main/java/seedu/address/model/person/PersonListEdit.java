@@ -0,0 +1,203 @@
+package seedu.address.model.person;
+
+import java.util.List;
+
+/**
+ * Represents a single change made to a {@code UniquePersonList}, recorded so that it can be reverted and reapplied
+ * later without keeping a copy of the whole list.
+ * Each edit only holds the persons it touched, so its size does not depend on the size of the list.
+ *
+ * Edits refer to positions in the list, hence they must be undone in the reverse order in which they were made,
+ * and redone in the order in which they were made.
+ */
+public abstract class PersonListEdit {
+
+    protected final UniquePersonList list;
+
+    private PersonListEdit(UniquePersonList list) {
+        this.list = list;
+    }
+
+    /**
+     * Reverts this edit on the list it was made on.
+     */
+    public abstract void undo();
+
+    /**
+     * Reapplies this edit on the list it was made on.
+     */
+    public abstract void redo();
+
+    static PersonListEdit insertion(UniquePersonList list, int index, Person added) {
+        return new Insertion(list, index, added);
+    }
+
+    static PersonListEdit removal(UniquePersonList list, int index, Person removed) {
+        return new Removal(list, index, removed);
+    }
+
+    static PersonListEdit removals(UniquePersonList list, int[] indexes, List<Person> removed) {
+        return new Removals(list, indexes, removed);
+    }
+
+    static PersonListEdit replacement(UniquePersonList list, int index, Person original, Person edited) {
+        return new Replacement(list, index, original, edited);
+    }
+
+    static PersonListEdit reordering(UniquePersonList list, int[] newOrder) {
+        return new Reordering(list, newOrder);
+    }
+
+    static PersonListEdit reset(UniquePersonList list, List<Person> original, List<Person> replacement) {
+        return new Reset(list, original, replacement);
+    }
+
+    /**
+     * A person added at {@code index}.
+     */
+    private static class Insertion extends PersonListEdit {
+        private final int index;
+        private final Person added;
+
+        Insertion(UniquePersonList list, int index, Person added) {
+            super(list);
+            this.index = index;
+            this.added = added;
+        }
+
+        @Override
+        public void undo() {
+            list.removeAt(index);
+        }
+
+        @Override
+        public void redo() {
+            list.insertAt(index, added);
+        }
+    }
+
+    /**
+     * A person removed from {@code index}.
+     */
+    private static class Removal extends PersonListEdit {
+        private final int index;
+        private final Person removed;
+
+        Removal(UniquePersonList list, int index, Person removed) {
+            super(list);
+            this.index = index;
+            this.removed = removed;
+        }
+
+        @Override
+        public void undo() {
+            list.insertAt(index, removed);
+        }
+
+        @Override
+        public void redo() {
+            list.removeAt(index);
+        }
+    }
+
+    /**
+     * Persons removed at once, where {@code removed.get(i)} was at position {@code indexes[i]} before the edit.
+     */
+    private static class Removals extends PersonListEdit {
+        private final int[] indexes;
+        private final List<Person> removed;
+
+        Removals(UniquePersonList list, int[] indexes, List<Person> removed) {
+            super(list);
+            this.indexes = indexes;
+            this.removed = removed;
+        }
+
+        @Override
+        public void undo() {
+            list.insertAllAt(indexes, removed);
+        }
+
+        @Override
+        public void redo() {
+            list.removeAllAt(indexes);
+        }
+    }
+
+    /**
+     * A person at {@code index} replaced by an edited person.
+     */
+    private static class Replacement extends PersonListEdit {
+        private final int index;
+        private final Person original;
+        private final Person edited;
+
+        Replacement(UniquePersonList list, int index, Person original, Person edited) {
+            super(list);
+            this.index = index;
+            this.original = original;
+            this.edited = edited;
+        }
+
+        @Override
+        public void undo() {
+            list.setAt(index, original);
+        }
+
+        @Override
+        public void redo() {
+            list.setAt(index, edited);
+        }
+    }
+
+    /**
+     * A permutation of the list, where {@code newOrder[i]} is the position before the edit of the person
+     * now at position {@code i}.
+     */
+    private static class Reordering extends PersonListEdit {
+        private final int[] newOrder;
+
+        Reordering(UniquePersonList list, int[] newOrder) {
+            super(list);
+            this.newOrder = newOrder;
+        }
+
+        @Override
+        public void undo() {
+            int[] oldOrder = new int[newOrder.length];
+            for (int i = 0; i < newOrder.length; i++) {
+                oldOrder[newOrder[i]] = i;
+            }
+            list.reorder(oldOrder);
+        }
+
+        @Override
+        public void redo() {
+            list.reorder(newOrder);
+        }
+    }
+
+    /**
+     * The whole contents of the list replaced at once.
+     */
+    private static class Reset extends PersonListEdit {
+        private final List<Person> original;
+        private final List<Person> replacement;
+
+        Reset(UniquePersonList list, List<Person> original, List<Person> replacement) {
+            super(list);
+            this.original = original;
+            this.replacement = replacement;
+        }
+
+        @Override
+        public void undo() {
+            list.replaceAll(original);
+        }
+
+        @Override
+        public void redo() {
+            list.replaceAll(replacement);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Indexes the persons in a {@link UniquePersonList} by the words in their name, email and phone, so that persons
+ * with a given word can be looked up without scanning and re-splitting the fields of every person.
+ * Words are matched case-insensitively, as in {@link seedu.address.commons.util.StringUtil#containsWordIgnoreCase}.
+ *
+ * Words can also be matched approximately, by prefix or by edit distance, through a {@link TokenTrie} and a
+ * {@link BkTree} over every indexed word, which are updated along with the index. The persons are also indexed by
+ * their tags, in a {@link PersonTagIndex}, and by the time of their appointment, in a {@link PersonAppointmentIndex}.
+ *
+ * Persons are indexed by reference, as the list holds each person object only once.
+ */
+public class PersonSearchIndex {
+
+    /** The score of a word that is exactly the keyword. Lower scores are better matches. */
+    public static final int EXACT_MATCH_SCORE = 0;
+    /** The score of a word that starts with the keyword. */
+    public static final int PREFIX_MATCH_SCORE = 1;
+
+    private final Map<String, Set<Person>> personsByToken = new HashMap<>();
+    private final PersonTagIndex tagIndex = new PersonTagIndex();
+    private final PersonAppointmentIndex appointmentIndex = new PersonAppointmentIndex();
+    private TokenTrie tokenTrie = new TokenTrie();
+    private BkTree tokenTree = new BkTree();
+    private long version;
+
+    /**
+     * Returns the words in {@code text}, in the form that they are indexed under.
+     */
+    public static List<String> tokenize(String text) {
+        requireNonNull(text);
+        String trimmed = text.trim();
+        if (trimmed.isEmpty()) {
+            return List.of();
+        }
+        return List.of(trimmed.toLowerCase(Locale.ROOT).split("\\s+"));
+    }
+
+    /**
+     * Returns the single word {@code keyword} in the form that words are indexed under.
+     */
+    public static String normalize(String keyword) {
+        requireNonNull(keyword);
+        return keyword.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the number of edits within which a word is considered a misspelling of {@code keyword}.
+     */
+    public static int getMaxEditDistance(String keyword) {
+        if (keyword.length() <= 2) {
+            return 0;
+        }
+        return keyword.length() <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Returns how well {@code token} matches {@code keyword}, both normalized, or -1 if it does not match at all.
+     * A word matches if it is the keyword, starts with it, or is within {@link #getMaxEditDistance(String)} edits
+     * of it, and misspellings score one more than their edit distance.
+     */
+    public static int getMatchScore(String keyword, String token) {
+        if (token.equals(keyword)) {
+            return EXACT_MATCH_SCORE;
+        }
+        if (token.startsWith(keyword)) {
+            return PREFIX_MATCH_SCORE;
+        }
+        int distance = BkTree.getDistance(keyword, token);
+        return distance <= getMaxEditDistance(keyword) ? PREFIX_MATCH_SCORE + distance : -1;
+    }
+
+    /**
+     * Returns a count that changes whenever persons are added to or removed from the index.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the index of the persons by their tags, which is kept in sync with this index.
+     */
+    public PersonTagIndex getTagIndex() {
+        return tagIndex;
+    }
+
+    /**
+     * Returns the index of the persons by their appointments, which is kept in sync with this index.
+     */
+    public PersonAppointmentIndex getAppointmentIndex() {
+        return appointmentIndex;
+    }
+
+    /**
+     * Returns true if {@code person} has any of {@code tokens}, which must already be normalized, in their name,
+     * email or phone. {@code person} must be in the indexed list.
+     */
+    public boolean hasAnyToken(Person person, Collection<String> tokens) {
+        requireNonNull(person);
+        for (String token : tokens) {
+            Set<Person> persons = personsByToken.get(token);
+            if (persons != null && persons.contains(person)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of persons that have {@code token}, which must already be normalized, in their name, email
+     * or phone.
+     */
+    public int getPersonCount(String token) {
+        return personsByToken.getOrDefault(token, Set.of()).size();
+    }
+
+    /**
+     * Returns the persons that have any of {@code tokens}, which must already be normalized, in their name, email
+     * or phone. The returned set compares persons by reference.
+     */
+    public Set<Person> getPersonsWithAnyToken(Collection<String> tokens) {
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String token : tokens) {
+            matches.addAll(personsByToken.getOrDefault(token, Set.of()));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the persons that have a word matching any of {@code keywords}, which must already be normalized, in
+     * their name, email or phone, each with the score of their best matching word.
+     * The returned map compares persons by reference.
+     *
+     * @see #getMatchScore(String, String)
+     */
+    public Map<Person, Integer> getApproximateMatches(Collection<String> keywords) {
+        Map<Person, Integer> scores = new IdentityHashMap<>();
+        for (String keyword : keywords) {
+            Map<String, Integer> tokenScores = new HashMap<>();
+            for (String token : tokenTrie.getTokensWithPrefix(keyword)) {
+                tokenScores.put(token, token.equals(keyword) ? EXACT_MATCH_SCORE : PREFIX_MATCH_SCORE);
+            }
+            tokenTree.search(keyword, getMaxEditDistance(keyword)).forEach((token, distance) ->
+                    tokenScores.merge(token, PREFIX_MATCH_SCORE + distance, Math::min));
+
+            tokenScores.forEach((token, score) -> {
+                for (Person person : personsByToken.get(token)) {
+                    scores.merge(person, score, Math::min);
+                }
+            });
+        }
+        return scores;
+    }
+
+    void add(Person person) {
+        for (String token : getTokens(person)) {
+            Set<Person> persons = personsByToken.get(token);
+            if (persons == null) {
+                persons = Collections.newSetFromMap(new IdentityHashMap<>());
+                personsByToken.put(token, persons);
+                tokenTrie.add(token);
+                tokenTree.add(token);
+            }
+            persons.add(person);
+        }
+        tagIndex.add(person);
+        appointmentIndex.add(person);
+        version++;
+    }
+
+    void remove(Person person) {
+        for (String token : getTokens(person)) {
+            Set<Person> persons = personsByToken.get(token);
+            if (persons == null) {
+                continue;
+            }
+            persons.remove(person);
+            if (persons.isEmpty()) {
+                personsByToken.remove(token);
+                tokenTrie.remove(token);
+                tokenTree.remove(token);
+            }
+        }
+        tagIndex.remove(person);
+        appointmentIndex.remove(person);
+        version++;
+    }
+
+    void clear() {
+        personsByToken.clear();
+        tokenTrie = new TokenTrie();
+        tokenTree = new BkTree();
+        tagIndex.clear();
+        appointmentIndex.clear();
+        version++;
+    }
+
+    private static Set<String> getTokens(Person person) {
+        Set<String> tokens = new HashSet<>(tokenize(person.getName().toString()));
+        tokens.addAll(tokenize(person.getEmail().toString()));
+        tokens.addAll(tokenize(person.getPhone().toString()));
+        return tokens;
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagCategory;
+
+/**
+ * Indexes the persons in a {@link UniquePersonList} by their tags in each {@link TagCategory}, so that the persons
+ * with a given tag can be looked up without scanning the tags of every person.
+ *
+ * Persons are indexed by reference, as the list holds each person object only once.
+ */
+public class PersonTagIndex {
+
+    private final Map<TagCategory, Map<Tag, Set<Person>>> personsByTag = new EnumMap<>(TagCategory.class);
+
+    /**
+     * Creates an empty {@code PersonTagIndex}.
+     */
+    public PersonTagIndex() {
+        for (TagCategory category : TagCategory.values()) {
+            personsByTag.put(category, new HashMap<>());
+        }
+    }
+
+    /**
+     * Returns the persons with {@code tag} in {@code category}, as an unmodifiable set that compares persons by
+     * reference and that is not updated along with the index.
+     */
+    public Set<Person> getPersonsWithTag(TagCategory category, Tag tag) {
+        requireAllNonNull(category, tag);
+        Set<Person> persons = Collections.newSetFromMap(new IdentityHashMap<>());
+        persons.addAll(personsByTag.get(category).getOrDefault(tag, Set.of()));
+        return Collections.unmodifiableSet(persons);
+    }
+
+    /**
+     * Returns the persons with a tag named {@code tagName}, ignoring case, in {@code category}.
+     * The returned set compares persons by reference.
+     */
+    public Set<Person> getPersonsWithTagIgnoreCase(TagCategory category, String tagName) {
+        requireAllNonNull(category, tagName);
+        Set<Person> persons = Collections.newSetFromMap(new IdentityHashMap<>());
+        // there are far fewer distinct tags than persons, so each of them can be checked
+        personsByTag.get(category).forEach((tag, personsWithTag) -> {
+            if (tag.tagName.equalsIgnoreCase(tagName)) {
+                persons.addAll(personsWithTag);
+            }
+        });
+        return persons;
+    }
+
+    /**
+     * Returns the number of persons with a tag named {@code tagName}, ignoring case, in {@code category}.
+     */
+    public int getPersonCountIgnoreCase(TagCategory category, String tagName) {
+        requireAllNonNull(category, tagName);
+        int count = 0;
+        for (Map.Entry<Tag, Set<Person>> entry : personsByTag.get(category).entrySet()) {
+            if (entry.getKey().tagName.equalsIgnoreCase(tagName)) {
+                count += entry.getValue().size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of persons with each tag in {@code category} that any person has.
+     */
+    public Map<Tag, Integer> getTagCounts(TagCategory category) {
+        Map<Tag, Integer> counts = new HashMap<>();
+        personsByTag.get(category).forEach((tag, persons) -> counts.put(tag, persons.size()));
+        return counts;
+    }
+
+    void add(Person person) {
+        for (TagCategory category : TagCategory.values()) {
+            Map<Tag, Set<Person>> categoryIndex = personsByTag.get(category);
+            for (Tag tag : person.getTags(category)) {
+                categoryIndex.computeIfAbsent(tag, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                        .add(person);
+            }
+        }
+    }
+
+    void remove(Person person) {
+        for (TagCategory category : TagCategory.values()) {
+            Map<Tag, Set<Person>> categoryIndex = personsByTag.get(category);
+            for (Tag tag : person.getTags(category)) {
+                Set<Person> persons = categoryIndex.get(tag);
+                if (persons == null) {
+                    continue;
+                }
+                persons.remove(person);
+                if (persons.isEmpty()) {
+                    categoryIndex.remove(tag);
+                }
+            }
+        }
+    }
+
+    void clear() {
+        personsByTag.values().forEach(Map::clear);
+    }
+}
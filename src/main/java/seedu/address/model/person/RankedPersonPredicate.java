@@ -0,0 +1,15 @@
+package seedu.address.model.person;
+
+import java.util.Comparator;
+import java.util.function.Predicate;
+
+/**
+ * A predicate on persons that also ranks the persons it matches by how well they match.
+ */
+public interface RankedPersonPredicate extends Predicate<Person> {
+
+    /**
+     * Returns the order in which matching persons should be listed, best match first.
+     */
+    Comparator<Person> getRanking();
+}
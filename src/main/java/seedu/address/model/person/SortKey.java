@@ -0,0 +1,147 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A field that persons are sorted by, in ascending or descending order.
+ * Persons without an appointment are sorted after those with one in either order.
+ *
+ * Persons are compared by the sort keys that their {@link Name} and {@link Appointment} compute when they are
+ * created, so a sort neither parses dates nor changes the case of names on every comparison.
+ */
+public class SortKey {
+
+    /**
+     * The fields of a person that can be sorted by.
+     */
+    public enum Field {
+        NAME("name"), APPOINTMENT("appointment");
+
+        private final String keyword;
+
+        Field(String keyword) {
+            this.keyword = keyword;
+        }
+
+        public String getKeyword() {
+            return keyword;
+        }
+
+        /**
+         * Returns the field named {@code keyword}, ignoring case, if there is one.
+         */
+        public static Optional<Field> fromKeyword(String keyword) {
+            requireNonNull(keyword);
+            for (Field field : values()) {
+                if (field.keyword.equalsIgnoreCase(keyword)) {
+                    return Optional.of(field);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    public static final String DESCENDING_KEYWORD = "desc";
+    public static final String ASCENDING_KEYWORD = "asc";
+
+    private final Field field;
+    private final boolean isDescending;
+
+    /**
+     * Creates a {@code SortKey} that sorts persons by {@code field}, in descending order if {@code isDescending}.
+     */
+    public SortKey(Field field, boolean isDescending) {
+        requireNonNull(field);
+        this.field = field;
+        this.isDescending = isDescending;
+    }
+
+    /**
+     * Returns a comparator that sorts persons by each of {@code keys} in turn, using later keys only to order persons
+     * that are equal in all earlier keys.
+     */
+    public static Comparator<Person> toComparator(List<SortKey> keys) {
+        requireNonNull(keys);
+        if (keys.isEmpty()) {
+            throw new IllegalArgumentException("At least one sort key is required");
+        }
+        Comparator<Person> comparator = keys.get(0).getComparator();
+        for (SortKey key : keys.subList(1, keys.size())) {
+            comparator = comparator.thenComparing(key.getComparator());
+        }
+        return comparator;
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    public boolean isDescending() {
+        return isDescending;
+    }
+
+    /**
+     * Returns a comparator that sorts persons by this key alone.
+     */
+    public Comparator<Person> getComparator() {
+        switch (field) {
+        case NAME:
+            Comparator<Person> byName = Comparator.comparing(person -> person.getName().getSortKey());
+            return isDescending ? byName.reversed() : byName;
+        case APPOINTMENT:
+            return isDescending
+                    ? Comparator.comparingLong(SortKey::getDescendingAppointmentKey)
+                    : Comparator.comparingLong(person -> person.getAppointment().getSortKey());
+        default:
+            throw new AssertionError("Unknown sort field: " + field);
+        }
+    }
+
+    /**
+     * Returns a key that orders persons by their appointment, latest first, with persons without one still last.
+     */
+    private static long getDescendingAppointmentKey(Person person) {
+        long key = person.getAppointment().getSortKey();
+        return key == Appointment.NO_DATE_TIME_SORT_KEY ? key : -key;
+    }
+
+    /**
+     * Returns this key as it is entered by the user, e.g. {@code appointment desc}.
+     */
+    public String getDescription() {
+        return isDescending ? field.getKeyword() + " " + DESCENDING_KEYWORD : field.getKeyword();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortKey otherKey)) {
+            return false;
+        }
+
+        return field == otherKey.field && isDescending == otherKey.isDescending;
+    }
+
+    @Override
+    public int hashCode() {
+        return field.hashCode() * 31 + Boolean.hashCode(isDescending);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("field", field)
+                .add("isDescending", isDescending)
+                .toString();
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.model.person;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A prefix tree of words, for looking up every word that starts with a given prefix without scanning all words.
+ */
+class TokenTrie {
+
+    private final Node root = new Node();
+
+    /**
+     * Adds {@code token} to the trie, if it is not already in it.
+     */
+    void add(String token) {
+        Node node = root;
+        for (int i = 0; i < token.length(); i++) {
+            node = node.children.computeIfAbsent(token.charAt(i), unused -> new Node());
+        }
+        node.isToken = true;
+    }
+
+    /**
+     * Removes {@code token} from the trie, along with the nodes that no longer lead to any word.
+     */
+    void remove(String token) {
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        for (int i = 0; i < token.length() && node != null; i++) {
+            path.push(node);
+            node = node.children.get(token.charAt(i));
+        }
+        if (node == null || !node.isToken) {
+            return;
+        }
+
+        node.isToken = false;
+        for (int i = token.length() - 1; i >= 0 && !node.isToken && node.children.isEmpty(); i--) {
+            Node parent = path.pop();
+            parent.children.remove(token.charAt(i));
+            node = parent;
+        }
+    }
+
+    /**
+     * Returns every word in the trie that starts with {@code prefix}, including {@code prefix} itself.
+     */
+    List<String> getTokensWithPrefix(String prefix) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+
+        List<String> tokens = new ArrayList<>();
+        if (node != null) {
+            collectTokens(node, new StringBuilder(prefix), tokens);
+        }
+        return tokens;
+    }
+
+    private static void collectTokens(Node node, StringBuilder word, List<String> tokens) {
+        if (node.isToken) {
+            tokens.add(word.toString());
+        }
+        for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+            word.append(child.getKey());
+            collectTokens(child.getValue(), word, tokens);
+            word.setLength(word.length() - 1);
+        }
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private boolean isToken;
+    }
+}
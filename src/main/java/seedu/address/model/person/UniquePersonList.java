@@ -3,9 +3,15 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,22 +25,54 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Identity checks are answered by a {@link PersonIdentityIndex} that is kept in sync with the list, so that
+ * they do not need to scan every person. Searches are likewise answered by a {@link PersonSearchIndex}, which is
+ * updated before the list changes so that listeners of the list see an up-to-date index.
+ *
+ * Every change made through the public operations is also reported as a {@link PersonListEdit} to the installed
+ * edit recorder, if any, so that it can be reverted later.
+ *
+ * Changes can be grouped into a batch with {@link #beginBatch()} and {@link #endBatch()}, in which case listeners of
+ * the list are told about all of them in a single change when the batch ends.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final BatchableObservableList<Person> internalList = new BatchableObservableList<>();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final PersonIdentityIndex identityIndex = new PersonIdentityIndex();
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex();
+    private Consumer<PersonListEdit> editRecorder = edit -> {};
+    private long modificationCount;
+
+    /**
+     * Reports every subsequent change to this list to {@code editRecorder}.
+     * Replaces any previously installed recorder.
+     */
+    public void setEditRecorder(Consumer<PersonListEdit> editRecorder) {
+        requireNonNull(editRecorder);
+        this.editRecorder = editRecorder;
+    }
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.contains(toCheck);
+    }
+
+    /**
+     * Returns true if the list contains a person with the same identity as {@code toCheck}
+     * other than {@code excluded}.
+     */
+    public boolean containsOtherThan(Person toCheck, Person excluded) {
+        requireNonNull(toCheck);
+        return identityIndex.containsOtherThan(toCheck, excluded);
     }
 
     /**
@@ -46,7 +84,9 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        int index = internalList.size();
+        insertAt(index, toAdd);
+        editRecorder.accept(PersonListEdit.insertion(this, index, toAdd));
     }
 
     /**
@@ -62,11 +102,12 @@ public class UniquePersonList implements Iterable<Person> {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+        if (identityIndex.containsOtherThan(editedPerson, target)) {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Person original = setAt(index, editedPerson);
+        editRecorder.accept(PersonListEdit.replacement(this, index, original, editedPerson));
     }
 
     /**
@@ -75,14 +116,38 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        Person removed = removeAt(index);
+        editRecorder.accept(PersonListEdit.removal(this, index, removed));
+    }
+
+    /**
+     * Removes the equivalent persons from the list in a single pass over it, rather than looking each one up.
+     * Every person must exist in the list, otherwise none of them are removed.
+     */
+    public void removeAll(Collection<Person> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<Person> targets = new HashSet<>(toRemove);
+        int[] indexes = new int[targets.size()];
+        int found = 0;
+        for (int i = 0; i < internalList.size() && found < indexes.length; i++) {
+            if (targets.contains(internalList.get(i))) {
+                indexes[found++] = i;
+            }
+        }
+        if (found < indexes.length) {
+            throw new PersonNotFoundException();
+        }
+        List<Person> removed = removeAllAt(indexes);
+        editRecorder.accept(PersonListEdit.removals(this, indexes, removed));
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        resetTo(replacement.internalList);
     }
 
     /**
@@ -91,19 +156,59 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        List<List<Person>> duplicatePairs = PersonIdentityIndex.findDuplicatePairs(persons);
+        if (!duplicatePairs.isEmpty()) {
+            throw new DuplicatePersonException(duplicatePairs);
         }
 
-        internalList.setAll(persons);
+        resetTo(persons);
     }
 
     /**
      * Sorts the internal list using the given comparator.
+     * Sorting does not change which persons are in the list, so the identity index is left as is.
      * @param comparator the comparator to use for sorting
      */
     public void sort(Comparator<Person> comparator) {
-        FXCollections.sort(internalList, comparator);
+        requireNonNull(comparator);
+        // stable, like FXCollections#sort, so that persons that compare equal keep their relative order
+        int[] newOrder = IntStream.range(0, internalList.size()).boxed()
+                .sorted(Comparator.comparing(internalList::get, comparator))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        reorder(newOrder);
+        editRecorder.accept(PersonListEdit.reordering(this, newOrder));
+    }
+
+    /**
+     * Starts a batch of changes to this list, which may be nested in another batch. Listeners of the list are not
+     * told about the changes until the outermost batch ends, although the indexes of the list are kept up to date.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends the current batch of changes to this list, telling listeners about them in a single change if it is the
+     * outermost batch.
+     */
+    public void endBatch() {
+        internalList.endBatch();
+    }
+
+    /**
+     * Returns the number of changes made to this list so far, including changes made by undoing or redoing edits.
+     * Two equal counts mean that the list has not been changed in between.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns the index of the persons in this list, which is kept in sync with the list.
+     */
+    public PersonSearchIndex getSearchIndex() {
+        return searchIndex;
     }
 
     /**
@@ -143,17 +248,76 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    private void resetTo(List<Person> persons) {
+        List<Person> original = new ArrayList<>(internalList);
+        replaceAll(persons);
+        editRecorder.accept(PersonListEdit.reset(this, original, new ArrayList<>(persons)));
+    }
+
+    //// positional operations used to apply and revert edits, without checking for duplicates
+
+    void insertAt(int index, Person toAdd) {
+        searchIndex.add(toAdd);
+        internalList.add(index, toAdd);
+        identityIndex.add(toAdd);
+        modificationCount++;
+    }
+
+    Person removeAt(int index) {
+        Person removed = internalList.remove(index);
+        identityIndex.remove(removed);
+        searchIndex.remove(removed);
+        modificationCount++;
+        return removed;
+    }
+
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Removes the persons at {@code indexes}, which must be in ascending order, and returns them in the same order.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+    List<Person> removeAllAt(int[] indexes) {
+        List<Person> removed = internalList.removeAt(indexes);
+        removed.forEach(identityIndex::remove);
+        removed.forEach(searchIndex::remove);
+        modificationCount++;
+        return removed;
+    }
+
+    /**
+     * Inserts {@code toAdd.get(i)} at position {@code indexes[i]}, for every {@code i}.
+     * {@code indexes} must be in ascending order.
+     */
+    void insertAllAt(int[] indexes, List<Person> toAdd) {
+        toAdd.forEach(searchIndex::add);
+        internalList.insertAt(indexes, toAdd);
+        toAdd.forEach(identityIndex::add);
+        modificationCount++;
+    }
+
+    Person setAt(int index, Person editedPerson) {
+        searchIndex.remove(internalList.get(index));
+        searchIndex.add(editedPerson);
+        Person original = internalList.set(index, editedPerson);
+        identityIndex.remove(original);
+        identityIndex.add(editedPerson);
+        modificationCount++;
+        return original;
+    }
+
+    /**
+     * Moves the person at position {@code newOrder[i]} to position {@code i}, for every {@code i}.
+     */
+    void reorder(int[] newOrder) {
+        // fires a single permutation change, as a plain sort would
+        internalList.permute(newOrder);
+        modificationCount++;
+    }
+
+    void replaceAll(List<Person> persons) {
+        searchIndex.clear();
+        persons.forEach(searchIndex::add);
+        internalList.setAll(persons);
+        identityIndex.clear();
+        internalList.forEach(identityIndex::add);
+        modificationCount++;
     }
 }
@@ -1,11 +1,38 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+    private static final String MESSAGE = "Operation would result in duplicate persons";
+
+    private final List<List<Person>> duplicatePairs;
+
     public DuplicatePersonException() {
-        super("Operation would result in duplicate persons");
+        super(MESSAGE);
+        this.duplicatePairs = List.of();
+    }
+
+    /**
+     * Constructs a {@code DuplicatePersonException} that reports every pair of persons with the same identity.
+     */
+    public DuplicatePersonException(List<List<Person>> duplicatePairs) {
+        super(MESSAGE + ": " + duplicatePairs.stream()
+                .map(pair -> pair.get(0).getName() + " and " + pair.get(1).getName())
+                .collect(Collectors.joining(", ")));
+        this.duplicatePairs = List.copyOf(duplicatePairs);
+    }
+
+    /**
+     * Returns the pairs of persons with the same identity, if they were reported.
+     */
+    public List<List<Person>> getDuplicatePairs() {
+        return duplicatePairs;
     }
 }
@@ -0,0 +1,70 @@
+package seedu.address.model.person.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+
+/**
+ * Matches persons that match every one of its queries.
+ * Candidates are looked up through the most selective of its queries only.
+ */
+public class AndQuery extends PersonQuery {
+    private final List<PersonQuery> queries;
+
+    /**
+     * Creates an {@code AndQuery} that matches persons matching all of {@code queries}.
+     */
+    public AndQuery(List<PersonQuery> queries) {
+        requireNonNull(queries);
+        this.queries = List.copyOf(queries);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return queries.stream().allMatch(query -> query.test(person));
+    }
+
+    @Override
+    public long estimateCandidateCount(PersonSearchIndex index) {
+        return queries.stream().mapToLong(query -> query.estimateCandidateCount(index)).min().orElse(UNBOUNDED);
+    }
+
+    @Override
+    public Optional<Set<Person>> getCandidates(PersonSearchIndex index) {
+        return queries.stream()
+                .min(Comparator.comparingLong(query -> query.estimateCandidateCount(index)))
+                .flatMap(query -> query.getCandidates(index));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AndQuery)) {
+            return false;
+        }
+
+        AndQuery otherQuery = (AndQuery) other;
+        return queries.equals(otherQuery.queries);
+    }
+
+    @Override
+    public int hashCode() {
+        return queries.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("queries", queries).toString();
+    }
+}
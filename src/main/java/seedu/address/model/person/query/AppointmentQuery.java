@@ -0,0 +1,96 @@
+package seedu.address.model.person.query;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.DateTime;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+
+/**
+ * Matches persons with an appointment on a day from {@code startDate} to {@code endDate}, both inclusive.
+ * They are looked up through the {@link seedu.address.model.person.PersonAppointmentIndex}.
+ */
+public class AppointmentQuery extends PersonQuery {
+    public static final String MESSAGE_CONSTRAINTS = "The start of a date range cannot be after its end";
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final long startMinute;
+    private final long endMinute;
+
+    /**
+     * Creates an {@code AppointmentQuery} for appointments from {@code startDate} to {@code endDate}.
+     */
+    public AppointmentQuery(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        checkArgument(!startDate.isAfter(endDate), MESSAGE_CONSTRAINTS);
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.startMinute = DateTime.toEpochMinute(getStart());
+        this.endMinute = DateTime.toEpochMinute(getEnd());
+    }
+
+    @Override
+    public boolean test(Person person) {
+        DateTime dateTime = person.getAppointment().getDateTime();
+        if (dateTime == null) {
+            return false;
+        }
+        long appointmentMinute = dateTime.getEpochMinute();
+        return appointmentMinute >= startMinute && appointmentMinute < endMinute;
+    }
+
+    @Override
+    public long estimateCandidateCount(PersonSearchIndex index) {
+        return index.getAppointmentIndex().getPersonCountBetween(getStart(), getEnd());
+    }
+
+    @Override
+    public Optional<Set<Person>> getCandidates(PersonSearchIndex index) {
+        Set<Person> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        candidates.addAll(index.getAppointmentIndex().getPersonsWithAppointmentsBetween(getStart(), getEnd()));
+        return Optional.of(candidates);
+    }
+
+    private LocalDateTime getStart() {
+        return startDate.atStartOfDay();
+    }
+
+    private LocalDateTime getEnd() {
+        return endDate.plusDays(1).atStartOfDay();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AppointmentQuery)) {
+            return false;
+        }
+
+        AppointmentQuery otherQuery = (AppointmentQuery) other;
+        return startDate.equals(otherQuery.startDate) && endDate.equals(otherQuery.endDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return startDate.hashCode() * 31 + endDate.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("startDate", startDate).add("endDate", endDate).toString();
+    }
+}
@@ -0,0 +1,158 @@
+package seedu.address.model.person.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagCategory;
+
+/**
+ * Matches persons by the value of a single field. Values are matched case-insensitively.
+ * <ul>
+ *     <li>A name, phone or email matches if it contains every word of the value as a full word.</li>
+ *     <li>An address matches if it contains the value anywhere.</li>
+ *     <li>Allergy, condition and insurance tags match if the person has a tag of that category named the value.</li>
+ * </ul>
+ * Names, phones and emails are looked up through the {@link PersonSearchIndex}, by their least common word, and
+ * tags through its {@link seedu.address.model.person.PersonTagIndex}.
+ */
+public class FieldQuery extends PersonQuery {
+
+    /**
+     * The fields of a person that can be queried.
+     */
+    public enum Field {
+        NAME, PHONE, EMAIL, ADDRESS, ALLERGY, CONDITION, INSURANCE
+    }
+
+    private final Field field;
+    private final String value;
+    private final List<String> normalizedWords;
+
+    /**
+     * Creates a {@code FieldQuery} that matches persons whose {@code field} matches {@code value}.
+     */
+    public FieldQuery(Field field, String value) {
+        requireAllNonNull(field, value);
+        this.field = field;
+        this.value = value.trim();
+        this.normalizedWords = PersonSearchIndex.tokenize(value);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        switch (field) {
+        case NAME:
+            return containsAllWords(person.getName().toString());
+        case PHONE:
+            return containsAllWords(person.getPhone().toString());
+        case EMAIL:
+            return containsAllWords(person.getEmail().toString());
+        case ADDRESS:
+            return person.getAddress().toString().toLowerCase(Locale.ROOT)
+                    .contains(value.toLowerCase(Locale.ROOT));
+        case ALLERGY:
+        case CONDITION:
+        case INSURANCE:
+            return hasTagNamedValue(person.getTags(getTagCategory()));
+        default:
+            throw new AssertionError("Unknown field " + field);
+        }
+    }
+
+    private boolean containsAllWords(String fieldValue) {
+        return normalizedWords.stream().allMatch(word -> StringUtil.containsWordIgnoreCase(fieldValue, word));
+    }
+
+    private boolean hasTagNamedValue(Set<Tag> tags) {
+        return tags.stream().anyMatch(tag -> tag.tagName.equalsIgnoreCase(value));
+    }
+
+    @Override
+    public long estimateCandidateCount(PersonSearchIndex index) {
+        if (getTagCategory() != null) {
+            return index.getTagIndex().getPersonCountIgnoreCase(getTagCategory(), value);
+        }
+        if (!isWordIndexed()) {
+            return UNBOUNDED;
+        }
+        return index.getPersonCount(getLeastCommonWord(index));
+    }
+
+    @Override
+    public Optional<Set<Person>> getCandidates(PersonSearchIndex index) {
+        if (getTagCategory() != null) {
+            return Optional.of(index.getTagIndex().getPersonsWithTagIgnoreCase(getTagCategory(), value));
+        }
+        if (!isWordIndexed()) {
+            return Optional.empty();
+        }
+        return Optional.of(index.getPersonsWithAnyToken(List.of(getLeastCommonWord(index))));
+    }
+
+    /**
+     * Returns true if persons with a matching field can be looked up by its words.
+     */
+    private boolean isWordIndexed() {
+        return (field == Field.NAME || field == Field.PHONE || field == Field.EMAIL) && !normalizedWords.isEmpty();
+    }
+
+    /**
+     * Returns the category of the tags this query matches, or null if it does not match tags.
+     */
+    private TagCategory getTagCategory() {
+        switch (field) {
+        case ALLERGY:
+            return TagCategory.ALLERGY;
+        case CONDITION:
+            return TagCategory.CONDITION;
+        case INSURANCE:
+            return TagCategory.INSURANCE;
+        default:
+            return null;
+        }
+    }
+
+    private String getLeastCommonWord(PersonSearchIndex index) {
+        String leastCommonWord = normalizedWords.get(0);
+        for (String word : normalizedWords) {
+            if (index.getPersonCount(word) < index.getPersonCount(leastCommonWord)) {
+                leastCommonWord = word;
+            }
+        }
+        return leastCommonWord;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FieldQuery)) {
+            return false;
+        }
+
+        FieldQuery otherQuery = (FieldQuery) other;
+        return field == otherQuery.field && value.equals(otherQuery.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return field.hashCode() * 31 + value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("field", field).add("value", value).toString();
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.model.person.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+
+/**
+ * Matches persons that do not match its query.
+ * It has no candidates, as it may match nearly every person, so it is always tested on every person.
+ */
+public class NotQuery extends PersonQuery {
+    private final PersonQuery query;
+
+    /**
+     * Creates a {@code NotQuery} that matches persons not matching {@code query}.
+     */
+    public NotQuery(PersonQuery query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return !query.test(person);
+    }
+
+    @Override
+    public long estimateCandidateCount(PersonSearchIndex index) {
+        return UNBOUNDED;
+    }
+
+    @Override
+    public Optional<Set<Person>> getCandidates(PersonSearchIndex index) {
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NotQuery)) {
+            return false;
+        }
+
+        NotQuery otherQuery = (NotQuery) other;
+        return query.equals(otherQuery.query);
+    }
+
+    @Override
+    public int hashCode() {
+        return query.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("query", query).toString();
+    }
+}
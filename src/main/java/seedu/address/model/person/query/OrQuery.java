@@ -0,0 +1,85 @@
+package seedu.address.model.person.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+
+/**
+ * Matches persons that match any of its queries.
+ * Candidates can only be looked up through an index if they can be for every one of its queries.
+ */
+public class OrQuery extends PersonQuery {
+    private final List<PersonQuery> queries;
+
+    /**
+     * Creates an {@code OrQuery} that matches persons matching any of {@code queries}.
+     */
+    public OrQuery(List<PersonQuery> queries) {
+        requireNonNull(queries);
+        this.queries = List.copyOf(queries);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return queries.stream().anyMatch(query -> query.test(person));
+    }
+
+    @Override
+    public long estimateCandidateCount(PersonSearchIndex index) {
+        long total = 0;
+        for (PersonQuery query : queries) {
+            long count = query.estimateCandidateCount(index);
+            if (count == UNBOUNDED) {
+                return UNBOUNDED;
+            }
+            total += count;
+        }
+        return total;
+    }
+
+    @Override
+    public Optional<Set<Person>> getCandidates(PersonSearchIndex index) {
+        Set<Person> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (PersonQuery query : queries) {
+            Optional<Set<Person>> queryCandidates = query.getCandidates(index);
+            if (queryCandidates.isEmpty()) {
+                return Optional.empty();
+            }
+            candidates.addAll(queryCandidates.get());
+        }
+        return Optional.of(candidates);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof OrQuery)) {
+            return false;
+        }
+
+        OrQuery otherQuery = (OrQuery) other;
+        return queries.equals(otherQuery.queries);
+    }
+
+    @Override
+    public int hashCode() {
+        return queries.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("queries", queries).toString();
+    }
+}
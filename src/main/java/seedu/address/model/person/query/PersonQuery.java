@@ -0,0 +1,34 @@
+package seedu.address.model.person.query;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+
+/**
+ * A structured query on persons, built from clauses on single fields that are combined with AND, OR and NOT.
+ *
+ * Besides being tested against each person, a query can estimate how many persons in an indexed list could match it,
+ * and look those candidates up through the index, so that the rest of the query only has to be tested on them.
+ */
+public abstract class PersonQuery implements Predicate<Person> {
+
+    /** The estimated candidate count of a query that no index can narrow down. */
+    public static final long UNBOUNDED = Long.MAX_VALUE;
+
+    /**
+     * Returns an upper bound on the number of persons in the list indexed by {@code index} that match this query,
+     * or {@link #UNBOUNDED} if every person has to be tested.
+     */
+    public abstract long estimateCandidateCount(PersonSearchIndex index);
+
+    /**
+     * Returns the persons in the list indexed by {@code index} that could match this query, which include every
+     * person that does, or an empty {@code Optional} if every person has to be tested.
+     * The returned set compares persons by reference. It is only empty if
+     * {@link #estimateCandidateCount(PersonSearchIndex)} is {@link #UNBOUNDED}.
+     */
+    public abstract Optional<Set<Person>> getCandidates(PersonSearchIndex index);
+}
@@ -0,0 +1,95 @@
+package seedu.address.model.person.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.IndexedPersonPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+
+/**
+ * Tests that a {@code Person} matches a {@link PersonQuery}.
+ *
+ * When evaluated through a {@link PersonSearchIndex}, the query is planned first: if any index can narrow it down,
+ * its candidates are looked up through the most selective one, and the query is only tested on those candidates.
+ * The candidates are looked up once, and persons added to the list afterwards are tested directly, so that changes
+ * to a filtered list do not plan the query again.
+ */
+public class PersonQueryPredicate implements IndexedPersonPredicate {
+    private final PersonQuery query;
+
+    /**
+     * Creates a {@code PersonQueryPredicate} that matches persons matching {@code query}.
+     */
+    public PersonQueryPredicate(PersonQuery query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return query.test(person);
+    }
+
+    @Override
+    public Predicate<Person> usingIndex(PersonSearchIndex index) {
+        return new PlannedQuery(index);
+    }
+
+    @Override
+    public Optional<Set<Person>> getCandidates(PersonSearchIndex index) {
+        return query.getCandidates(index);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonQueryPredicate)) {
+            return false;
+        }
+
+        PersonQueryPredicate otherPredicate = (PersonQueryPredicate) other;
+        return query.equals(otherPredicate.query);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("query", query).toString();
+    }
+
+    /**
+     * The query planned against an indexed list when it is first tested.
+     */
+    private class PlannedQuery implements Predicate<Person> {
+        private final PersonSearchIndex index;
+        private boolean isPlanned;
+        /** The version of the index when the candidates were looked up. */
+        private long version;
+        /** The persons the query is tested on, or null if it is tested on every person. */
+        private Set<Person> candidates;
+
+        private PlannedQuery(PersonSearchIndex index) {
+            this.index = index;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            if (!isPlanned) {
+                candidates = query.getCandidates(index).orElse(null);
+                version = index.getVersion();
+                isPlanned = true;
+            }
+            // persons are immutable, so only a person added since the lookup can be missing from the candidates
+            boolean isCandidate = candidates == null || candidates.contains(person) || version != index.getVersion();
+            return isCandidate && query.test(person);
+        }
+    }
+}
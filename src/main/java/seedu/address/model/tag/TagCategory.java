@@ -0,0 +1,8 @@
+package seedu.address.model.tag;
+
+/**
+ * The categories of tags that a person can have.
+ */
+public enum TagCategory {
+    ALLERGY, CONDITION, INSURANCE
+}
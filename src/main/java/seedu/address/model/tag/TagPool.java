@@ -0,0 +1,93 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A pool of canonical {@code Tag}s, so that every person with a tag of the same name shares a single {@code Tag}
+ * object and name string, instead of each holding their own copies.
+ *
+ * The pool only holds its tags weakly, so a tag that no person has any more can be garbage collected, after which
+ * its entry is removed the next time the pool is used. The pool takes no lock of its own, so tags can be interned
+ * from several threads at once, as when a CSV file is converted in parallel.
+ */
+public class TagPool {
+
+    private static final ConcurrentMap<String, TagReference> tagsByName = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<Tag> collectedTags = new ReferenceQueue<>();
+
+    /**
+     * Returns the canonical tag named {@code tagName}, creating it if there is none yet.
+     *
+     * @throws IllegalArgumentException if {@code tagName} is not a valid tag name.
+     */
+    public static Tag intern(String tagName) {
+        requireNonNull(tagName);
+        Tag canonicalTag = get(tagName);
+        return canonicalTag != null ? canonicalTag : putIfAbsent(new Tag(tagName));
+    }
+
+    /**
+     * Returns the canonical tag equal to {@code tag}, which becomes the canonical tag if there is none yet.
+     */
+    public static Tag intern(Tag tag) {
+        requireNonNull(tag);
+        Tag canonicalTag = get(tag.tagName);
+        return canonicalTag != null ? canonicalTag : putIfAbsent(tag);
+    }
+
+    private static Tag get(String tagName) {
+        removeCollectedTags();
+        TagReference reference = tagsByName.get(tagName);
+        return reference == null ? null : reference.get();
+    }
+
+    /**
+     * Makes {@code tag} the canonical tag of its name, unless another thread has just made a tag canonical, in which
+     * case that tag is returned instead.
+     */
+    private static Tag putIfAbsent(Tag tag) {
+        TagReference reference = new TagReference(tag, collectedTags);
+        while (true) {
+            TagReference existing = tagsByName.putIfAbsent(tag.tagName, reference);
+            if (existing == null) {
+                return tag;
+            }
+            Tag canonicalTag = existing.get();
+            if (canonicalTag != null) {
+                return canonicalTag;
+            }
+            // the existing tag was collected, but its entry has not been removed yet
+            if (tagsByName.replace(tag.tagName, existing, reference)) {
+                return tag;
+            }
+        }
+    }
+
+    private static void removeCollectedTags() {
+        Reference<? extends Tag> collected;
+        while ((collected = collectedTags.poll()) != null) {
+            TagReference reference = (TagReference) collected;
+            // only if the entry has not been replaced by a newer tag of the same name
+            tagsByName.remove(reference.tagName, reference);
+        }
+    }
+
+    /**
+     * A weak reference to a tag that remembers the name it is keyed by, so that its entry can be found and removed
+     * once the tag is collected.
+     */
+    private static class TagReference extends WeakReference<Tag> {
+        private final String tagName;
+
+        TagReference(Tag tag, ReferenceQueue<Tag> queue) {
+            super(tag, queue);
+            this.tagName = tag.tagName;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * An immutable set of tags, stored compactly as an array of canonical tags sorted by name.
+ * Iterates over its tags in order of their names.
+ *
+ * Unlike a {@code HashSet}, it needs no hash table or entry per tag, and the empty set is shared. Operations that
+ * would not change the set return the set itself.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    public static final TagSet EMPTY = new TagSet(new Tag[0]);
+
+    private static final Comparator<Tag> NAME_ORDER = Comparator.comparing(tag -> tag.tagName);
+
+    private final Tag[] tags;
+
+    private TagSet(Tag[] tags) {
+        this.tags = tags;
+    }
+
+    /**
+     * Returns a {@code TagSet} of {@code tags}, which is {@code tags} itself if it already is one.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet tagSet) {
+            return tagSet;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+
+        Tag[] sortedTags = tags.stream().map(TagPool::intern).sorted(NAME_ORDER).distinct().toArray(Tag[]::new);
+        return new TagSet(sortedTags);
+    }
+
+    /**
+     * Returns a {@code TagSet} of the tags in this set and in {@code tagsToAdd}.
+     */
+    public TagSet union(Collection<Tag> tagsToAdd) {
+        requireNonNull(tagsToAdd);
+        if (containsAll(tagsToAdd)) {
+            return this;
+        }
+
+        List<Tag> unionTags = new ArrayList<>(Arrays.asList(tags));
+        unionTags.addAll(tagsToAdd);
+        return of(unionTags);
+    }
+
+    /**
+     * Returns a {@code TagSet} of the tags in this set that are not in {@code tagsToRemove}.
+     */
+    public TagSet difference(Collection<?> tagsToRemove) {
+        requireNonNull(tagsToRemove);
+        Tag[] remainingTags = Arrays.stream(tags).filter(tag -> !tagsToRemove.contains(tag)).toArray(Tag[]::new);
+        if (remainingTags.length == tags.length) {
+            return this;
+        }
+        return remainingTags.length == 0 ? EMPTY : new TagSet(remainingTags);
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        return other instanceof Tag tag && Arrays.binarySearch(tags, tag, NAME_ORDER) >= 0;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        // the iterator of a fixed-size list does not support removal
+        return Arrays.asList(tags).iterator();
+    }
+
+    @Override
+    public int size() {
+        return tags.length;
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts an address book data file between the JSON and the binary format.
+ * The format of the source file is detected from its contents, and it is converted to the other format.
+ */
+public class AddressBookFileConverter {
+
+    public static final String MESSAGE_SOURCE_NOT_FOUND = "Source file %s not found.";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookFileConverter.class);
+
+    /**
+     * Converts the address book at {@code source} to the other format, saves it to {@code target}, and returns
+     * the format it was converted to.
+     *
+     * @throws DataLoadingException if the address book at {@code source} could not be loaded.
+     * @throws IOException if {@code source} is not found, or there was any problem writing to {@code target}.
+     */
+    public static DataFileFormat convert(Path source, Path target) throws IOException, DataLoadingException {
+        requireAllNonNull(source, target);
+        if (!FileUtil.isFileExists(source)) {
+            throw new IOException(String.format(MESSAGE_SOURCE_NOT_FOUND, source));
+        }
+
+        boolean isSourceBinary = BinaryAddressBookStorage.isBinaryFile(source);
+        // changes journalled since the JSON snapshot was saved are included
+        AddressBookStorage sourceStorage = isSourceBinary
+                ? new BinaryAddressBookStorage(source)
+                : new JournalAddressBookStorage(source);
+        ReadOnlyAddressBook addressBook = sourceStorage.readAddressBook().get();
+
+        DataFileFormat targetFormat = isSourceBinary ? DataFileFormat.JSON : DataFileFormat.BINARY;
+        save(addressBook, targetFormat, target);
+        logger.info("Converted " + source + " to " + targetFormat + " file " + target);
+        return targetFormat;
+    }
+
+    /**
+     * Saves {@code addressBook} in {@code format} to {@code target}, without a journal.
+     *
+     * @throws IOException if there was any problem writing to {@code target}.
+     */
+    public static void save(ReadOnlyAddressBook addressBook, DataFileFormat format, Path target) throws IOException {
+        requireAllNonNull(addressBook, format, target);
+        AddressBookStorage targetStorage = format == DataFileFormat.BINARY
+                ? new BinaryAddressBookStorage(target)
+                : new JsonAddressBookStorage(target);
+        targetStorage.saveAddressBook(addressBook);
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Reads data files that are saved with a backup of their previous generation, as kept by
+ * {@link FileUtil#replaceAtomically}, falling back to the backup when the file itself cannot be loaded.
+ */
+class BackedUpFileReader {
+
+    private static final Logger logger = LogsCenter.getLogger(BackedUpFileReader.class);
+
+    /**
+     * Represents an operation that loads the data in a file that exists.
+     */
+    @FunctionalInterface
+    interface FileLoader<T> {
+        T load(Path filePath) throws DataLoadingException;
+    }
+
+    /**
+     * Returns the data loaded by {@code loader} from the file at {@code filePath}, or {@code Optional.empty()} if
+     * neither the file nor its backup is found.
+     * If the file is missing or cannot be loaded, but its backup is found, the backup is loaded instead.
+     *
+     * @throws DataLoadingException if neither the file nor its backup could be loaded.
+     */
+    public static <T> Optional<T> read(Path filePath, FileLoader<T> loader) throws DataLoadingException {
+        requireAllNonNull(filePath, loader);
+
+        Path backupFilePath = FileUtil.getBackupFilePath(filePath);
+        if (!Files.exists(filePath)) {
+            if (!FileUtil.isFileExists(backupFilePath)) {
+                return Optional.empty();
+            }
+            logger.warning("Data file " + filePath + " not found. Loading its backup " + backupFilePath);
+            return Optional.of(loader.load(backupFilePath));
+        }
+
+        try {
+            return Optional.of(loader.load(filePath));
+        } catch (DataLoadingException e) {
+            if (!FileUtil.isFileExists(backupFilePath)) {
+                throw e;
+            }
+            logger.warning("Data file " + filePath + " could not be loaded. Loading its backup " + backupFilePath);
+            try {
+                return Optional.of(loader.load(backupFilePath));
+            } catch (DataLoadingException backupException) {
+                e.addSuppressed(backupException);
+                throw e;
+            }
+        }
+    }
+}
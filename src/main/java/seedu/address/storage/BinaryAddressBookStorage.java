@@ -0,0 +1,253 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.EmergencyPerson;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a compact binary file on the hard disk.
+ *
+ * The file starts with a header of {@link #MAGIC_NUMBER} and the format version. It is followed by a dictionary of
+ * every distinct tag name, and then by each person, whose fields are stored as length-prefixed UTF-8 strings and
+ * whose tags are stored as indices into the dictionary. Persons are validated as they are read, in the same way as
+ * when they are read from a JSON file.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final int MAGIC_NUMBER = 0x41424B42;
+    public static final int FORMAT_VERSION = 1;
+    public static final String MESSAGE_NOT_BINARY_ADDRESS_BOOK = "File is not a binary address book.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book version %d is not supported.";
+    public static final String MESSAGE_CORRUPTED_FILE = "Binary address book is corrupted.";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} starts with the header of a binary address book.
+     *
+     * @throws IOException if the file could not be read.
+     */
+    public static boolean isBinaryFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(filePath))) {
+            return Files.size(filePath) >= Integer.BYTES && in.readInt() == MAGIC_NUMBER;
+        }
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        return BackedUpFileReader.read(filePath, this::readFile).map(ReadOnlyAddressBook.class::cast);
+    }
+
+    private AddressBook readFile(Path filePath) throws DataLoadingException {
+        logger.info("Binary file " + filePath + " found.");
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            return decodeAddressBook(in, Files.size(filePath));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    private static AddressBook decodeAddressBook(DataInputStream in, long fileSize)
+            throws IOException, IllegalValueException {
+        if (fileSize < Integer.BYTES || in.readInt() != MAGIC_NUMBER) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_ADDRESS_BOOK);
+        }
+        int version = in.readUnsignedShort();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        int tagCount = readCount(in, fileSize);
+        List<JsonAdaptedTag> tags = new ArrayList<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new JsonAdaptedTag(readString(in, fileSize)));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        int personCount = readCount(in, fileSize);
+        for (int i = 0; i < personCount; i++) {
+            Person person = readPerson(in, fileSize, tags).toModelType();
+            if (addressBook.hasPerson(person)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(person);
+        }
+        return addressBook;
+    }
+
+    private static JsonAdaptedPerson readPerson(DataInputStream in, long fileSize, List<JsonAdaptedTag> tags)
+            throws IOException, IllegalValueException {
+        String name = readString(in, fileSize);
+        String phone = readString(in, fileSize);
+        String email = readString(in, fileSize);
+        String address = readString(in, fileSize);
+        String appointment = readString(in, fileSize);
+        JsonAdaptedEmergencyPerson emergencyContact = new JsonAdaptedEmergencyPerson(
+                readString(in, fileSize), readString(in, fileSize), readString(in, fileSize));
+        List<JsonAdaptedTag> allergyTags = readTags(in, fileSize, tags);
+        List<JsonAdaptedTag> conditionTags = readTags(in, fileSize, tags);
+        List<JsonAdaptedTag> insuranceTags = readTags(in, fileSize, tags);
+
+        return new JsonAdaptedPerson(name, phone, email, address, allergyTags, conditionTags, insuranceTags,
+                appointment, emergencyContact);
+    }
+
+    private static List<JsonAdaptedTag> readTags(DataInputStream in, long fileSize, List<JsonAdaptedTag> tags)
+            throws IOException, IllegalValueException {
+        int count = readCount(in, fileSize);
+        List<JsonAdaptedTag> personTags = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int index = in.readInt();
+            if (index < 0 || index >= tags.size()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+            personTags.add(tags.get(index));
+        }
+        return personTags;
+    }
+
+    /**
+     * Reads a count of items, each of which takes up at least one byte of the file.
+     */
+    private static int readCount(DataInputStream in, long fileSize) throws IOException, IllegalValueException {
+        int count = in.readInt();
+        if (count < 0 || count > fileSize) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+        return count;
+    }
+
+    private static String readString(DataInputStream in, long fileSize) throws IOException, IllegalValueException {
+        byte[] bytes = new byte[readCount(in, fileSize)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is replaced atomically, and the file it replaces is kept as its backup.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = addressBook.getPersonList();
+        Map<String, Integer> tagIndices = new LinkedHashMap<>();
+        for (Person person : persons) {
+            for (Set<Tag> tags : getTagCategories(person)) {
+                tags.forEach(tag -> tagIndices.putIfAbsent(tag.tagName, tagIndices.size()));
+            }
+        }
+
+        FileUtil.replaceAtomically(filePath, true, out -> {
+            DataOutputStream data = new DataOutputStream(out);
+            data.writeInt(MAGIC_NUMBER);
+            data.writeShort(FORMAT_VERSION);
+
+            data.writeInt(tagIndices.size());
+            for (String tagName : tagIndices.keySet()) {
+                writeString(data, tagName);
+            }
+
+            data.writeInt(persons.size());
+            for (Person person : persons) {
+                writePerson(data, person, tagIndices);
+            }
+            data.flush();
+        });
+    }
+
+    private static void writePerson(DataOutputStream out, Person person, Map<String, Integer> tagIndices)
+            throws IOException {
+        writeString(out, person.getName().toString());
+        writeString(out, person.getPhone().toString());
+        writeString(out, person.getEmail().toString());
+        writeString(out, person.getAddress().toString());
+        writeString(out, person.getAppointment().toString());
+
+        EmergencyPerson emergencyContact = person.getEmergencyContact();
+        writeString(out, emergencyContact.getName().toString());
+        writeString(out, emergencyContact.getPhone().toString());
+        writeString(out, emergencyContact.getRelationship().toString());
+
+        for (Set<Tag> tags : getTagCategories(person)) {
+            out.writeInt(tags.size());
+            for (Tag tag : tags) {
+                out.writeInt(tagIndices.get(tag.tagName));
+            }
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Returns the tags of {@code person} in each category, in the order they are stored.
+     */
+    private static List<Set<Tag>> getTagCategories(Person person) {
+        return List.of(person.getAllergyTags(), person.getConditionTags(), person.getInsuranceTags());
+    }
+}
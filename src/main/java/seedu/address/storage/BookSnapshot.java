@@ -0,0 +1,60 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyArchivedBook;
+import seedu.address.model.person.Person;
+
+/**
+ * An immutable copy of the persons in a book, taken when the book is saved in the background.
+ * Persons are immutable, so copying the list is enough for the snapshot to be read from any thread.
+ */
+class BookSnapshot implements ReadOnlyAddressBook, ReadOnlyArchivedBook {
+
+    private final ObservableList<Person> persons;
+
+    /**
+     * Creates a snapshot of {@code persons}, which later changes to {@code persons} do not affect.
+     */
+    BookSnapshot(List<Person> persons) {
+        requireNonNull(persons);
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(persons));
+    }
+
+    /**
+     * Returns a snapshot of the persons in {@code addressBook}.
+     */
+    static BookSnapshot ofAddressBook(ReadOnlyAddressBook addressBook) {
+        return new BookSnapshot(addressBook.getPersonList());
+    }
+
+    /**
+     * Returns a snapshot of the contacts in {@code archivedBook}.
+     */
+    static BookSnapshot ofArchivedBook(ReadOnlyArchivedBook archivedBook) {
+        return new BookSnapshot(archivedBook.getArchivedContactList());
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Person> getArchivedContactList() {
+        return persons;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .toString();
+    }
+}
@@ -0,0 +1,393 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.person.EmergencyPerson;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads and writes persons as a CSV file, with one person per row under a header row of {@link #HEADER}.
+ * The tags of each category are held in a single field, separated by {@link #TAG_SEPARATOR}. Fields that contain a
+ * comma, a double quote or a line break are quoted, with any double quote in them doubled.
+ *
+ * The rows of a file are split sequentially, as a quoted field may span several lines, but converting them into
+ * persons, which validates every field, is split into chunks that are converted in parallel on the common
+ * {@link ForkJoinPool}. The file is read a batch of rows at a time, and each batch is converted while the next one is
+ * split, so only two batches are held in memory however long the file is. A row that cannot be converted is reported
+ * with its error instead of failing the whole file.
+ */
+public class CsvPersonFile {
+
+    public static final List<String> HEADER = List.of("name", "phone", "email", "address", "allergies",
+            "conditions", "insurances", "appointment", "emergency name", "emergency phone", "emergency relationship");
+    public static final String TAG_SEPARATOR = ";";
+    public static final String MESSAGE_MISSING_HEADER = "The first line must be the header: %1$s";
+    public static final String MESSAGE_UNCLOSED_QUOTE = "The quoted field starting on line %1$d is not closed.";
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "Expected %1$d fields but found %2$d.";
+
+    /** The number of rows below which a chunk is converted on its own rather than split further. */
+    static final int CHUNK_SIZE = 1024;
+
+    /** The number of rows split from the file before they are converted together. */
+    static final int BATCH_SIZE = 16 * CHUNK_SIZE;
+
+    private static final Logger logger = LogsCenter.getLogger(CsvPersonFile.class);
+
+    /**
+     * A row of a CSV file, converted into a person if it is valid.
+     */
+    public static class Row {
+        private final int lineNumber;
+        private final Person person;
+        private final String error;
+
+        private Row(int lineNumber, Person person, String error) {
+            this.lineNumber = lineNumber;
+            this.person = person;
+            this.error = error;
+        }
+
+        /**
+         * Returns the line of the file that the row starts on, counting from 1 for the header.
+         */
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        public boolean isValid() {
+            return person != null;
+        }
+
+        /**
+         * Returns the person in the row. The row must be valid.
+         */
+        public Person getPerson() {
+            assert isValid();
+            return person;
+        }
+
+        /**
+         * Returns why the row is not valid. The row must not be valid.
+         */
+        public String getError() {
+            assert !isValid();
+            return error;
+        }
+    }
+
+    /**
+     * The fields of a row as they are split from the file, before they are validated.
+     */
+    private static class RawRow {
+        private final int lineNumber;
+        private final List<String> fields;
+
+        private RawRow(int lineNumber, List<String> fields) {
+            this.lineNumber = lineNumber;
+            this.fields = fields;
+        }
+    }
+
+    /**
+     * Splits CSV text into rows of fields one row at a time, keeping the line each row starts on.
+     * Blank lines are skipped.
+     */
+    private static class RowSplitter {
+        private final BufferedReader reader;
+        private int lineNumber = 1;
+
+        private RowSplitter(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * Returns the next row, or null if there are no more rows.
+         *
+         * @throws IllegalValueException if a quoted field is not closed.
+         */
+        private RawRow next() throws IOException, IllegalValueException {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean isInQuotes = false;
+            int rowLineNumber = lineNumber;
+
+            int c;
+            while ((c = reader.read()) != -1) {
+                if (isInQuotes) {
+                    if (c != '"') {
+                        lineNumber += c == '\n' ? 1 : 0;
+                        field.append((char) c);
+                    } else if (isNext(reader, '"')) {
+                        field.append('"');
+                    } else {
+                        isInQuotes = false;
+                    }
+                    continue;
+                }
+
+                switch (c) {
+                case '"':
+                    // a quote inside an unquoted field is kept as it is
+                    isInQuotes = field.length() == 0;
+                    if (!isInQuotes) {
+                        field.append('"');
+                    }
+                    break;
+                case ',':
+                    fields.add(field.toString());
+                    field.setLength(0);
+                    break;
+                case '\r':
+                    break;
+                case '\n':
+                    lineNumber++;
+                    fields.add(field.toString());
+                    if (!isBlank(fields)) {
+                        return new RawRow(rowLineNumber, fields);
+                    }
+                    fields = new ArrayList<>();
+                    field.setLength(0);
+                    rowLineNumber = lineNumber;
+                    break;
+                default:
+                    field.append((char) c);
+                }
+            }
+
+            if (isInQuotes) {
+                throw new IllegalValueException(String.format(MESSAGE_UNCLOSED_QUOTE, rowLineNumber));
+            }
+            fields.add(field.toString());
+            return isBlank(fields) ? null : new RawRow(rowLineNumber, fields);
+        }
+
+        /**
+         * Returns up to {@code count} next rows, which are fewer only at the end of the text.
+         */
+        private List<RawRow> next(int count) throws IOException, IllegalValueException {
+            List<RawRow> rows = new ArrayList<>(count);
+            RawRow row;
+            while (rows.size() < count && (row = next()) != null) {
+                rows.add(row);
+            }
+            return rows;
+        }
+
+        private static boolean isBlank(List<String> fields) {
+            return fields.size() == 1 && fields.get(0).isBlank();
+        }
+    }
+
+    /**
+     * Converts a range of raw rows into rows, splitting the range in half until it is at most {@link #CHUNK_SIZE}
+     * rows long. Each row is converted into its own slot of {@code rows}, so the chunks need no merging.
+     */
+    private static class ConversionTask extends RecursiveAction {
+        private final List<RawRow> rawRows;
+        private final Row[] rows;
+        private final int from;
+        private final int to;
+
+        private ConversionTask(List<RawRow> rawRows, Row[] rows, int from, int to) {
+            this.rawRows = rawRows;
+            this.rows = rows;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                for (int i = from; i < to; i++) {
+                    rows[i] = toRow(rawRows.get(i));
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ConversionTask(rawRows, rows, from, middle), new ConversionTask(rawRows, rows, middle, to));
+        }
+    }
+
+    /**
+     * Reads the persons in the CSV file at {@code filePath}, passing each row to {@code rowHandler} in the order they
+     * are listed, on the calling thread. Blank lines are skipped.
+     * If the file cannot be read to the end, the rows before the failure may already have been handled.
+     *
+     * @throws IOException if the file could not be read.
+     * @throws IllegalValueException if the file does not start with the header, or a quoted field is not closed.
+     */
+    public static void read(Path filePath, Consumer<Row> rowHandler) throws IOException, IllegalValueException {
+        requireAllNonNull(filePath, rowHandler);
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            RowSplitter splitter = new RowSplitter(reader);
+            RawRow header = splitter.next();
+            if (header == null || !isHeader(header.fields)) {
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_HEADER, String.join(",", HEADER)));
+            }
+
+            int rowCount = 0;
+            ForkJoinTask<Row[]> converting = null;
+            List<RawRow> batch;
+            while (!(batch = splitter.next(BATCH_SIZE)).isEmpty()) {
+                ForkJoinTask<Row[]> next = ForkJoinPool.commonPool().submit(toConversion(batch));
+                if (converting != null) {
+                    rowCount += handle(converting.join(), rowHandler);
+                }
+                converting = next;
+            }
+            if (converting != null) {
+                rowCount += handle(converting.join(), rowHandler);
+            }
+            logger.fine("Read " + rowCount + " rows from " + filePath);
+        }
+    }
+
+    /**
+     * Returns a task that converts {@code rawRows} in parallel, and returns the rows in the same order.
+     */
+    private static Callable<Row[]> toConversion(List<RawRow> rawRows) {
+        return () -> {
+            Row[] rows = new Row[rawRows.size()];
+            new ConversionTask(rawRows, rows, 0, rows.length).invoke();
+            return rows;
+        };
+    }
+
+    private static int handle(Row[] rows, Consumer<Row> rowHandler) {
+        for (Row row : rows) {
+            rowHandler.accept(row);
+        }
+        return rows.length;
+    }
+
+    /**
+     * Writes {@code persons} to a CSV file at {@code filePath}, replacing the file atomically if it exists.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public static void write(Path filePath, List<Person> persons) throws IOException {
+        requireAllNonNull(filePath, persons);
+        FileUtil.replaceAtomically(filePath, false, out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writeRow(writer, HEADER);
+            for (Person person : persons) {
+                writeRow(writer, toFields(person));
+            }
+            writer.flush();
+        });
+    }
+
+    /**
+     * Returns true, and consumes the character, if the next character of {@code reader} is {@code expected}.
+     */
+    private static boolean isNext(Reader reader, char expected) throws IOException {
+        reader.mark(1);
+        if (reader.read() == expected) {
+            return true;
+        }
+        reader.reset();
+        return false;
+    }
+
+    private static boolean isHeader(List<String> fields) {
+        if (fields.size() != HEADER.size()) {
+            return false;
+        }
+        for (int i = 0; i < fields.size(); i++) {
+            if (!fields.get(i).trim().equalsIgnoreCase(HEADER.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Converts {@code rawRow} into a person, validating every field as when a person is read from a JSON file.
+     */
+    private static Row toRow(RawRow rawRow) {
+        List<String> fields = rawRow.fields.stream().map(String::trim).toList();
+        if (fields.size() != HEADER.size()) {
+            return new Row(rawRow.lineNumber, null,
+                    String.format(MESSAGE_WRONG_FIELD_COUNT, HEADER.size(), fields.size()));
+        }
+
+        boolean hasEmergencyContact = !(fields.get(8).isEmpty() && fields.get(9).isEmpty()
+                && fields.get(10).isEmpty());
+        JsonAdaptedPerson adaptedPerson = new JsonAdaptedPerson(fields.get(0), fields.get(1), fields.get(2),
+                fields.get(3), toTags(fields.get(4)), toTags(fields.get(5)), toTags(fields.get(6)), fields.get(7),
+                hasEmergencyContact
+                        ? new JsonAdaptedEmergencyPerson(fields.get(8), fields.get(9), fields.get(10))
+                        : null);
+        try {
+            return new Row(rawRow.lineNumber, adaptedPerson.toModelType(), null);
+        } catch (IllegalValueException ive) {
+            return new Row(rawRow.lineNumber, null, ive.getMessage());
+        }
+    }
+
+    private static List<JsonAdaptedTag> toTags(String field) {
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+        for (String tagName : field.split(TAG_SEPARATOR)) {
+            if (!tagName.isBlank()) {
+                tags.add(new JsonAdaptedTag(tagName.trim()));
+            }
+        }
+        return tags;
+    }
+
+    private static List<String> toFields(Person person) {
+        EmergencyPerson emergencyContact = person.getEmergencyContact();
+        boolean hasEmergencyContact = !emergencyContact.equals(Person.NIL_EMERGENCY_CONTACT);
+        return List.of(person.getName().toString(), person.getPhone().toString(), person.getEmail().toString(),
+                person.getAddress().toString(), toField(person.getAllergyTags()),
+                toField(person.getConditionTags()), toField(person.getInsuranceTags()),
+                person.getAppointment().toString(),
+                hasEmergencyContact ? emergencyContact.getName().toString() : "",
+                hasEmergencyContact ? emergencyContact.getPhone().toString() : "",
+                hasEmergencyContact ? emergencyContact.getRelationship().toString() : "");
+    }
+
+    private static String toField(Set<Tag> tags) {
+        return String.join(TAG_SEPARATOR, tags.stream().map(tag -> tag.tagName).sorted().toList());
+    }
+
+    private static void writeRow(Writer writer, List<String> fields) throws IOException {
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(quoteIfNeeded(fields.get(i)));
+        }
+        writer.write('\n');
+    }
+
+    private static String quoteIfNeeded(String field) {
+        if (field.chars().noneMatch(c -> c == ',' || c == '"' || c == '\n' || c == '\r')) {
+            return field;
+        }
+        return '"' + field.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot file on the hard disk, together with a journal of
+ * the changes made since the snapshot was saved.
+ * Saving only appends the persons that changed to the journal, and the snapshot is rewritten only when the journal
+ * is compacted. Data saved to any other file path is saved as a plain json file.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    private final Path filePath;
+    private final JsonAddressBookStorage snapshotStorage;
+    private final PersonListJournal journal;
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} with its snapshot at {@code filePath}.
+     */
+    public JournalAddressBookStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.snapshotStorage = new JsonAddressBookStorage(filePath);
+        this.journal = new PersonListJournal(filePath);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            return snapshotStorage.readAddressBook(filePath);
+        }
+        return BackedUpFileReader.read(filePath, this::readAddressBookWithJournal);
+    }
+
+    /**
+     * Reads the snapshot in {@code snapshotFile}, which is either the snapshot file or its backup, and replays the
+     * journal on it.
+     */
+    private ReadOnlyAddressBook readAddressBookWithJournal(Path snapshotFile) throws DataLoadingException {
+        ReadOnlyAddressBook snapshot = snapshotStorage.readAddressBookFile(snapshotFile);
+        List<Person> persons = journal.replay(snapshot.getPersonList(), snapshotFile);
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            throw new DataLoadingException(
+                    new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        }
+        return addressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        if (!journal.append(addressBook.getPersonList())) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            journal.restart(addressBook.getPersonList());
+        }
+    }
+}
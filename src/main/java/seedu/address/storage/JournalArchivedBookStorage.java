@@ -0,0 +1,96 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ArchivedBook;
+import seedu.address.model.ReadOnlyArchivedBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access archived contacts stored as a JSON snapshot file on the hard disk, together with a journal of
+ * the changes made since the snapshot was saved.
+ *
+ * @see JournalAddressBookStorage
+ */
+public class JournalArchivedBookStorage implements ArchivedBookStorage {
+
+    private final Path filePath;
+    private final JsonArchivedBookStorage snapshotStorage;
+    private final PersonListJournal journal;
+
+    /**
+     * Creates a {@code JournalArchivedBookStorage} with its snapshot at {@code filePath}.
+     */
+    public JournalArchivedBookStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.snapshotStorage = new JsonArchivedBookStorage(filePath);
+        this.journal = new PersonListJournal(filePath);
+    }
+
+    @Override
+    public Path getArchivedContactsFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyArchivedBook> readArchivedContacts() throws DataLoadingException {
+        return readArchivedContacts(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyArchivedBook> readArchivedContacts(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            return snapshotStorage.readArchivedContacts(filePath);
+        }
+        return BackedUpFileReader.read(filePath, this::readArchivedContactsWithJournal);
+    }
+
+    /**
+     * Reads the snapshot in {@code snapshotFile}, which is either the snapshot file or its backup, and replays the
+     * journal on it.
+     */
+    private ReadOnlyArchivedBook readArchivedContactsWithJournal(Path snapshotFile) throws DataLoadingException {
+        ReadOnlyArchivedBook snapshot = snapshotStorage.readArchivedContactsFile(snapshotFile);
+        List<Person> persons = journal.replay(snapshot.getArchivedContactList(), snapshotFile);
+        ArchivedBook archivedBook = new ArchivedBook();
+        try {
+            archivedBook.setPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            throw new DataLoadingException(
+                    new IllegalValueException(JsonSerializableArchivedBook.MESSAGE_DUPLICATE_PERSON));
+        }
+        return archivedBook;
+    }
+
+    @Override
+    public void saveArchivedContacts(ReadOnlyArchivedBook archivedBook) throws IOException {
+        saveArchivedContacts(archivedBook, filePath);
+    }
+
+    @Override
+    public void saveArchivedContacts(ReadOnlyArchivedBook archivedBook, Path filePath) throws IOException {
+        requireNonNull(archivedBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            snapshotStorage.saveArchivedContacts(archivedBook, filePath);
+            return;
+        }
+
+        if (!journal.append(archivedBook.getArchivedContactList())) {
+            snapshotStorage.saveArchivedContacts(archivedBook, filePath);
+            journal.restart(archivedBook.getArchivedContactList());
+        }
+    }
+}
@@ -149,7 +149,7 @@ class JsonAdaptedPerson {
                     String.format(MISSING_FIELD_MESSAGE_FORMAT, Appointment.class.getSimpleName()));
         }
 
-        if ((appointment != "") && !Appointment.isValid(appointment)) {
+        if (!appointment.isEmpty() && !Appointment.isValid(appointment)) {
             throw new IllegalValueException(Appointment.MESSAGE_CONSTRAINTS);
         }
         final Appointment modelAppointment = new Appointment(appointment);
@@ -0,0 +1,72 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a change to a list of persons, as recorded in a {@link JsonJournalRecord}.
+ * The change replaces {@code removedCount} persons starting at {@code index} with the {@code added} persons.
+ */
+class JsonAdaptedSplice {
+
+    public static final String MESSAGE_INVALID_SPLICE = "Journal record does not fit the persons list.";
+
+    private final int index;
+    private final int removedCount;
+    private final List<JsonAdaptedPerson> added = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedSplice} with the given change.
+     */
+    @JsonCreator
+    public JsonAdaptedSplice(@JsonProperty("index") int index, @JsonProperty("removedCount") int removedCount,
+            @JsonProperty("added") List<JsonAdaptedPerson> added) {
+        this.index = index;
+        this.removedCount = removedCount;
+        if (added != null) {
+            this.added.addAll(added);
+        }
+    }
+
+    /**
+     * Returns the number of persons in a list of {@code size} persons once this change is applied to it.
+     *
+     * @throws IllegalValueException if the change does not fit a list of {@code size} persons.
+     */
+    public int getSizeAfter(int size) throws IllegalValueException {
+        if (index < 0 || removedCount < 0 || index + removedCount > size) {
+            throw new IllegalValueException(MESSAGE_INVALID_SPLICE);
+        }
+        return size - removedCount + added.size();
+    }
+
+    /**
+     * Returns the persons added by this change.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the added persons.
+     */
+    public List<Person> getAddedPersons() throws IllegalValueException {
+        List<Person> addedPersons = new ArrayList<>();
+        for (JsonAdaptedPerson jsonAdaptedPerson : added) {
+            addedPersons.add(jsonAdaptedPerson.toModelType());
+        }
+        return addedPersons;
+    }
+
+    /**
+     * Applies this change to {@code persons}, adding {@code addedPersons}, as returned by
+     * {@link #getAddedPersons()}. The change must fit {@code persons}.
+     */
+    public void applyTo(List<Person> persons, List<Person> addedPersons) {
+        assert index + removedCount <= persons.size();
+        List<Person> changedRange = persons.subList(index, index + removedCount);
+        changedRange.clear();
+        changedRange.addAll(addedPersons);
+    }
+}
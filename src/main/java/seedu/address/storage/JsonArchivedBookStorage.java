@@ -5,21 +5,16 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
-import java.util.logging.Logger;
 
-import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ArchivedBook;
 import seedu.address.model.ReadOnlyArchivedBook;
 
 /**
  * A class to access archived contacts stored as a JSON file on the hard disk.
  */
 public class JsonArchivedBookStorage implements ArchivedBookStorage {
-    private static final Logger logger = LogsCenter.getLogger(JsonArchivedBookStorage.class);
-
     private final Path filePath;
 
     public JsonArchivedBookStorage(Path filePath) {
@@ -46,18 +41,22 @@ public class JsonArchivedBookStorage implements ArchivedBookStorage {
     public Optional<ReadOnlyArchivedBook> readArchivedContacts(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableArchivedBook> jsonArchivedBook = JsonUtil.readJsonFile(
-            filePath, JsonSerializableArchivedBook.class);
-        if (!jsonArchivedBook.isPresent()) {
-            return Optional.empty();
-        }
+        return BackedUpFileReader.read(filePath, this::readArchivedContactsFile);
+    }
 
-        try {
-            return Optional.of(jsonArchivedBook.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataLoadingException(ive);
-        }
+    /**
+     * Reads the archived contacts in the file at {@code filePath}, which must exist, without falling back to its
+     * backup.
+     *
+     * @throws DataLoadingException if loading the data from the file failed.
+     */
+    ReadOnlyArchivedBook readArchivedContactsFile(Path filePath) throws DataLoadingException {
+        return JsonPersonListFile.readFile(filePath, new ArchivedBook(), (archivedBook, person) -> {
+            if (archivedBook.hasPerson(person)) {
+                throw new IllegalValueException(JsonSerializableArchivedBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            archivedBook.addArchivedPerson(person);
+        });
     }
 
     @Override
@@ -75,7 +74,6 @@ public class JsonArchivedBookStorage implements ArchivedBookStorage {
         requireNonNull(archivedBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableArchivedBook(archivedBook), filePath);
+        JsonPersonListFile.write(filePath, archivedBook.getArchivedContactList());
     }
 }
@@ -0,0 +1,25 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of the first line of a {@link PersonListJournal}, which identifies the snapshot that the
+ * journal records changes to.
+ */
+class JsonJournalHeader {
+
+    private final long snapshotChecksum;
+
+    /**
+     * Constructs a {@code JsonJournalHeader} for the snapshot with the given checksum.
+     */
+    @JsonCreator
+    public JsonJournalHeader(@JsonProperty("snapshotChecksum") long snapshotChecksum) {
+        this.snapshotChecksum = snapshotChecksum;
+    }
+
+    public long getSnapshotChecksum() {
+        return snapshotChecksum;
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of the changes made to a list of persons between two saves, as recorded in a
+ * {@link PersonListJournal}.
+ */
+class JsonJournalRecord {
+
+    private final List<JsonAdaptedSplice> splices = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonJournalRecord} with the given changes, in the order they are to be applied.
+     */
+    @JsonCreator
+    public JsonJournalRecord(@JsonProperty("splices") List<JsonAdaptedSplice> splices) {
+        if (splices != null) {
+            this.splices.addAll(splices);
+        }
+    }
+
+    /**
+     * Applies every change in this record to {@code persons}, in order.
+     * Every change is checked before any is applied, so {@code persons} is unchanged if this throws.
+     *
+     * @throws IllegalValueException if any change does not fit {@code persons}, or if there were any data
+     *     constraints violated in the added persons.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        int size = persons.size();
+        List<List<Person>> addedPersons = new ArrayList<>();
+        for (JsonAdaptedSplice splice : splices) {
+            size = splice.getSizeAfter(size);
+            addedPersons.add(splice.getAddedPersons());
+        }
+
+        for (int i = 0; i < splices.size(); i++) {
+            splices.get(i).applyTo(persons, addedPersons.get(i));
+        }
+    }
+}
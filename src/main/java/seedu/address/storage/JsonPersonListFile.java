@@ -0,0 +1,119 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads and writes a JSON file holding a list of persons, in the same format as {@link JsonSerializableAddressBook}
+ * and {@link JsonSerializableArchivedBook}.
+ *
+ * Persons are streamed to and from the file one at a time, so neither the file contents nor the full list of
+ * {@link JsonAdaptedPerson}s is ever held in memory. Files are replaced atomically when saved, and the previous
+ * generation is kept as a backup.
+ */
+class JsonPersonListFile {
+
+    public static final String PERSONS_FIELD = "persons";
+    public static final String MESSAGE_NOT_A_PERSON_LIST = "Expected an object with a list of persons";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonPersonListFile.class);
+
+    /**
+     * Represents an operation that adds each person read from a file to a list, and that may reject it.
+     */
+    @FunctionalInterface
+    interface PersonAdder<T> {
+        void add(T persons, Person person) throws IllegalValueException;
+    }
+
+    /**
+     * Returns {@code persons} with every person in the file at {@code filePath}, which must exist, added to it in
+     * order by {@code adder}. Its backup is never read here, as callers read the file through
+     * {@link BackedUpFileReader}, which decides which of the two to read.
+     *
+     * @throws DataLoadingException if the file could not be read, if it is not a valid list of persons, or if
+     *     {@code adder} rejected any person.
+     */
+    public static <T> T readFile(Path filePath, T persons, PersonAdder<T> adder) throws DataLoadingException {
+        requireAllNonNull(filePath, persons, adder);
+        logger.info("JSON file " + filePath + " found.");
+
+        try (JsonParser parser = JsonUtil.createParser(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            readPersons(parser, persons, adder);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+        return persons;
+    }
+
+    private static <T> void readPersons(JsonParser parser, T persons, PersonAdder<T> adder)
+            throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, MESSAGE_NOT_A_PERSON_LIST);
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (!PERSONS_FIELD.equals(fieldName) || value == JsonToken.VALUE_NULL) {
+                // unknown fields are ignored, as when the file is bound to a class
+                parser.skipChildren();
+                continue;
+            }
+            if (value != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, MESSAGE_NOT_A_PERSON_LIST);
+            }
+
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                adder.add(persons, parser.readValueAs(JsonAdaptedPerson.class).toModelType());
+            }
+            if (parser.getCurrentToken() != JsonToken.END_ARRAY) {
+                throw new JsonParseException(parser, MESSAGE_NOT_A_PERSON_LIST);
+            }
+        }
+    }
+
+    /**
+     * Writes {@code persons} to the file at {@code filePath}, one at a time.
+     * The file is replaced atomically, and the file it replaces is kept as its backup.
+     *
+     * @throws IOException if there was any problem writing to the file, in which case the file is unchanged.
+     */
+    public static void write(Path filePath, List<Person> persons) throws IOException {
+        requireAllNonNull(filePath, persons);
+
+        FileUtil.replaceAtomically(filePath, true, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+                generator.writeStartObject();
+                generator.writeArrayFieldStart(PERSONS_FIELD);
+                for (Person person : persons) {
+                    generator.writeObject(new JsonAdaptedPerson(person));
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        });
+    }
+}
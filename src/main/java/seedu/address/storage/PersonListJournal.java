@@ -0,0 +1,396 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * An append-only journal of the changes made to a list of persons since it was last saved as a full snapshot.
+ *
+ * The journal is stored next to the snapshot file. Its first line identifies the snapshot by its checksum, and every
+ * following line is a {@link JsonJournalRecord} describing the persons changed by one save. Records are synced to
+ * disk in batches of {@link #SYNC_BATCH_SIZE}, and a new snapshot should be saved once the journal holds
+ * {@link #COMPACTION_THRESHOLD} records.
+ *
+ * A journal whose checksum does not match the snapshot, e.g. because saving a snapshot was interrupted before the
+ * journal could be restarted, is ignored. The journal is replayed on the backup of the snapshot if that is what was
+ * loaded, so a journal that was not yet restarted still applies to the snapshot it was started from. An incomplete
+ * last record, e.g. from a crash while appending it, is discarded, and so is a record that cannot be replayed,
+ * together with every record after it, while the records before it are kept.
+ */
+class PersonListJournal {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int SYNC_BATCH_SIZE = 16;
+    public static final int COMPACTION_THRESHOLD = 256;
+
+    private static final Logger logger = LogsCenter.getLogger(PersonListJournal.class);
+    private static final byte LINE_SEPARATOR = '\n';
+
+    private final Path snapshotFile;
+    private final Path journalFile;
+
+    /** The persons as of the last save, or null if they may differ from what is stored. */
+    private List<Person> lastSavedPersons;
+    private FileChannel channel;
+    private int recordCount;
+    private int unsyncedRecordCount;
+
+    /**
+     * Creates a {@code PersonListJournal} that records changes to the snapshot saved at {@code snapshotFile}.
+     */
+    public PersonListJournal(Path snapshotFile) {
+        requireNonNull(snapshotFile);
+        this.snapshotFile = snapshotFile;
+        this.journalFile = snapshotFile.resolveSibling(snapshotFile.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    public Path getJournalFilePath() {
+        return journalFile;
+    }
+
+    /**
+     * Returns the persons in {@code snapshotPersons}, read from {@code loadedFile}, with every record in the journal
+     * applied to them in order. {@code loadedFile} is either the snapshot file or its backup, and the journal is
+     * only replayed if it was started from that file.
+     *
+     * If the backup was loaded, the snapshot file is missing or damaged, so the next save writes a full snapshot.
+     *
+     * A record that cannot be replayed is discarded from the journal, together with every record after it.
+     *
+     * @throws DataLoadingException if the journal could not be read or truncated.
+     */
+    public List<Person> replay(List<Person> snapshotPersons, Path loadedFile) throws DataLoadingException {
+        requireAllNonNull(snapshotPersons, loadedFile);
+        close();
+        lastSavedPersons = null;
+        recordCount = 0;
+
+        List<Person> persons = new ArrayList<>(snapshotPersons);
+        boolean isSnapshotLoaded = loadedFile.equals(snapshotFile);
+        if (!FileUtil.isFileExists(journalFile)) {
+            lastSavedPersons = isSnapshotLoaded ? new ArrayList<>(persons) : null;
+            return persons;
+        }
+
+        long snapshotChecksum;
+        long replayedLength;
+        try {
+            snapshotChecksum = getChecksum(loadedFile);
+            try (JournalReader reader = new JournalReader(journalFile)) {
+                String header = reader.readLine();
+                if (header == null || !isHeaderOf(header, snapshotChecksum, loadedFile)) {
+                    // the journal is rewritten with the next save, as the persons stored are unknown
+                    return persons;
+                }
+                replayedLength = replayRecords(reader, persons);
+            }
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal file " + journalFile + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+
+        try {
+            if (replayedLength < Files.size(journalFile)) {
+                try (FileChannel truncatingChannel = FileChannel.open(journalFile, StandardOpenOption.WRITE)) {
+                    truncatingChannel.truncate(replayedLength);
+                }
+            }
+        } catch (IOException ioe) {
+            logger.warning("Error truncating journal file " + journalFile + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+
+        logger.info("Replayed " + recordCount + " records from journal file " + journalFile + " on " + loadedFile);
+        lastSavedPersons = isSnapshotLoaded ? new ArrayList<>(persons) : null;
+        return persons;
+    }
+
+    /**
+     * Returns true if {@code header} is the header of a journal started from a snapshot with {@code checksum}.
+     */
+    private boolean isHeaderOf(String header, long checksum, Path loadedFile) {
+        try {
+            if (JsonUtil.fromJsonString(header, JsonJournalHeader.class).getSnapshotChecksum() == checksum) {
+                return true;
+            }
+            logger.warning("Ignoring journal file " + journalFile + " as it does not match " + loadedFile);
+        } catch (IOException ioe) {
+            logger.warning("Ignoring journal file " + journalFile + " as its header could not be read: " + ioe);
+        }
+        return false;
+    }
+
+    /**
+     * Applies the records read by {@code reader} to {@code persons} in order, and returns the length of the journal
+     * file up to the end of the last record applied.
+     * Replaying stops at the first record that cannot be applied, as the records after it were made on top of it,
+     * and the records before it are kept.
+     *
+     * @throws IOException if the journal file could not be read.
+     */
+    private long replayRecords(JournalReader reader, List<Person> persons) throws IOException {
+        long replayedLength = reader.getPosition();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            try {
+                JsonUtil.fromJsonString(line, JsonJournalRecord.class).applyTo(persons);
+            } catch (IOException | IllegalValueException e) {
+                logger.warning("Discarding journal file " + journalFile + " from record " + (recordCount + 1)
+                        + ", which could not be replayed: " + e);
+                return replayedLength;
+            }
+            recordCount++;
+            replayedLength = reader.getPosition();
+        }
+
+        if (reader.hasIncompleteLine()) {
+            logger.warning("Discarding incomplete last record in journal file " + journalFile);
+        }
+        return replayedLength;
+    }
+
+    /**
+     * Appends the changes made since the last save to get {@code persons} as a single record.
+     * Nothing is written if {@code persons} has not changed.
+     *
+     * Returns false without writing anything if a full snapshot should be saved instead, either because the
+     * persons last saved are not known, the journal is due for compaction, or the changes are too large for the
+     * journal to be worthwhile. {@link #restart(List)} must be called once the snapshot is saved.
+     *
+     * @throws IOException if there was any problem writing to the journal file.
+     */
+    public boolean append(List<Person> persons) throws IOException {
+        requireNonNull(persons);
+        if (lastSavedPersons == null || recordCount >= COMPACTION_THRESHOLD) {
+            return false;
+        }
+
+        List<JsonAdaptedSplice> splices = getSplices(lastSavedPersons, persons);
+        if (splices == null) {
+            return false;
+        }
+        if (splices.isEmpty()) {
+            return true;
+        }
+
+        JsonJournalRecord record = new JsonJournalRecord(splices);
+        write(JsonUtil.toCompactJsonString(record));
+        lastSavedPersons = new ArrayList<>(persons);
+        recordCount++;
+        return true;
+    }
+
+    /**
+     * Starts an empty journal for the snapshot of {@code persons} that was just saved to the snapshot file.
+     *
+     * @throws IOException if there was any problem writing to the journal file.
+     */
+    public void restart(List<Person> persons) throws IOException {
+        requireNonNull(persons);
+        close();
+        lastSavedPersons = null;
+
+        String header = JsonUtil.toCompactJsonString(new JsonJournalHeader(getChecksum(snapshotFile)));
+        FileUtil.createParentDirsOfFile(journalFile);
+        channel = FileChannel.open(journalFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        write(header);
+        sync();
+
+        lastSavedPersons = new ArrayList<>(persons);
+        recordCount = 0;
+    }
+
+    /**
+     * Forces every record appended so far to be written to disk.
+     *
+     * @throws IOException if there was any problem writing to the journal file.
+     */
+    public void sync() throws IOException {
+        if (channel != null && unsyncedRecordCount > 0) {
+            channel.force(false);
+            unsyncedRecordCount = 0;
+        }
+    }
+
+    private void write(String line) throws IOException {
+        if (channel == null) {
+            if (!FileUtil.isFileExists(journalFile)) {
+                // the snapshot was read without a journal, so it is exactly what was last saved
+                restart(lastSavedPersons);
+            } else {
+                channel = FileChannel.open(journalFile, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            }
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap((line + (char) LINE_SEPARATOR).getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        unsyncedRecordCount++;
+        if (unsyncedRecordCount >= SYNC_BATCH_SIZE) {
+            sync();
+        }
+    }
+
+    private void close() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            sync();
+            channel.close();
+        } catch (IOException ioe) {
+            logger.warning("Error closing journal file " + journalFile + ": " + ioe);
+        }
+        channel = null;
+        unsyncedRecordCount = 0;
+    }
+
+    /**
+     * Returns the changes that turn {@code original} into {@code updated}, or null if persons were reordered or
+     * most of {@code updated} is new, in which case a snapshot should be saved instead.
+     * Persons are immutable, so persons that were not changed are the very same objects in both lists.
+     */
+    private static List<JsonAdaptedSplice> getSplices(List<Person> original, List<Person> updated) {
+        int start = 0;
+        int maxUnchanged = Math.min(original.size(), updated.size());
+        while (start < maxUnchanged && original.get(start) == updated.get(start)) {
+            start++;
+        }
+        int originalEnd = original.size();
+        int updatedEnd = updated.size();
+        while (originalEnd > start && updatedEnd > start
+                && original.get(originalEnd - 1) == updated.get(updatedEnd - 1)) {
+            originalEnd--;
+            updatedEnd--;
+        }
+
+        // only the persons between the unchanged ends need to be looked up
+        Set<Person> originalPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        originalPersons.addAll(original.subList(start, originalEnd));
+        Set<Person> updatedPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        updatedPersons.addAll(updated.subList(start, updatedEnd));
+
+        List<JsonAdaptedSplice> splices = new ArrayList<>();
+        int addedCount = 0;
+        int i = start;
+        int j = start;
+        while (i < originalEnd || j < updatedEnd) {
+            if (i < originalEnd && j < updatedEnd && original.get(i) == updated.get(j)) {
+                i++;
+                j++;
+                continue;
+            }
+
+            int removedStart = i;
+            while (i < originalEnd && !updatedPersons.contains(original.get(i))) {
+                i++;
+            }
+            int addedStart = j;
+            while (j < updatedEnd && !originalPersons.contains(updated.get(j))) {
+                j++;
+            }
+            if (i == removedStart && j == addedStart) {
+                return null;
+            }
+
+            // the persons before j are already in their updated positions when this splice is applied
+            splices.add(new JsonAdaptedSplice(addedStart, i - removedStart,
+                    updated.subList(addedStart, j).stream().map(JsonAdaptedPerson::new).toList()));
+            addedCount += j - addedStart;
+        }
+
+        return addedCount > updated.size() / 2 ? null : splices;
+    }
+
+    /**
+     * Returns the CRC-32 checksum of {@code file}, which is read a buffer at a time.
+     */
+    private static long getChecksum(Path file) throws IOException {
+        try (CheckedInputStream in = new CheckedInputStream(
+                new BufferedInputStream(Files.newInputStream(file)), new CRC32())) {
+            in.transferTo(OutputStream.nullOutputStream());
+            return in.getChecksum().getValue();
+        }
+    }
+
+    /**
+     * Reads the complete lines of a journal file one at a time, so that only one record is held in memory.
+     * A line separator byte never occurs within a multi-byte UTF-8 character, so lines are split on bytes.
+     */
+    private static class JournalReader implements Closeable {
+        private final InputStream in;
+        private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+        private long position;
+        private boolean hasIncompleteLine;
+
+        private JournalReader(Path file) throws IOException {
+            this.in = new BufferedInputStream(Files.newInputStream(file));
+        }
+
+        /**
+         * Returns the next line without its separator, or null if there are no more complete lines.
+         */
+        private String readLine() throws IOException {
+            line.reset();
+            int b;
+            while ((b = in.read()) != -1) {
+                if (b == LINE_SEPARATOR) {
+                    position += line.size() + 1;
+                    return line.toString(StandardCharsets.UTF_8);
+                }
+                line.write(b);
+            }
+            hasIncompleteLine = line.size() > 0;
+            return null;
+        }
+
+        /**
+         * Returns the length of the file up to the end of the last line read.
+         */
+        private long getPosition() {
+            return position;
+        }
+
+        /**
+         * Returns true if the file ends with a line that has no separator, e.g. from a crash while appending it.
+         */
+        private boolean hasIncompleteLine() {
+            return hasIncompleteLine;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
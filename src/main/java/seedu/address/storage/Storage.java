@@ -2,13 +2,18 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.ObjIntConsumer;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyArchivedBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 
 /**
  * API of the Storage component
@@ -41,4 +46,52 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage, ArchivedB
 
     @Override
     void saveArchivedContacts(ReadOnlyArchivedBook archivedAddressBook, Path filePath) throws IOException;
+
+    /**
+     * Waits until every book saved so far has been written.
+     * @throws IOException if there was any problem writing a book that has not been reported yet.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Reports a failure to write a book in the background, without waiting for the books still being written.
+     * Each failure is only reported once.
+     * @throws IOException naming the file that could not be written, if such a failure has not been reported yet.
+     */
+    void checkBackgroundSaves() throws IOException;
+
+    /**
+     * Converts the address book data file at {@code source} to the other format, saves it to {@code target}, and
+     * returns the format it was converted to.
+     *
+     * @throws DataLoadingException if the address book at {@code source} could not be loaded.
+     * @throws IOException if {@code source} is not found, either file is a data file in use, or there was any
+     *     problem writing to {@code target}.
+     */
+    DataFileFormat convertAddressBook(Path source, Path target) throws IOException, DataLoadingException;
+
+    /**
+     * Saves {@code addressBook} in {@code format} to {@code filePath}, which must not be a data file in use.
+     *
+     * @throws IOException if {@code filePath} is a data file in use, or there was any problem writing to it.
+     */
+    void saveAddressBookAs(ReadOnlyAddressBook addressBook, DataFileFormat format, Path filePath) throws IOException;
+
+    /**
+     * Reads the persons in the CSV file at {@code filePath} in the order they are listed, passing each person with
+     * the line its row starts on to {@code personHandler}, and the error of each row that is not valid with its line
+     * to {@code errorHandler}.
+     *
+     * @throws IOException if the file could not be read.
+     * @throws IllegalValueException if the file is not a valid CSV file of persons.
+     */
+    void readCsvPersons(Path filePath, ObjIntConsumer<Person> personHandler, ObjIntConsumer<String> errorHandler)
+            throws IOException, IllegalValueException;
+
+    /**
+     * Writes {@code persons} to a CSV file at {@code filePath}, replacing the file if it exists.
+     *
+     * @throws IOException if {@code filePath} is a data file in use, or there was any problem writing to it.
+     */
+    void writeCsvPersons(Path filePath, List<Person> persons) throws IOException;
 }
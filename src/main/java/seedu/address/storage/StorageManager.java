@@ -2,36 +2,127 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ObjIntConsumer;
 import java.util.logging.Logger;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyArchivedBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ *
+ * The address book and archived book can optionally be saved in the background. A snapshot of the book is then
+ * taken when it is saved, and written by a dedicated writer thread, so that the caller does not wait for the disk.
+ * Snapshots of the same book saved while an earlier one is still waiting to be written replace it, so a burst of
+ * saves results in a single write. A failure to write in the background names the file that could not be written,
+ * and is reported once, by {@link #checkBackgroundSaves()}, the next save or {@link #flush()}. The save that reports
+ * it still queues its own snapshot, so the book is written again.
  */
 public class StorageManager implements Storage {
 
+    public static final String MESSAGE_BACKGROUND_SAVE_FAILED = "Could not save %1$s: %2$s";
+    public static final String MESSAGE_FILE_IN_USE = "%1$s is a data file in use.";
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
     private ArchivedBookStorage archivedBookStorage;
 
+    /** The thread that writes books in the background, or null if they are written by the caller. */
+    private final ExecutorService backgroundWriter;
+    private final AtomicReference<BookSnapshot> pendingAddressBook = new AtomicReference<>();
+    private final AtomicReference<BookSnapshot> pendingArchivedBook = new AtomicReference<>();
+    private final AtomicReference<IOException> backgroundSaveFailure = new AtomicReference<>();
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage}, {@code UserPrefStorage}
-     * and {@code ArchivedBookStorage}.
+     * and {@code ArchivedBookStorage}, which saves books before returning.
      */
     public StorageManager(AddressBookStorage addressBookStorage,
                           UserPrefsStorage userPrefsStorage,
                           ArchivedBookStorage archivedBookStorage) {
+        this(addressBookStorage, userPrefsStorage, archivedBookStorage, false);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage}, {@code UserPrefStorage}
+     * and {@code ArchivedBookStorage}, which saves books in the background if {@code isSavingInBackground}.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage,
+                          UserPrefsStorage userPrefsStorage,
+                          ArchivedBookStorage archivedBookStorage,
+                          boolean isSavingInBackground) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
         this.archivedBookStorage = archivedBookStorage;
+        this.backgroundWriter = isSavingInBackground
+                ? Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "storage-writer");
+                    thread.setDaemon(true);
+                    return thread;
+                })
+                : null;
+    }
+
+    // ================ Background saving methods ==============================
+
+    @Override
+    public void flush() throws IOException {
+        if (backgroundWriter != null) {
+            try {
+                // the writer runs tasks in order, so every earlier save is done once this no-op is
+                backgroundWriter.submit(() -> { }).get();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for data to be saved", ie);
+            } catch (ExecutionException ee) {
+                throw new IOException(ee.getCause());
+            }
+        }
+        checkBackgroundSaves();
+    }
+
+    @Override
+    public void checkBackgroundSaves() throws IOException {
+        IOException failure = backgroundSaveFailure.getAndSet(null);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Saves {@code snapshot} to {@code filePath} on the writer thread, replacing the snapshot in
+     * {@code pendingSnapshot} if that has not been written yet.
+     * The snapshot is queued even if an earlier failure to save in the background is then reported.
+     */
+    private void saveInBackground(AtomicReference<BookSnapshot> pendingSnapshot, BookSnapshot snapshot,
+            Path filePath, BookSaver saver) throws IOException {
+        if (pendingSnapshot.getAndSet(snapshot) == null) {
+            backgroundWriter.execute(() -> {
+                try {
+                    saver.save(pendingSnapshot.getAndSet(null));
+                } catch (IOException ioe) {
+                    logger.warning("Failed to save " + filePath + " in the background: " + ioe);
+                    backgroundSaveFailure.compareAndSet(null, new IOException(
+                            String.format(MESSAGE_BACKGROUND_SAVE_FAILED, filePath, ioe.getMessage()), ioe));
+                }
+            });
+        }
+        // otherwise the snapshot replaces one that has not been written yet, which will write this one instead
+        checkBackgroundSaves();
     }
 
 
@@ -73,11 +164,22 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        if (backgroundWriter == null) {
+            saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+            return;
+        }
+
+        saveInBackground(pendingAddressBook, BookSnapshot.ofAddressBook(addressBook),
+                addressBookStorage.getAddressBookFilePath(), snapshot -> {
+                    logger.fine("Attempting to write to data file in the background");
+                    addressBookStorage.saveAddressBook(snapshot);
+                });
     }
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        // the storage must not be written to by two threads at once
+        flush();
         logger.fine("Attempting to write to data file: " + filePath);
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
@@ -102,12 +204,83 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveArchivedContacts(ReadOnlyArchivedBook archivedAddressBook) throws IOException {
-        saveArchivedContacts(archivedAddressBook, archivedBookStorage.getArchivedContactsFilePath());
+        if (backgroundWriter == null) {
+            saveArchivedContacts(archivedAddressBook, archivedBookStorage.getArchivedContactsFilePath());
+            return;
+        }
+
+        saveInBackground(pendingArchivedBook, BookSnapshot.ofArchivedBook(archivedAddressBook),
+                archivedBookStorage.getArchivedContactsFilePath(), snapshot -> {
+                    logger.fine("Saving archived contacts in the background...");
+                    archivedBookStorage.saveArchivedContacts(snapshot);
+                });
     }
 
     @Override
     public void saveArchivedContacts(ReadOnlyArchivedBook archivedAddressBook, Path filePath) throws IOException {
+        // the storage must not be written to by two threads at once
+        flush();
         logger.fine("Saving archived contacts..." + filePath);
         archivedBookStorage.saveArchivedContacts(archivedAddressBook, filePath);
     }
+
+    // ================ Data file conversion methods ==============================
+
+    @Override
+    public DataFileFormat convertAddressBook(Path source, Path target) throws IOException, DataLoadingException {
+        // a data file in use may be written by the writer thread at any time, and its journal is held open
+        for (Path filePath : List.of(source, target)) {
+            if (isDataFileInUse(filePath)) {
+                throw new IOException(String.format(MESSAGE_FILE_IN_USE, filePath));
+            }
+        }
+        return AddressBookFileConverter.convert(source, target);
+    }
+
+    @Override
+    public void saveAddressBookAs(ReadOnlyAddressBook addressBook, DataFileFormat format, Path filePath)
+            throws IOException {
+        if (isDataFileInUse(filePath)) {
+            throw new IOException(String.format(MESSAGE_FILE_IN_USE, filePath));
+        }
+        AddressBookFileConverter.save(addressBook, format, filePath);
+    }
+
+    // ================ CSV methods ==============================
+
+    @Override
+    public void readCsvPersons(Path filePath, ObjIntConsumer<Person> personHandler,
+            ObjIntConsumer<String> errorHandler) throws IOException, IllegalValueException {
+        logger.fine("Attempting to read persons from CSV file: " + filePath);
+        CsvPersonFile.read(filePath, row -> {
+            if (row.isValid()) {
+                personHandler.accept(row.getPerson(), row.getLineNumber());
+            } else {
+                errorHandler.accept(row.getError(), row.getLineNumber());
+            }
+        });
+    }
+
+    @Override
+    public void writeCsvPersons(Path filePath, List<Person> persons) throws IOException {
+        if (isDataFileInUse(filePath)) {
+            throw new IOException(String.format(MESSAGE_FILE_IN_USE, filePath));
+        }
+        logger.fine("Attempting to write persons to CSV file: " + filePath);
+        CsvPersonFile.write(filePath, persons);
+    }
+
+    private boolean isDataFileInUse(Path filePath) {
+        Path normalizedPath = filePath.toAbsolutePath().normalize();
+        return normalizedPath.equals(getAddressBookFilePath().toAbsolutePath().normalize())
+                || normalizedPath.equals(getArchivedContactsFilePath().toAbsolutePath().normalize());
+    }
+
+    /**
+     * Saves a snapshot of a book to its storage.
+     */
+    @FunctionalInterface
+    private interface BookSaver {
+        void save(BookSnapshot snapshot) throws IOException;
+    }
 }
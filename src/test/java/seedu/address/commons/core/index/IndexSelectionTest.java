@@ -0,0 +1,84 @@
+package seedu.address.commons.core.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class IndexSelectionTest {
+
+    private static final List<String> ITEMS = List.of("a", "b", "c", "d", "e", "f");
+
+    @Test
+    public void ofRange_lastBeforeFirst_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                IndexSelection.ofRange(Index.fromOneBased(3), Index.fromOneBased(2)));
+    }
+
+    @Test
+    public void union_overlappingAndAdjacentRanges_merged() {
+        IndexSelection selection = IndexSelection.ofRange(Index.fromOneBased(4), Index.fromOneBased(5))
+                .union(IndexSelection.of(Index.fromOneBased(1)))
+                .union(IndexSelection.ofRange(Index.fromOneBased(2), Index.fromOneBased(4)))
+                .union(IndexSelection.of(Index.fromOneBased(5)));
+        assertEquals("1-5", selection.getDescription());
+        assertEquals(List.of("a", "b", "c", "d", "e"), selection.selectFrom(ITEMS));
+
+        // all shown absorbs any other selection
+        assertTrue(selection.union(IndexSelection.allShown()).isAllShown());
+    }
+
+    @Test
+    public void selectFrom_separateIndexes_returnsItemsInListOrder() {
+        IndexSelection selection = IndexSelection.of(Index.fromOneBased(6))
+                .union(IndexSelection.of(Index.fromOneBased(2)));
+        assertEquals("2,6", selection.getDescription());
+        assertEquals(List.of("b", "f"), selection.selectFrom(ITEMS));
+    }
+
+    @Test
+    public void selectFrom_allShown_returnsEveryItem() {
+        assertEquals(ITEMS, IndexSelection.allShown().selectFrom(ITEMS));
+        assertEquals(List.of(), IndexSelection.allShown().selectFrom(List.of()));
+    }
+
+    @Test
+    public void isWithin() {
+        IndexSelection selection = IndexSelection.ofRange(Index.fromOneBased(1), Index.fromOneBased(6));
+        assertTrue(selection.isWithin(6));
+        assertFalse(selection.isWithin(5));
+        assertTrue(IndexSelection.allShown().isWithin(0));
+
+        // a large range is checked without expanding it
+        IndexSelection largeRange = IndexSelection.ofRange(Index.fromOneBased(1),
+                Index.fromOneBased(Integer.MAX_VALUE));
+        assertFalse(largeRange.isWithin(ITEMS.size()));
+        assertThrows(IndexOutOfBoundsException.class, () -> largeRange.selectFrom(ITEMS));
+    }
+
+    @Test
+    public void equals() {
+        IndexSelection selection = IndexSelection.ofRange(Index.fromOneBased(1), Index.fromOneBased(2));
+
+        // same values -> returns true
+        assertTrue(selection.equals(IndexSelection.of(Index.fromOneBased(1))
+                .union(IndexSelection.of(Index.fromOneBased(2)))));
+
+        // same object -> returns true
+        assertTrue(selection.equals(selection));
+
+        // null -> returns false
+        assertFalse(selection.equals(null));
+
+        // different types -> returns false
+        assertFalse(selection.equals(5.0f));
+
+        // different values -> returns false
+        assertFalse(selection.equals(IndexSelection.of(Index.fromOneBased(1))));
+        assertFalse(selection.equals(IndexSelection.allShown()));
+    }
+}
@@ -1,13 +1,23 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +30,38 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void replaceAtomically_backupKept_previousGenerationBackedUp() throws Exception {
+        Path file = testFolder.resolve("folder").resolve("data.json");
+        Path backupFile = FileUtil.getBackupFilePath(file);
+
+        // new file -> no backup
+        FileUtil.replaceAtomically(file, true, out -> out.write("first".getBytes()));
+        assertEquals("first", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(backupFile));
+
+        // only the previous generation is kept
+        FileUtil.replaceAtomically(file, true, out -> out.write("second".getBytes()));
+        FileUtil.replaceAtomically(file, true, out -> out.write("third".getBytes()));
+        assertEquals("third", FileUtil.readFromFile(file));
+        assertEquals("second", FileUtil.readFromFile(backupFile));
+    }
+
+    @Test
+    public void replaceAtomically_writeFails_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "original");
+
+        assertThrows(IOException.class, () -> FileUtil.replaceAtomically(file, true, out -> {
+            out.write("partial".getBytes());
+            throw new IOException("dummy IO exception");
+        }));
+
+        assertEquals("original", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(file)));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
 }
@@ -19,6 +19,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ConvertCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -81,6 +82,50 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommand_storageNotWritten() throws Exception {
+        useStorageThatThrows(DUMMY_IO_EXCEPTION);
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void execute_earlierBackgroundSaveFailed_failureReportedAndBooksSavedAgain() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(addressBookPath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonArchivedBookStorage(temporaryFolder.resolve("archivedContacts.json"))) {
+            private boolean hasReportedFailure = false;
+
+            @Override
+            public void checkBackgroundSaves() throws IOException {
+                if (!hasReportedFailure) {
+                    hasReportedFailure = true;
+                    throw DUMMY_IO_EXCEPTION;
+                }
+            }
+        };
+        logic = new LogicManager(model, storage);
+
+        // a read-only command reports the failure, and saves the books again
+        String expectedMessage = ListCommand.MESSAGE_SUCCESS + "\n"
+                + String.format(LogicManager.MESSAGE_BACKGROUND_SAVE_FAILED, DUMMY_IO_EXCEPTION.getMessage());
+        assertCommandSuccess(ListCommand.COMMAND_WORD, expectedMessage, model);
+        assertEquals(model.getAddressBook(), storage.readAddressBook().get());
+
+        // the failure is only reported once
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void execute_commandWithFileRequest_carriedOutThroughStorage() {
+        // the storage refuses to convert the archived book it is using
+        Path archivedBookFilePath = temporaryFolder.resolve("archivedContacts.json");
+        String convertCommand = ConvertCommand.COMMAND_WORD + " " + archivedBookFilePath + " "
+                + temporaryFolder.resolve("archivedContacts.bin");
+        assertCommandException(convertCommand, String.format(ConvertCommand.MESSAGE_CONVERT_FAILED,
+                archivedBookFilePath, String.format(StorageManager.MESSAGE_FILE_IN_USE, archivedBookFilePath)));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -146,9 +191,22 @@ public class LogicManagerTest {
      * @param expectedMessage the message expected inside exception thrown by the Logic component
      */
     private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
-        Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
+        useStorageThatThrows(e);
 
-        // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
+        // Triggers the saveAddressBook method by executing an add command
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        Person expectedPerson = new PersonBuilder(AMY).withEmergencyContact(null).withAppointment("").build();
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addPerson(expectedPerson);
+        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+    }
+
+    /**
+     * Injects LogicManager with an AddressBookStorage that throws {@code e} when saving.
+     */
+    private void useStorageThatThrows(IOException e) {
+        Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
         JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(prefPath) {
             @Override
             public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
@@ -163,13 +221,5 @@ public class LogicManagerTest {
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage, archivedBookStorage);
 
         logic = new LogicManager(model, storage);
-
-        // Triggers the saveAddressBook method by executing an add command
-        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
-                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
-        Person expectedPerson = new PersonBuilder(AMY).withEmergencyContact(null).withAppointment("").build();
-        ModelManager expectedModel = new ModelManager();
-        expectedModel.addPerson(expectedPerson);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 }
@@ -9,8 +9,11 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -161,6 +164,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookModificationCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getArchivedBookModificationCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -176,6 +189,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void deletePersons(List<Person> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setPerson(Person target, Person editedPerson) {
             throw new AssertionError("This method should not be called.");
@@ -223,40 +241,42 @@ public class AddCommandTest {
         }
 
         @Override
-        public void archivePerson(Person person) {
+        public List<Person> getPersonsWithAppointmentsBetween(LocalDateTime start, LocalDateTime end) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void unarchivePerson(Person person) {
+        public void archivePerson(Person person) {
             throw new AssertionError("This method should not be called.");
         }
 
-        public void sortPersonListByName() {
-            throw new AssertionError("This method should not be called");
+        @Override
+        public void archivePersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void sortPersonListByAppointment() {
-            throw new AssertionError("This method should not be called");
+        public void unarchivePerson(Person person) {
+            throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void commitAddressBook() {
-            throw new AssertionError("This method should not be called");
+        public void updateSortedPersonList(Comparator<Person> comparator) {
+            throw new AssertionError("This method should not be called.");
         }
 
-        public void undoAddressBook() {
+        @Override
+        public void commitAddressBook() {
             throw new AssertionError("This method should not be called");
         }
 
         @Override
-        public boolean isLastCommandArchiveRelated() {
-            return false;
+        public void batch(BatchOperation operation) {
+            throw new AssertionError("This method should not be called");
         }
 
-        @Override
-        public void setLastCommandArchiveRelated(boolean isLastCommandArchiveRelated) {
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called");
         }
 
         public boolean canUndoAddressBook() {
@@ -0,0 +1,71 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ArchivedBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.AppointmentInRangePredicate;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code AgendaCommand}.
+ */
+public class AgendaCommandTest {
+
+    private static final LocalDate DECEMBER_1 = LocalDate.of(2023, 12, 1);
+    private static final LocalDate DECEMBER_31 = LocalDate.of(2023, 12, 31);
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new ArchivedBook());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new ArchivedBook());
+
+    @Test
+    public void execute_range_appointmentsListedInTimeOrder() {
+        long modificationCount = model.getAddressBookModificationCount();
+        String expectedMessage = String.format(AgendaCommand.MESSAGE_SUCCESS, 2, "01-12-2023", "31-12-2023")
+                + "\n15-12-2023 10:00  Alice Pauline, 94351253"
+                + "\n20-12-2023 14:30  Benson Meier, 98765432";
+        expectedModel.updateFilteredPersonList(new AppointmentInRangePredicate(
+                DECEMBER_1.atStartOfDay(), DECEMBER_31.plusDays(1).atStartOfDay()));
+
+        assertCommandSuccess(new AgendaCommand(DECEMBER_1, DECEMBER_31), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON), model.getFilteredPersonList());
+
+        // the address book is not changed
+        assertEquals(modificationCount, model.getAddressBookModificationCount());
+    }
+
+    @Test
+    public void execute_noAppointments_noPersonsListed() {
+        LocalDate day = LocalDate.of(2030, 1, 1);
+        String expectedMessage = String.format(AgendaCommand.MESSAGE_SUCCESS, 0, "01-01-2030", "01-01-2030");
+        expectedModel.updateFilteredPersonList(new AppointmentInRangePredicate(
+                day.atStartOfDay(), day.plusDays(1).atStartOfDay()));
+
+        assertCommandSuccess(new AgendaCommand(day, day), model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void equals() {
+        AgendaCommand command = new AgendaCommand(DECEMBER_1, DECEMBER_31);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new AgendaCommand(DECEMBER_1, DECEMBER_31)));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(1));
+        assertFalse(command.equals(new AgendaCommand(DECEMBER_1, DECEMBER_1)));
+    }
+}
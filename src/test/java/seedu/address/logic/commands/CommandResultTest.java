@@ -3,10 +3,19 @@ package seedu.address.logic.commands;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.ObjIntConsumer;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
 public class CommandResultTest {
     @Test
     public void equals() {
@@ -58,6 +67,25 @@ public class CommandResultTest {
         assertNotEquals(commandResult.hashCode(), new CommandResult("feedback", false, false, true).hashCode());
     }
 
+    @Test
+    public void withFeedbackAppended() {
+        CommandResult commandResult = new CommandResult("feedback", false, true, false);
+        assertEquals(new CommandResult("feedback\nwarning", false, true, false),
+                commandResult.withFeedbackAppended("warning"));
+
+        CommandResult archiveResult = new CommandResult("feedback", CommandResult.ListType.ARCHIVE);
+        assertEquals(CommandResult.ListType.ARCHIVE, archiveResult.withFeedbackAppended("warning").getListType());
+    }
+
+    @Test
+    public void carryOutFileRequest() throws Exception {
+        CommandResult commandResult = new CommandResult("feedback");
+        assertSame(commandResult, commandResult.carryOutFileRequest(null, new FileAccessStub()));
+
+        CommandResult requestResult = new CommandResult((model, fileAccess) -> new CommandResult("carried out"));
+        assertEquals(new CommandResult("carried out"), requestResult.carryOutFileRequest(null, new FileAccessStub()));
+    }
+
     @Test
     public void toStringMethod() {
         CommandResult commandResult = new CommandResult("feedback");
@@ -67,4 +95,30 @@ public class CommandResultTest {
                 + ", requiresConfirmation=" + commandResult.requiresConfirmation() + "}";
         assertEquals(expected, commandResult.toString());
     }
+
+    /**
+     * A {@code FileAccess} stub that has all of its methods failing.
+     */
+    private static class FileAccessStub implements FileAccess {
+        @Override
+        public DataFileFormat convertAddressBook(Path source, Path target) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveAddressBookAs(ReadOnlyAddressBook addressBook, DataFileFormat format, Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void readCsvPersons(Path filePath, ObjIntConsumer<Person> personHandler,
+                ObjIntConsumer<String> errorHandler) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void writeCsvPersons(Path filePath, List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
 }
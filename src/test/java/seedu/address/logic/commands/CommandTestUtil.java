@@ -100,6 +100,41 @@ public class CommandTestUtil {
         assertCommandSuccess(command, actualModel, expectedCommandResult, expectedModel);
     }
 
+    /**
+     * Executes the given {@code command}, carrying out any file request in its result with {@code fileAccess} as
+     * {@code LogicManager} does, and confirms that <br>
+     * - the resulting {@link CommandResult} has the message {@code expectedMessage} <br>
+     * - the {@code actualModel} matches {@code expectedModel}
+     */
+    public static void assertCommandSuccess(Command command, Model actualModel, FileAccess fileAccess,
+            String expectedMessage, Model expectedModel) {
+        try {
+            CommandResult result = command.execute(actualModel).carryOutFileRequest(actualModel, fileAccess);
+            assertEquals(new CommandResult(expectedMessage), result);
+            assertEquals(expectedModel, actualModel);
+        } catch (CommandException ce) {
+            throw new AssertionError("Execution of command should not fail.", ce);
+        }
+    }
+
+    /**
+     * Executes the given {@code command}, carrying out any file request in its result with {@code fileAccess} as
+     * {@code LogicManager} does, and confirms that <br>
+     * - a {@code CommandException} is thrown <br>
+     * - the CommandException message matches {@code expectedMessage} <br>
+     * - the address book and filtered person list in {@code actualModel} remain unchanged
+     */
+    public static void assertCommandFailure(Command command, Model actualModel, FileAccess fileAccess,
+            String expectedMessage) {
+        AddressBook expectedAddressBook = new AddressBook(actualModel.getAddressBook());
+        List<Person> expectedFilteredList = new ArrayList<>(actualModel.getFilteredPersonList());
+
+        assertThrows(CommandException.class, expectedMessage, () ->
+                command.execute(actualModel).carryOutFileRequest(actualModel, fileAccess));
+        assertEquals(expectedAddressBook, actualModel.getAddressBook());
+        assertEquals(expectedFilteredList, actualModel.getFilteredPersonList());
+    }
+
     /**
      * Executes the given {@code command}, confirms that <br>
      * - a {@code CommandException} is thrown <br>
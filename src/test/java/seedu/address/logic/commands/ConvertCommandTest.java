@@ -0,0 +1,143 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.logic.StorageFileAccess;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ArchivedBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.AddressBookFileConverter;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonArchivedBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class ConvertCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new ArchivedBook());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new ArchivedBook());
+    private FileAccess fileAccess;
+
+    @BeforeEach
+    public void setUp() {
+        fileAccess = new StorageFileAccess(new StorageManager(
+                new JsonAddressBookStorage(testFolder.resolve("inUse.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")),
+                new JsonArchivedBookStorage(testFolder.resolve("archived.json"))));
+    }
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ConvertCommand(null, Paths.get("addressbook.bin")));
+        assertThrows(NullPointerException.class, () -> new ConvertCommand(Paths.get("addressbook.json"), null));
+    }
+
+    @Test
+    public void execute_jsonFile_convertedToBinary() throws Exception {
+        Path source = testFolder.resolve("addressbook.json");
+        Path target = testFolder.resolve("addressbook.bin");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(source).saveAddressBook(original);
+
+        assertCommandSuccess(new ConvertCommand(source, target), model, fileAccess,
+                String.format(ConvertCommand.MESSAGE_SUCCESS, source, DataFileFormat.BINARY, target), expectedModel);
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(target).readAddressBook().get()));
+    }
+
+    @Test
+    public void execute_sourceInUse_patientsInAppConverted() throws Exception {
+        // the data file in use has not been written yet, as its save may still be waiting in the background
+        Path source = testFolder.resolve("inUse.json");
+        Path target = testFolder.resolve("addressbook.bin");
+        model.setAddressBookFilePath(source);
+        expectedModel.setAddressBookFilePath(source);
+
+        assertCommandSuccess(new ConvertCommand(source, target), model, fileAccess,
+                String.format(ConvertCommand.MESSAGE_SUCCESS, source, DataFileFormat.BINARY, target), expectedModel);
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new BinaryAddressBookStorage(target).readAddressBook().get()));
+    }
+
+    @Test
+    public void execute_archivedFileInUse_throwsCommandException() {
+        Path source = testFolder.resolve("archived.json");
+        String expectedMessage = String.format(ConvertCommand.MESSAGE_CONVERT_FAILED, source,
+                String.format(StorageManager.MESSAGE_FILE_IN_USE, source));
+        assertCommandFailure(new ConvertCommand(source, testFolder.resolve("archived.bin")), model, fileAccess,
+                expectedMessage);
+    }
+
+    @Test
+    public void execute_sourceMissing_throwsCommandException() {
+        Path source = testFolder.resolve("missing.json");
+        String expectedMessage = String.format(ConvertCommand.MESSAGE_CONVERT_FAILED, source,
+                String.format(AddressBookFileConverter.MESSAGE_SOURCE_NOT_FOUND, source));
+        assertCommandFailure(new ConvertCommand(source, testFolder.resolve("addressbook.bin")), model, fileAccess,
+                expectedMessage);
+    }
+
+    @Test
+    public void execute_sameFile_throwsCommandException() {
+        Path filePath = testFolder.resolve("addressbook.json");
+        assertCommandFailure(new ConvertCommand(filePath, filePath), model, ConvertCommand.MESSAGE_SAME_FILE);
+    }
+
+    @Test
+    public void execute_targetInUse_throwsCommandException() {
+        Path target = model.getAddressBookFilePath();
+        ConvertCommand convertCommand = new ConvertCommand(testFolder.resolve("addressbook.bin"), target);
+        assertThrows(CommandException.class, String.format(ConvertCommand.MESSAGE_TARGET_IN_USE, target), () ->
+                convertCommand.execute(model));
+    }
+
+    @Test
+    public void equals() {
+        ConvertCommand convertFirstCommand = new ConvertCommand(Paths.get("first.json"), Paths.get("first.bin"));
+        ConvertCommand convertSecondCommand = new ConvertCommand(Paths.get("first.json"), Paths.get("second.bin"));
+
+        // same object -> returns true
+        assertTrue(convertFirstCommand.equals(convertFirstCommand));
+
+        // same values -> returns true
+        assertTrue(convertFirstCommand.equals(new ConvertCommand(Paths.get("first.json"), Paths.get("first.bin"))));
+
+        // different types -> returns false
+        assertFalse(convertFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(convertFirstCommand.equals(null));
+
+        // different target -> returns false
+        assertFalse(convertFirstCommand.equals(convertSecondCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path source = Paths.get("addressbook.json");
+        Path target = Paths.get("addressbook.bin");
+        ConvertCommand convertCommand = new ConvertCommand(source, target);
+        String expected = ConvertCommand.class.getCanonicalName() + "{source=" + source + ", target=" + target + "}";
+        assertEquals(expected, convertCommand.toString());
+    }
+}
@@ -8,11 +8,15 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException; // Added missing import
 import seedu.address.model.ArchivedBook;
@@ -46,6 +50,46 @@ public class DeleteCommandTest {
         assertCommandSuccess(deleteCommand, model, new CommandResult(expectedMessage), expectedModel);
     }
 
+    @Test
+    public void execute_multipleIndexes_deletedAsOne() throws Exception {
+        List<Person> shownPersons = model.getFilteredPersonList();
+        List<Person> personsToDelete = List.of(shownPersons.get(0), shownPersons.get(2), shownPersons.get(3));
+        DeleteCommand deleteCommand = new DeleteCommand(IndexSelection.of(INDEX_FIRST_PERSON)
+                .union(IndexSelection.ofRange(INDEX_THIRD_PERSON, Index.fromOneBased(4))));
+
+        // a single confirmation covers every person
+        assertEquals(String.format(DeleteCommand.MESSAGE_CONFIRMATION_MULTIPLE, 3),
+                deleteCommand.execute(model).getFeedbackToUser());
+
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs(), model.getArchivedBook());
+        personsToDelete.forEach(expectedModel::deletePerson);
+        assertCommandSuccess(deleteCommand, model, String.format(DeleteCommand.MESSAGE_DELETE_PERSONS_SUCCESS, 3),
+                expectedModel);
+
+        // a single undo restores every person
+        model.undoAddressBook();
+        assertTrue(personsToDelete.stream().allMatch(model::hasPerson));
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_allShownFilteredList_deletesShownPersons() {
+        showPersonAtIndex(model, INDEX_SECOND_PERSON);
+        Person personToDelete = model.getFilteredPersonList().get(0);
+        DeleteCommand deleteCommand = new DeleteCommand(IndexSelection.allShown());
+        deleteCommand.setConfirmation(false);
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs(), model.getArchivedBook());
+        showPersonAtIndex(expectedModel, INDEX_SECOND_PERSON);
+        expectedModel.deletePerson(personToDelete);
+        assertCommandSuccess(deleteCommand, model,
+                String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS, Messages.showName(personToDelete)),
+                expectedModel);
+
+        // nothing is left to delete
+        assertCommandFailure(deleteCommand, model, Messages.MESSAGE_NO_PERSONS_SHOWN);
+    }
+
     @Test
     public void execute_invalidIndexUnfilteredList_throwsCommandException() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
@@ -73,8 +117,11 @@ public class DeleteCommandTest {
         );
 
         Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs(), model.getArchivedBook());
+        // the filter is kept, so the list is left empty
+        showPersonAtIndex(expectedModel, INDEX_FIRST_PERSON);
         expectedModel.deletePerson(personToDelete);
         assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+        assertTrue(model.getFilteredPersonList().isEmpty());
     }
 
     @Test
@@ -120,7 +167,8 @@ public class DeleteCommandTest {
     public void toStringMethod() {
         Index targetIndex = Index.fromOneBased(1);
         DeleteCommand deleteCommand = new DeleteCommand(targetIndex);
-        String expected = DeleteCommand.class.getCanonicalName() + "{targetIndex=" + targetIndex + "}";
+        String expected = DeleteCommand.class.getCanonicalName() + "{targetIndexes="
+                + IndexSelection.of(targetIndex) + "}";
         assertEquals(expected, deleteCommand.toString());
     }
 
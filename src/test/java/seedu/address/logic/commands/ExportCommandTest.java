@@ -0,0 +1,129 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.StorageFileAccess;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.ArchivedBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.CsvPersonFile;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonArchivedBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new ArchivedBook());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new ArchivedBook());
+    private FileAccess fileAccess;
+
+    @BeforeEach
+    public void setUp() {
+        fileAccess = new StorageFileAccess(new StorageManager(
+                new JsonAddressBookStorage(testFolder.resolve("addressbook.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")),
+                new JsonArchivedBookStorage(testFolder.resolve("archived.json"))));
+    }
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ExportCommand(null));
+    }
+
+    @Test
+    public void execute_allPersonsShown_allPersonsWritten() throws Exception {
+        Path filePath = testFolder.resolve("patients.csv");
+        assertCommandSuccess(new ExportCommand(filePath), model, fileAccess,
+                String.format(ExportCommand.MESSAGE_SUCCESS, getTypicalPersons().size(), filePath), expectedModel);
+
+        assertEquals(getTypicalPersons(), readPersons(filePath));
+    }
+
+    @Test
+    public void execute_filteredList_shownPersonsWritten() throws Exception {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        showPersonAtIndex(expectedModel, INDEX_FIRST_PERSON);
+        Path filePath = testFolder.resolve("patients.csv");
+
+        assertCommandSuccess(new ExportCommand(filePath), model, fileAccess,
+                String.format(ExportCommand.MESSAGE_SUCCESS, 1, filePath), expectedModel);
+
+        assertEquals(model.getFilteredPersonList(), readPersons(filePath));
+    }
+
+    @Test
+    public void execute_fileIsDirectory_throwsCommandException() throws Exception {
+        Path filePath = Files.createDirectory(testFolder.resolve("patients.csv"));
+        assertThrows(CommandException.class, () ->
+                new ExportCommand(filePath).execute(model).carryOutFileRequest(model, fileAccess));
+    }
+
+    @Test
+    public void execute_dataFileInUse_throwsCommandException() {
+        Path filePath = testFolder.resolve("addressbook.json");
+        String expectedMessage = String.format(ExportCommand.MESSAGE_WRITE_FAILED, filePath,
+                String.format(StorageManager.MESSAGE_FILE_IN_USE, filePath));
+        assertCommandFailure(new ExportCommand(filePath), model, fileAccess, expectedMessage);
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportFirstCommand = new ExportCommand(Paths.get("first.csv"));
+        ExportCommand exportSecondCommand = new ExportCommand(Paths.get("second.csv"));
+
+        // same object -> returns true
+        assertTrue(exportFirstCommand.equals(exportFirstCommand));
+
+        // same values -> returns true
+        assertTrue(exportFirstCommand.equals(new ExportCommand(Paths.get("first.csv"))));
+
+        // different types -> returns false
+        assertFalse(exportFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(exportFirstCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(exportFirstCommand.equals(exportSecondCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path filePath = Paths.get("patients.csv");
+        ExportCommand exportCommand = new ExportCommand(filePath);
+        String expected = ExportCommand.class.getCanonicalName() + "{filePath=" + filePath + "}";
+        assertEquals(expected, exportCommand.toString());
+    }
+
+    private List<Person> readPersons(Path filePath) throws Exception {
+        List<Person> persons = new ArrayList<>();
+        CsvPersonFile.read(filePath, row -> persons.add(row.getPerson()));
+        return persons;
+    }
+}
@@ -0,0 +1,200 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.StorageFileAccess;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ArchivedBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.CsvPersonFile;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonArchivedBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonBuilder;
+
+public class ImportCommandTest {
+
+    private static final String HEADER_LINE = String.join(",", CsvPersonFile.HEADER);
+
+    @TempDir
+    public Path testFolder;
+
+    private FileAccess fileAccess;
+
+    @BeforeEach
+    public void setUp() {
+        fileAccess = new StorageFileAccess(new StorageManager(
+                new JsonAddressBookStorage(testFolder.resolve("addressbook.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")),
+                new JsonArchivedBookStorage(testFolder.resolve("archived.json"))));
+    }
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ImportCommand(null));
+    }
+
+    @Test
+    public void execute_validFile_personsAdded() throws Exception {
+        Person amy = new PersonBuilder().build();
+        Person bob = new PersonBuilder().withName("Bob Choo").withPhone("92345678").withEmail("bob@gmail.com").build();
+        Path filePath = testFolder.resolve("patients.csv");
+        CsvPersonFile.write(filePath, List.of(amy, bob));
+
+        Model model = new ModelManager(new AddressBook(), new UserPrefs(), new ArchivedBook());
+        Model expectedModel = new ModelManager(new AddressBook(), new UserPrefs(), new ArchivedBook());
+        expectedModel.addPerson(amy);
+        expectedModel.addPerson(bob);
+        expectedModel.commitAddressBook();
+
+        assertCommandSuccess(new ImportCommand(filePath), model, fileAccess,
+                String.format(ImportCommand.MESSAGE_SUCCESS, 2, filePath), expectedModel);
+    }
+
+    @Test
+    public void execute_invalidAndDuplicateRows_skippedAndReported() throws Exception {
+        Path filePath = testFolder.resolve("patients.csv");
+        Files.write(filePath, List.of(HEADER_LINE,
+                "Amy Bee,85355255,amy@gmail.com,Blk 1,,,,,,,",
+                "Bob Choo,not a phone,bob@gmail.com,Blk 2,,,,,,,",
+                "Amy Bee,85355255,amy@gmail.com,Blk 1,,,,,,,"), StandardCharsets.UTF_8);
+
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new ArchivedBook());
+        CommandResult result = execute(new ImportCommand(filePath), model);
+
+        String feedback = result.getFeedbackToUser();
+        assertTrue(feedback.startsWith(String.format(ImportCommand.MESSAGE_SUCCESS, 1, filePath)
+                + String.format(ImportCommand.MESSAGE_ROWS_SKIPPED, 2)));
+        assertTrue(feedback.contains(String.format(ImportCommand.MESSAGE_ROW_ERROR, 4,
+                ImportCommand.MESSAGE_DUPLICATE_PERSON)));
+        assertTrue(feedback.contains("\nLine 3: "));
+        assertEquals(getTypicalAddressBook().getPersonList().size() + 1, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_personAlreadyInAddressBook_skipped() throws Exception {
+        Path filePath = testFolder.resolve("patients.csv");
+        CsvPersonFile.write(filePath, List.of(ALICE, BENSON));
+
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new ArchivedBook());
+        CommandResult result = execute(new ImportCommand(filePath), model);
+
+        assertTrue(result.getFeedbackToUser().startsWith(String.format(ImportCommand.MESSAGE_SUCCESS, 0, filePath)
+                + String.format(ImportCommand.MESSAGE_ROWS_SKIPPED, 2)));
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void execute_manyInvalidRows_errorsShownLimited() throws Exception {
+        int invalidRowCount = ImportCommand.MAX_ERRORS_SHOWN + 5;
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER_LINE);
+        for (int i = 0; i < invalidRowCount; i++) {
+            lines.add("Patient " + i);
+        }
+        Path filePath = testFolder.resolve("invalid.csv");
+        Files.write(filePath, lines, StandardCharsets.UTF_8);
+
+        Model model = new ModelManager(new AddressBook(), new UserPrefs(), new ArchivedBook());
+        String feedback = execute(new ImportCommand(filePath), model).getFeedbackToUser();
+
+        assertTrue(feedback.endsWith(String.format(ImportCommand.MESSAGE_MORE_ROWS_SKIPPED, 5)));
+        assertEquals(ImportCommand.MAX_ERRORS_SHOWN, feedback.split("\nLine ").length - 1);
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path filePath = testFolder.resolve("missing.csv");
+        Model model = new ModelManager(new AddressBook(), new UserPrefs(), new ArchivedBook());
+
+        assertThrows(CommandException.class, () ->
+                execute(new ImportCommand(filePath), model));
+    }
+
+    @Test
+    public void execute_missingHeader_throwsCommandException() throws Exception {
+        Path filePath = testFolder.resolve("noheader.csv");
+        Files.write(filePath, List.of("Amy Bee,85355255,amy@gmail.com,Blk 1,,,,,,,"), StandardCharsets.UTF_8);
+        Model model = new ModelManager(new AddressBook(), new UserPrefs(), new ArchivedBook());
+
+        assertCommandFailure(new ImportCommand(filePath), model, fileAccess, String.format(
+                ImportCommand.MESSAGE_READ_FAILED, filePath,
+                String.format(CsvPersonFile.MESSAGE_MISSING_HEADER, HEADER_LINE)));
+    }
+
+    @Test
+    public void execute_fileFailsAfterValidRows_noPersonsAdded() throws Exception {
+        Path filePath = testFolder.resolve("unclosed.csv");
+        Files.write(filePath, List.of(HEADER_LINE,
+                "Amy Bee,85355255,amy@gmail.com,Blk 1,,,,,,,",
+                "Bob Choo,92345678,bob@gmail.com,\"Blk 2,,,,,,,"), StandardCharsets.UTF_8);
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new ArchivedBook());
+
+        assertCommandFailure(new ImportCommand(filePath), model, fileAccess, String.format(
+                ImportCommand.MESSAGE_READ_FAILED, filePath, String.format(CsvPersonFile.MESSAGE_UNCLOSED_QUOTE, 3)));
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void messageUsage_showsHeaderAndTagSeparator() {
+        assertTrue(ImportCommand.MESSAGE_USAGE.contains(HEADER_LINE + "\n"));
+        assertTrue(ImportCommand.MESSAGE_USAGE.contains("'" + CsvPersonFile.TAG_SEPARATOR + "'"));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importFirstCommand = new ImportCommand(Paths.get("first.csv"));
+        ImportCommand importSecondCommand = new ImportCommand(Paths.get("second.csv"));
+
+        // same object -> returns true
+        assertTrue(importFirstCommand.equals(importFirstCommand));
+
+        // same values -> returns true
+        assertTrue(importFirstCommand.equals(new ImportCommand(Paths.get("first.csv"))));
+
+        // different types -> returns false
+        assertFalse(importFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(importFirstCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(importFirstCommand.equals(importSecondCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path filePath = Paths.get("patients.csv");
+        ImportCommand importCommand = new ImportCommand(filePath);
+        String expected = ImportCommand.class.getCanonicalName() + "{filePath=" + filePath + "}";
+        assertEquals(expected, importCommand.toString());
+    }
+
+    private CommandResult execute(ImportCommand importCommand, Model model) throws CommandException {
+        return importCommand.execute(model).carryOutFileRequest(model, fileAccess);
+    }
+}
@@ -3,10 +3,14 @@ package seedu.address.logic.commands;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.Messages;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ArchivedBook;
@@ -40,6 +44,55 @@ public class ScheduleCommandTest {
         assertCommandSuccess(scheduleCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_multipleIndexes_scheduledBackToBack() throws Exception {
+        List<Person> personsToSchedule = model.getFilteredPersonList().subList(0, 3);
+        Appointment firstAppointment = new Appointment("18-03-2025 10:00");
+        ScheduleCommand scheduleCommand = new ScheduleCommand(
+                IndexSelection.ofRange(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON), firstAppointment);
+        String expectedMessage = String.format(ScheduleCommand.MESSAGE_MULTIPLE_SUCCESS, 3,
+                firstAppointment, new Appointment("18-03-2025 10:30"));
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs(),
+            new ArchivedBook(model.getArchivedBook()));
+        Appointment appointment = firstAppointment;
+        for (Person person : List.copyOf(personsToSchedule)) {
+            expectedModel.setPerson(person, person.withAppointment(appointment));
+            appointment = appointment.plusMinutes(Appointment.CONFLICT_WINDOW_MINUTES);
+        }
+        assertCommandSuccess(scheduleCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_multipleIndexesClash_noneScheduled() {
+        // the third slot clashes with the appointment of the fourth person
+        Person fourthPerson = model.getFilteredPersonList().get(3);
+        model.setPerson(fourthPerson, fourthPerson.withAppointment(new Appointment("18-03-2025 10:35")));
+        ScheduleCommand scheduleCommand = new ScheduleCommand(
+                IndexSelection.ofRange(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON), new Appointment("18-03-2025 10:00"));
+
+        assertCommandFailure(scheduleCommand, model, ScheduleCommand.MESSAGE_DUPLICATE_APPOINTMENT);
+    }
+
+    @Test
+    public void execute_multipleIndexesPastMidnight_scheduledOnNextDay() throws Exception {
+        List<Person> personsToSchedule = model.getFilteredPersonList().subList(0, 3);
+        Appointment firstAppointment = new Appointment("18-03-2025 23:45");
+        ScheduleCommand scheduleCommand = new ScheduleCommand(
+                IndexSelection.ofRange(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON), firstAppointment);
+        String expectedMessage = String.format(ScheduleCommand.MESSAGE_MULTIPLE_SUCCESS, 3,
+                firstAppointment, new Appointment("19-03-2025 00:15"));
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs(),
+            new ArchivedBook(model.getArchivedBook()));
+        Appointment appointment = firstAppointment;
+        for (Person person : List.copyOf(personsToSchedule)) {
+            expectedModel.setPerson(person, person.withAppointment(appointment));
+            appointment = appointment.plusMinutes(Appointment.CONFLICT_WINDOW_MINUTES);
+        }
+        assertCommandSuccess(scheduleCommand, model, expectedMessage, expectedModel);
+    }
+
     @Test
     public void execute_invalidIndex_failure() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
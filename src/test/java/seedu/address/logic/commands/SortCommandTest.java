@@ -3,7 +3,12 @@ package seedu.address.logic.commands;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -12,36 +17,52 @@ import seedu.address.model.ArchivedBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.SortKey;
 
 public class SortCommandTest {
 
+    private static final SortKey NAME = new SortKey(SortKey.Field.NAME, false);
+    private static final SortKey APPOINTMENT = new SortKey(SortKey.Field.APPOINTMENT, false);
+    private static final SortKey APPOINTMENT_DESCENDING = new SortKey(SortKey.Field.APPOINTMENT, true);
+
     private Model model = new ModelManager(new AddressBook(), new UserPrefs(), new ArchivedBook());
 
     @Test
     public void execute_validSortFieldName_success() {
-        SortCommand sortCommand = new SortCommand("name");
+        SortCommand sortCommand = new SortCommand(List.of(NAME));
         CommandResult commandResult = sortCommand.execute(model);
         assertEquals(String.format(SortCommand.MESSAGE_SUCCESS, "name"), commandResult.getFeedbackToUser());
     }
 
     @Test
     public void execute_validSortFieldAppointment_success() {
-        SortCommand sortCommand = new SortCommand("appointment");
+        SortCommand sortCommand = new SortCommand(List.of(APPOINTMENT));
         CommandResult commandResult = sortCommand.execute(model);
         assertEquals(String.format(SortCommand.MESSAGE_SUCCESS, "appointment"), commandResult.getFeedbackToUser());
     }
 
     @Test
-    public void execute_invalidSortField_throwsAssertionError() {
-        SortCommand sortCommand = new SortCommand("invalid");
-        assertThrows(AssertionError.class, () -> sortCommand.execute(model));
+    public void execute_multipleKeys_sortsListedPersonsOnly() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new ArchivedBook());
+        model.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Meier")));
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new ArchivedBook());
+        expectedModel.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Meier")));
+        expectedModel.updateSortedPersonList(SortKey.toComparator(List.of(APPOINTMENT_DESCENDING, NAME)));
+
+        SortCommand sortCommand = new SortCommand(List.of(APPOINTMENT_DESCENDING, NAME));
+        assertCommandSuccess(sortCommand, model,
+                String.format(SortCommand.MESSAGE_SUCCESS, "appointment desc, name"), expectedModel);
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getAddressBook().getPersonList());
+        assertFalse(model.canUndoAddressBook());
+        assertEquals(List.of(DANIEL, BENSON), model.getFilteredPersonList());
     }
 
     @Test
     public void equals() {
-        SortCommand sortByNameCommand = new SortCommand("name");
-        SortCommand sortByAppointmentCommand = new SortCommand("appointment");
-        SortCommand sortByNameCommandCopy = new SortCommand("name");
+        SortCommand sortByNameCommand = new SortCommand(List.of(NAME));
+        SortCommand sortByAppointmentCommand = new SortCommand(List.of(APPOINTMENT));
+        SortCommand sortByNameCommandCopy = new SortCommand(List.of(NAME));
 
         assertTrue(sortByNameCommand.equals(sortByNameCommand));
 
@@ -52,5 +73,7 @@ public class SortCommandTest {
         assertFalse(sortByNameCommand.equals(null));
 
         assertFalse(sortByNameCommand.equals(sortByAppointmentCommand));
+
+        assertFalse(sortByNameCommand.equals(new SortCommand(List.of(NAME, APPOINTMENT))));
     }
 }
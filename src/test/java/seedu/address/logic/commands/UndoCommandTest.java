@@ -12,6 +12,7 @@ import static seedu.address.testutil.TypicalPersons.getTypicalArchivedBook;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -74,6 +75,18 @@ public class UndoCommandTest {
         assertTrue(model.hasPerson(personToDelete));
     }
 
+    @Test
+    public void execute_undoArchiveCommand_success() throws CommandException {
+        Person personToArchive = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        new ArchiveCommand(IndexSelection.of(INDEX_FIRST_PERSON)).execute(model);
+
+        new UndoCommand(model).execute(model);
+
+        // the person is moved back from the archive
+        assertTrue(model.getAddressBook().getPersonList().contains(personToArchive));
+        assertFalse(model.getArchivedBook().getArchivedContactList().contains(personToArchive));
+    }
+
     @Test
     public void execute_undoNoCommand_failure() {
         UndoCommand undoCommand = new UndoCommand(model);
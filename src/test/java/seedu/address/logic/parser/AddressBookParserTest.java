@@ -7,6 +7,8 @@ import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -15,14 +17,18 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AgendaCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ConvertCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -52,6 +58,12 @@ public class AddressBookParserTest {
         assertEquals(new AddCommand(person), command);
     }
 
+    @Test
+    public void parseCommand_agenda() throws Exception {
+        LocalDate day = LocalDate.of(2025, 10, 20);
+        assertEquals(new AgendaCommand(day, day), parser.parseCommand(AgendaCommand.COMMAND_WORD + " 20-10-2025"));
+    }
+
     @Test
     public void parseCommand_clear() throws Exception {
         Command command1 = parser.parseCommand(ClearCommand.COMMAND_WORD);
@@ -84,6 +96,18 @@ public class AddressBookParserTest {
         assertThrows(ParseException.class, () -> parser.parseCommand(ClearCommand.COMMAND_WORD + " vefve"));
     }
 
+    @Test
+    public void parseCommand_convert() throws Exception {
+        assertEquals(new ConvertCommand(Paths.get("addressbook.json"), Paths.get("addressbook.bin")),
+                parser.parseCommand(ConvertCommand.COMMAND_WORD + " addressbook.json addressbook.bin"));
+    }
+
+    @Test
+    public void parseCommand_export() throws Exception {
+        assertEquals(new ExportCommand(Paths.get("patients.csv")),
+                parser.parseCommand(ExportCommand.COMMAND_WORD + " patients.csv"));
+    }
+
     @Test
     public void parseCommand_find() throws Exception {
         List<String> keywords = Arrays.asList("foo", "bar", "baz");
@@ -98,6 +122,12 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_import() throws Exception {
+        assertEquals(new ImportCommand(Paths.get("patients.csv")),
+                parser.parseCommand(ImportCommand.COMMAND_WORD + " patients.csv"));
+    }
+
     @Test
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
@@ -0,0 +1,52 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AgendaCommand;
+
+public class AgendaCommandParserTest {
+
+    // a Wednesday
+    private static final LocalDate TODAY = LocalDate.of(2025, 10, 22);
+
+    private AgendaCommandParser parser = new AgendaCommandParser(
+            Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+
+    @Test
+    public void parse_relativeDays_returnsAgendaCommand() {
+        assertParseSuccess(parser, "", new AgendaCommand(TODAY, TODAY));
+        assertParseSuccess(parser, " today ", new AgendaCommand(TODAY, TODAY));
+        assertParseSuccess(parser, "Tomorrow", new AgendaCommand(TODAY.plusDays(1), TODAY.plusDays(1)));
+    }
+
+    @Test
+    public void parse_week_returnsMondayToSunday() {
+        assertParseSuccess(parser, "week", new AgendaCommand(LocalDate.of(2025, 10, 20), LocalDate.of(2025, 10, 26)));
+        assertParseSuccess(parser, "week 02-11-2025",
+                new AgendaCommand(LocalDate.of(2025, 10, 27), LocalDate.of(2025, 11, 2)));
+    }
+
+    @Test
+    public void parse_dates_returnsAgendaCommand() {
+        LocalDate day = LocalDate.of(2025, 12, 1);
+        assertParseSuccess(parser, "01-12-2025", new AgendaCommand(day, day));
+        assertParseSuccess(parser, "01-12-2025..03-12-2025", new AgendaCommand(day, day.plusDays(2)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String invalidFormat = String.format(MESSAGE_INVALID_COMMAND_FORMAT, AgendaCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "31-02-2025", invalidFormat);
+        assertParseFailure(parser, "01-12-2025 02-12-2025", invalidFormat);
+        assertParseFailure(parser, "week 01-12-2025 extra", invalidFormat);
+        assertParseFailure(parser, "03-12-2025..01-12-2025", AgendaCommandParser.MESSAGE_INVALID_RANGE);
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ConvertCommand;
+
+public class ConvertCommandParserTest {
+
+    private ConvertCommandParser parser = new ConvertCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsConvertCommand() {
+        assertParseSuccess(parser, " data/addressbook.json \t data/addressbook.bin ",
+                new ConvertCommand(Paths.get("data/addressbook.json"), Paths.get("data/addressbook.bin")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ConvertCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, "addressbook.json", expectedMessage);
+        assertParseFailure(parser, "a.json b.bin c.bin", expectedMessage);
+        assertParseFailure(parser, "addressbook\0.json addressbook.bin", expectedMessage);
+    }
+}
@@ -5,11 +5,17 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameResemblesKeywordsPredicate;
+import seedu.address.model.person.query.AndQuery;
+import seedu.address.model.person.query.FieldQuery;
+import seedu.address.model.person.query.FieldQuery.Field;
+import seedu.address.model.person.query.PersonQueryPredicate;
 
 public class FindCommandParserTest {
 
@@ -31,4 +37,31 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_keywordLikePrefix_returnsNameFindCommand() {
+        // "d/o" is part of a name, not a date clause
+        assertParseSuccess(parser, "d/o", new FindCommand(new NameContainsKeywordsPredicate(List.of("d/o"))));
+        assertParseSuccess(parser, "Ravi d/o Kumar",
+                new FindCommand(new NameContainsKeywordsPredicate(List.of("Ravi", "d/o", "Kumar"))));
+    }
+
+    @Test
+    public void parse_approximateFlag_returnsApproximateFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new NameResemblesKeywordsPredicate(Arrays.asList("Alic", "Bbo")));
+        assertParseSuccess(parser, " -f  Alic \t Bbo ", expectedFindCommand);
+
+        // flag without keywords
+        assertParseFailure(parser, " -f ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_fieldClauses_returnsQueryFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(new PersonQueryPredicate(new AndQuery(List.of(
+                new FieldQuery(Field.ALLERGY, "Penicillin"), new FieldQuery(Field.NAME, "Alice")))));
+        assertParseSuccess(parser, " ta/Penicillin n/Alice ", expectedFindCommand);
+
+        assertParseFailure(parser, "ta/Penicillin AND", PersonQueryParser.MESSAGE_INCOMPLETE_QUERY);
+    }
+
 }
@@ -6,6 +6,7 @@ import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -13,6 +14,8 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
@@ -56,6 +59,42 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_PERSON, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseFilePath_validInput_success() throws Exception {
+        assertEquals(Paths.get("data", "patients.csv"), ParserUtil.parseFilePath(WHITESPACE + "data/patients.csv"));
+    }
+
+    @Test
+    public void parseFilePath_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_FILE_PATH, () ->
+                ParserUtil.parseFilePath(WHITESPACE));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_FILE_PATH, () ->
+                ParserUtil.parseFilePath("patients\0.csv"));
+    }
+
+    @Test
+    public void parseIndexSelection_validInput_success() throws Exception {
+        assertEquals(IndexSelection.of(INDEX_FIRST_PERSON), ParserUtil.parseIndexSelection(" 1 "));
+        assertEquals(IndexSelection.allShown(), ParserUtil.parseIndexSelection("  ALL   shown "));
+
+        IndexSelection expected = IndexSelection.of(INDEX_FIRST_PERSON)
+                .union(IndexSelection.of(Index.fromOneBased(4)))
+                .union(IndexSelection.ofRange(Index.fromOneBased(7), Index.fromOneBased(20)));
+        assertEquals(expected, ParserUtil.parseIndexSelection("1,4,7-20"));
+        assertEquals(expected, ParserUtil.parseIndexSelection("7 - 20, 4 ,1,8-9"));
+    }
+
+    @Test
+    public void parseIndexSelection_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexSelection("1,,2"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexSelection("0-2"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexSelection("all"));
+        assertThrows(ParseException.class, String.format(ParserUtil.MESSAGE_INVALID_INDEX_RANGE, "5-2"), ()
+            -> ParserUtil.parseIndexSelection("1,5-2"));
+        assertThrows(ParseException.class, String.format(ParserUtil.MESSAGE_INVALID_INDEX_RANGE, "1-2-3"), ()
+            -> ParserUtil.parseIndexSelection("1-2-3"));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
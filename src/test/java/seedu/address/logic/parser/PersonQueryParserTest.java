@@ -0,0 +1,103 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.query.AndQuery;
+import seedu.address.model.person.query.AppointmentQuery;
+import seedu.address.model.person.query.FieldQuery;
+import seedu.address.model.person.query.FieldQuery.Field;
+import seedu.address.model.person.query.NotQuery;
+import seedu.address.model.person.query.OrQuery;
+
+public class PersonQueryParserTest {
+
+    private static final FieldQuery NAME_ALICE = new FieldQuery(Field.NAME, "Alice");
+    private static final FieldQuery ALLERGY_PENICILLIN = new FieldQuery(Field.ALLERGY, "Penicillin");
+    private static final FieldQuery CONDITION_ASTHMA = new FieldQuery(Field.CONDITION, "Asthma");
+
+    @Test
+    public void isQuery() {
+        assertTrue(PersonQueryParser.isQuery("n/Alice"));
+        assertTrue(PersonQueryParser.isQuery("(NOT ta/Penicillin)"));
+        assertFalse(PersonQueryParser.isQuery("Alice Bob"));
+        assertFalse(PersonQueryParser.isQuery(""));
+
+        // a prefix must be followed by a value
+        assertTrue(PersonQueryParser.isQuery("n/ Alice"));
+        assertFalse(PersonQueryParser.isQuery("n/"));
+        assertFalse(PersonQueryParser.isQuery("n/ AND"));
+
+        // a date clause must be followed by a date
+        assertTrue(PersonQueryParser.isQuery("d/20-10-2025"));
+        assertFalse(PersonQueryParser.isQuery("d/o"));
+        assertFalse(PersonQueryParser.isQuery("Ravi d/o Kumar"));
+    }
+
+    @Test
+    public void parse_singleClause_returnsFieldQuery() throws Exception {
+        assertEquals(NAME_ALICE, PersonQueryParser.parse("n/Alice"));
+        assertEquals(NAME_ALICE, PersonQueryParser.parse(" n/ Alice "));
+
+        // values run until the next clause
+        assertEquals(new AndQuery(List.of(new FieldQuery(Field.ADDRESS, "Jurong West Ave 6"),
+                new FieldQuery(Field.INSURANCE, "Basic Health Insurance"))),
+                PersonQueryParser.parse("a/Jurong West Ave 6 ti/Basic Health Insurance"));
+    }
+
+    @Test
+    public void parse_wordLikeDatePrefix_partOfValue() throws Exception {
+        assertEquals(new FieldQuery(Field.NAME, "Ravi d/o Kumar"), PersonQueryParser.parse("n/Ravi d/o Kumar"));
+    }
+
+    @Test
+    public void parse_operators_precedenceRespected() throws Exception {
+        // NOT binds tighter than AND, which binds tighter than OR
+        assertEquals(new OrQuery(List.of(new AndQuery(List.of(NAME_ALICE, new NotQuery(ALLERGY_PENICILLIN))),
+                CONDITION_ASTHMA)),
+                PersonQueryParser.parse("n/Alice AND NOT ta/Penicillin OR tc/Asthma"));
+
+        // clauses without an operator are combined with AND
+        assertEquals(new AndQuery(List.of(NAME_ALICE, ALLERGY_PENICILLIN)),
+                PersonQueryParser.parse("n/Alice ta/Penicillin"));
+
+        // parentheses group clauses
+        assertEquals(new AndQuery(List.of(NAME_ALICE, new OrQuery(List.of(ALLERGY_PENICILLIN, CONDITION_ASTHMA)))),
+                PersonQueryParser.parse("n/Alice (ta/Penicillin OR tc/Asthma)"));
+    }
+
+    @Test
+    public void parse_dateRanges_returnsAppointmentQuery() throws Exception {
+        assertEquals(new AppointmentQuery(LocalDate.of(2025, 10, 20), LocalDate.of(2025, 10, 20)),
+                PersonQueryParser.parse("d/20-10-2025"));
+        assertEquals(new AppointmentQuery(LocalDate.of(2025, 10, 20), LocalDate.of(2025, 10, 26)),
+                PersonQueryParser.parse("d/20-10-2025..26-10-2025"));
+
+        assertThrows(ParseException.class, PersonQueryParser.MESSAGE_INVALID_DATE_RANGE, () ->
+                PersonQueryParser.parse("d/26-10-2025..20-10-2025"));
+        assertThrows(ParseException.class, PersonQueryParser.MESSAGE_INVALID_DATE_RANGE, () ->
+                PersonQueryParser.parse("d/31-02-2025"));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertThrows(ParseException.class, String.format(PersonQueryParser.MESSAGE_MISSING_VALUE, "n/"), () ->
+                PersonQueryParser.parse("n/ AND ta/Penicillin"));
+        assertThrows(ParseException.class, PersonQueryParser.MESSAGE_INCOMPLETE_QUERY, () ->
+                PersonQueryParser.parse("(n/Alice OR ta/Penicillin"));
+        assertThrows(ParseException.class, PersonQueryParser.MESSAGE_INCOMPLETE_QUERY, () ->
+                PersonQueryParser.parse("n/Alice OR"));
+        assertThrows(ParseException.class, String.format(PersonQueryParser.MESSAGE_UNEXPECTED_TOKEN, "Alice"), () ->
+                PersonQueryParser.parse("Alice ta/Penicillin"));
+        assertThrows(ParseException.class, String.format(PersonQueryParser.MESSAGE_UNEXPECTED_TOKEN, ")"), () ->
+                PersonQueryParser.parse("n/Alice)"));
+    }
+}
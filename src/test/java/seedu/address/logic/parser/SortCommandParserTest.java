@@ -4,12 +4,20 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.SortCommand;
+import seedu.address.model.person.SortKey;
 
 public class SortCommandParserTest {
 
+    private static final SortKey NAME = new SortKey(SortKey.Field.NAME, false);
+    private static final SortKey NAME_DESCENDING = new SortKey(SortKey.Field.NAME, true);
+    private static final SortKey APPOINTMENT = new SortKey(SortKey.Field.APPOINTMENT, false);
+    private static final SortKey APPOINTMENT_DESCENDING = new SortKey(SortKey.Field.APPOINTMENT, true);
+
     private SortCommandParser parser = new SortCommandParser();
 
     @Test
@@ -20,17 +28,27 @@ public class SortCommandParserTest {
 
     @Test
     public void parse_validArgs_returnsSortCommand() {
-        SortCommand expectedNameCommand = new SortCommand("name");
+        SortCommand expectedNameCommand = new SortCommand(List.of(NAME));
         assertParseSuccess(parser, "name", expectedNameCommand);
         assertParseSuccess(parser, "NAME", expectedNameCommand);
         assertParseSuccess(parser, "  name  ", expectedNameCommand);
 
-        SortCommand expectedAppointmentCommand = new SortCommand("appointment");
+        SortCommand expectedAppointmentCommand = new SortCommand(List.of(APPOINTMENT));
         assertParseSuccess(parser, "appointment", expectedAppointmentCommand);
         assertParseSuccess(parser, "APPOINTMENT", expectedAppointmentCommand);
         assertParseSuccess(parser, "  appointment  ", expectedAppointmentCommand);
     }
 
+    @Test
+    public void parse_directionsAndMultipleFields_returnsSortCommand() {
+        assertParseSuccess(parser, "name desc", new SortCommand(List.of(NAME_DESCENDING)));
+        assertParseSuccess(parser, "name ASC", new SortCommand(List.of(NAME)));
+        assertParseSuccess(parser, "appointment desc name",
+                new SortCommand(List.of(APPOINTMENT_DESCENDING, NAME)));
+        assertParseSuccess(parser, "name asc \t appointment DESC",
+                new SortCommand(List.of(NAME, APPOINTMENT_DESCENDING)));
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         // invalid fields
@@ -40,5 +58,14 @@ public class SortCommandParserTest {
             String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
         assertParseFailure(parser, "123",
             String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+
+        // direction without a field
+        assertParseFailure(parser, "desc",
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "name desc desc",
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+
+        // same field twice
+        assertParseFailure(parser, "name appointment name desc", SortCommandParser.MESSAGE_DUPLICATE_FIELD);
     }
 }
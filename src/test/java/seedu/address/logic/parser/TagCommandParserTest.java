@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ALLERGY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CONDITION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INSURANCE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG_DELETE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG_EDIT;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
@@ -14,6 +15,8 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.TagCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.tag.Tag;
@@ -39,6 +42,17 @@ public class TagCommandParserTest {
         assertEquals(tagCommand, expectedTagCommand);
     }
 
+    @Test
+    public void parse_addTagsToIndexRange_success() throws ParseException {
+        TagCommand tagCommand = parser.parse("1-3, 5 " + PREFIX_INSURANCE + "Medisave");
+
+        IndexSelection expectedIndexes = IndexSelection.ofRange(INDEX_FIRST_PERSON, Index.fromOneBased(3))
+                .union(IndexSelection.of(Index.fromOneBased(5)));
+        TagCommand expectedTagCommand = new TagCommand(expectedIndexes, new HashSet<>(), new HashSet<>(),
+                Set.of(new Tag("Medisave")), new HashSet<>());
+        assertEquals(expectedTagCommand, tagCommand);
+    }
+
     // Test deleting a tag
     @Test
     public void parse_deleteTag_success() throws ParseException {
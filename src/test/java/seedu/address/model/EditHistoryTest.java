@@ -0,0 +1,206 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.testutil.PersonBuilder;
+
+public class EditHistoryTest {
+
+    private final EditHistory history = new EditHistory(EditHistory.DEFAULT_HISTORY_DEPTH);
+    private final UniquePersonList persons = new UniquePersonList();
+    private final UniquePersonList archivedPersons = new UniquePersonList();
+
+    @BeforeEach
+    public void setUp() {
+        persons.setEditRecorder(history::record);
+        archivedPersons.setEditRecorder(history::record);
+    }
+
+    @Test
+    public void constructor_nonPositiveHistoryDepth_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new EditHistory(0));
+        assertThrows(IllegalArgumentException.class, () -> new EditHistory(-1));
+    }
+
+    @Test
+    public void record_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> history.record(null));
+    }
+
+    @Test
+    public void rollback_nothingRecorded_listUnchanged() {
+        persons.add(ALICE);
+        history.commit();
+
+        history.rollback();
+
+        assertEquals(List.of(ALICE), persons.asUnmodifiableObservableList());
+        assertTrue(history.canUndo());
+    }
+
+    @Test
+    public void rollback_partialBatch_revertsOnlyUncommittedEdits() throws CommandException {
+        persons.add(ALICE);
+        persons.add(CARL);
+        history.commit();
+
+        // a command that fails partway through leaves some of its edits recorded but not committed
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        persons.beginBatch();
+        persons.add(BENSON);
+        persons.setPerson(ALICE, editedAlice);
+        persons.sort(Comparator.comparing(person -> person.getName().value, Comparator.reverseOrder()));
+        persons.remove(CARL);
+        persons.endBatch();
+
+        history.rollback();
+
+        assertEquals(List.of(ALICE, CARL), persons.asUnmodifiableObservableList());
+        assertTrue(history.canUndo());
+        assertFalse(history.canRedo());
+
+        history.undo();
+        assertEquals(List.of(), persons.asUnmodifiableObservableList());
+        history.redo();
+        assertEquals(List.of(ALICE, CARL), persons.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void rollback_partialBatchAcrossLists_revertsBothLists() {
+        persons.add(ALICE);
+        persons.add(BENSON);
+        history.commit();
+
+        // archiving moves a person between lists; only the removal half happened before the failure
+        persons.remove(BENSON);
+        archivedPersons.add(BENSON);
+        persons.remove(ALICE);
+
+        history.rollback();
+
+        assertEquals(List.of(ALICE, BENSON), persons.asUnmodifiableObservableList());
+        assertEquals(List.of(), archivedPersons.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void rollback_afterUndo_keepsRedoHistory() throws CommandException {
+        persons.add(ALICE);
+        history.commit();
+        history.undo();
+
+        persons.add(BENSON);
+        history.rollback();
+
+        assertEquals(List.of(), persons.asUnmodifiableObservableList());
+        assertTrue(history.canRedo());
+        history.redo();
+        assertEquals(List.of(ALICE), persons.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void rollback_thenCommit_recordsOnlyLaterEdits() throws CommandException {
+        persons.add(ALICE);
+        history.commit();
+
+        persons.add(BENSON);
+        history.rollback();
+        persons.add(CARL);
+        history.commit();
+
+        history.undo();
+        assertEquals(List.of(ALICE), persons.asUnmodifiableObservableList());
+        history.undo();
+        assertEquals(List.of(), persons.asUnmodifiableObservableList());
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void undo_uncommittedEdits_revertedBeforeCommit() throws CommandException {
+        persons.add(ALICE);
+        history.commit();
+        persons.add(BENSON);
+
+        history.undo();
+
+        assertEquals(List.of(), persons.asUnmodifiableObservableList());
+        history.redo();
+        assertEquals(List.of(ALICE), persons.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void redo_uncommittedEdits_revertedBeforeRedo() throws CommandException {
+        persons.add(ALICE);
+        history.commit();
+        history.undo();
+        persons.add(BENSON);
+
+        history.redo();
+
+        assertEquals(List.of(ALICE), persons.asUnmodifiableObservableList());
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void undo_removeAll_restoresPersonsInPlace() throws CommandException {
+        persons.setPersons(List.of(ALICE, BENSON, CARL));
+        history.commit();
+        persons.removeAll(List.of(CARL, ALICE));
+        history.commit();
+
+        history.undo();
+        assertEquals(List.of(ALICE, BENSON, CARL), persons.asUnmodifiableObservableList());
+        assertTrue(persons.contains(CARL));
+        history.redo();
+        assertEquals(List.of(BENSON), persons.asUnmodifiableObservableList());
+        assertFalse(persons.contains(ALICE));
+    }
+
+    @Test
+    public void commit_noEdits_historyUnchanged() throws CommandException {
+        persons.add(ALICE);
+        history.commit();
+        persons.add(BENSON);
+        history.commit();
+        history.undo();
+
+        // a command that changes nothing neither takes up a step nor clears the steps that can be redone
+        history.commit();
+
+        assertTrue(history.canRedo());
+        history.undo();
+        assertEquals(List.of(), persons.asUnmodifiableObservableList());
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void commit_historyFull_discardsOldestCommit() throws CommandException {
+        EditHistory shallowHistory = new EditHistory(1);
+        UniquePersonList list = new UniquePersonList();
+        list.setEditRecorder(shallowHistory::record);
+
+        list.add(ALICE);
+        shallowHistory.commit();
+        list.add(BENSON);
+        shallowHistory.commit();
+
+        shallowHistory.undo();
+        assertEquals(List.of(ALICE), list.asUnmodifiableObservableList());
+        assertFalse(shallowHistory.canUndo());
+    }
+}
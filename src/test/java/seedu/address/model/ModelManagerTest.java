@@ -7,16 +7,28 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.person.Appointment;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameResemblesKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.SortKey;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -88,6 +100,167 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void hasSchedule_appointmentsWithinWindow_returnsTrue() {
+        modelManager.addPerson(ALICE);
+        assertTrue(modelManager.hasSchedule(new Appointment("15-12-2023 10:14")));
+        assertTrue(modelManager.hasSchedule(new Appointment("15-12-2023 09:46")));
+        assertFalse(modelManager.hasSchedule(new Appointment("15-12-2023 10:15")));
+        assertFalse(modelManager.hasSchedule(new Appointment("15-12-2023 09:45")));
+    }
+
+    @Test
+    public void hasSchedule_appointmentMovedOrArchived_returnsFalse() {
+        modelManager.addPerson(ALICE);
+        Person rescheduledAlice = ALICE.withAppointment(new Appointment("01-01-2024 10:00"));
+        modelManager.setPerson(ALICE, rescheduledAlice);
+        assertFalse(modelManager.hasSchedule(new Appointment("15-12-2023 10:00")));
+        assertTrue(modelManager.hasSchedule(new Appointment("01-01-2024 10:00")));
+
+        modelManager.archivePerson(rescheduledAlice);
+        assertFalse(modelManager.hasSchedule(new Appointment("01-01-2024 10:00")));
+    }
+
+    @Test
+    public void getPersonsWithAppointmentsBetween_returnsPersonsInOrder() {
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(ALICE);
+        LocalDateTime start = LocalDateTime.of(2023, 12, 15, 10, 0);
+
+        assertEquals(Arrays.asList(ALICE, BENSON),
+                modelManager.getPersonsWithAppointmentsBetween(start, start.plusDays(30)));
+
+        // start is inclusive and end is exclusive
+        assertEquals(Arrays.asList(ALICE), modelManager.getPersonsWithAppointmentsBetween(start, start.plusDays(5)));
+        assertEquals(Arrays.asList(), modelManager.getPersonsWithAppointmentsBetween(start.minusDays(1), start));
+    }
+
+    @Test
+    public void updateSortedPersonList_sortsOnlyTheFilteredList() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        long modificationCount = modelManager.getAddressBookModificationCount();
+
+        modelManager.updateSortedPersonList(new SortKey(SortKey.Field.APPOINTMENT, true).getComparator());
+        assertEquals(Arrays.asList(CARL, BENSON, ALICE), modelManager.getFilteredPersonList());
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), modelManager.getAddressBook().getPersonList());
+        assertEquals(modificationCount, modelManager.getAddressBookModificationCount());
+
+        // persons added later are listed in the sort order too
+        modelManager.addPerson(DANIEL);
+        assertEquals(Arrays.asList(DANIEL, CARL, BENSON, ALICE), modelManager.getFilteredPersonList());
+
+        modelManager.updateSortedPersonList(null);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL, DANIEL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateSortedPersonList_rankedFilter_sortsEquallyRankedPersons() {
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(DANIEL);
+        modelManager.updateFilteredPersonList(new NameResemblesKeywordsPredicate(List.of("Meier")));
+        assertEquals(Arrays.asList(BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        modelManager.updateSortedPersonList(new SortKey(SortKey.Field.NAME, true).getComparator());
+        assertEquals(Arrays.asList(DANIEL, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_personsChanged_filterKept() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Meier")));
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.addPerson(CARL);
+        modelManager.addPerson(DANIEL);
+        assertEquals(List.of(BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(BENSON);
+        assertEquals(List.of(DANIEL), modelManager.getFilteredPersonList());
+
+        Person renamedCarl = new PersonBuilder(CARL).withName("Carl Meier").build();
+        modelManager.setPerson(CARL, renamedCarl);
+        assertEquals(List.of(renamedCarl, DANIEL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_rankedFilterPersonsChanged_newPersonsRanked() {
+        modelManager.addPerson(DANIEL);
+        modelManager.updateFilteredPersonList(new NameResemblesKeywordsPredicate(List.of("Meier")));
+
+        // an exact match added later is ranked above an earlier misspelling
+        Person meyer = new PersonBuilder(ALICE).withName("Alice Meyer").build();
+        Person meier = new PersonBuilder(BENSON).withName("Benson Meier").build();
+        modelManager.addPerson(meyer);
+        modelManager.addPerson(meier);
+        modelManager.addPerson(CARL);
+        assertEquals(List.of(DANIEL, meier, meyer), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(DANIEL);
+        assertEquals(List.of(meier, meyer), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void batch_severalChanges_appliedAsOne() throws Exception {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        modelManager.getFilteredPersonList().addListener(changes::add);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("91234567").build();
+
+        modelManager.batch(model -> {
+            model.addPerson(CARL);
+            model.batch(nested -> nested.addPerson(DANIEL));
+            model.setPerson(ALICE, editedAlice);
+            model.archivePerson(BENSON);
+        });
+        assertEquals(1, changes.size());
+        assertEquals(List.of(editedAlice, CARL, DANIEL), modelManager.getFilteredPersonList());
+        assertEquals(List.of(BENSON), modelManager.getFilteredArchivedPersonList());
+
+        // a single undo reverts the whole batch
+        modelManager.undoAddressBook();
+        assertEquals(List.of(ALICE, BENSON), modelManager.getFilteredPersonList());
+        assertTrue(modelManager.getFilteredArchivedPersonList().isEmpty());
+        modelManager.undoAddressBook();
+        modelManager.undoAddressBook();
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void constructor_undoHistoryDepthInUserPrefs_usedForHistory() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryDepth(1);
+        ModelManager shallowModel = new ModelManager(new AddressBook(), userPrefs, new ArchivedBook());
+
+        shallowModel.addPerson(ALICE);
+        shallowModel.addPerson(BENSON);
+
+        shallowModel.undoAddressBook();
+        assertEquals(List.of(ALICE), shallowModel.getFilteredPersonList());
+        assertFalse(shallowModel.canUndoAddressBook());
+    }
+
+    @Test
+    public void batch_operationThrows_changesRolledBack() throws Exception {
+        modelManager.addPerson(ALICE);
+
+        assertThrows(CommandException.class, "failed", () -> modelManager.batch(model -> {
+            model.addPerson(BENSON);
+            model.archivePerson(ALICE);
+            throw new CommandException("failed");
+        }));
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+        assertTrue(modelManager.getFilteredArchivedPersonList().isEmpty());
+
+        // the rolled back changes are not undoable
+        modelManager.undoAddressBook();
+        assertTrue(modelManager.getFilteredPersonList().isEmpty());
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
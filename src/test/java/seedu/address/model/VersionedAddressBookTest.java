@@ -0,0 +1,149 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class VersionedAddressBookTest {
+
+    private final VersionedAddressBook versionedAddressBook = new VersionedAddressBook(getTypicalAddressBook());
+
+    @Test
+    public void constructor_nonPositiveHistoryDepth_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new VersionedAddressBook(new AddressBook(), 0));
+    }
+
+    @Test
+    public void undo_noCommits_throwsCommandException() {
+        assertFalse(versionedAddressBook.canUndo());
+        assertThrows(CommandException.class, versionedAddressBook::undo);
+    }
+
+    @Test
+    public void redo_nothingUndone_throwsCommandException() {
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        assertFalse(versionedAddressBook.canRedo());
+        assertThrows(CommandException.class, versionedAddressBook::redo);
+    }
+
+    @Test
+    public void undoRedo_multipleCommits_restoresEachState() throws CommandException {
+        AddressBook initialState = new AddressBook(versionedAddressBook);
+
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        AddressBook afterAdd = new AddressBook(versionedAddressBook);
+
+        Person editedBenson = new PersonBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build();
+        versionedAddressBook.setPerson(BENSON, editedBenson);
+        versionedAddressBook.removePerson(ALICE);
+        versionedAddressBook.commit();
+        AddressBook afterEditAndDelete = new AddressBook(versionedAddressBook);
+
+        versionedAddressBook.sortPersonsByName();
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(afterEditAndDelete, versionedAddressBook);
+        versionedAddressBook.undo();
+        assertEquals(afterAdd, versionedAddressBook);
+        versionedAddressBook.undo();
+        assertEquals(initialState, versionedAddressBook);
+        assertFalse(versionedAddressBook.canUndo());
+
+        versionedAddressBook.redo();
+        versionedAddressBook.redo();
+        assertEquals(afterEditAndDelete, versionedAddressBook);
+        assertTrue(versionedAddressBook.hasPerson(editedBenson));
+        assertFalse(versionedAddressBook.hasPerson(ALICE));
+    }
+
+    @Test
+    public void undo_sort_restoresOriginalOrder() throws CommandException {
+        AddressBook initialState = new AddressBook(versionedAddressBook);
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        AddressBook unsortedState = new AddressBook(versionedAddressBook);
+
+        versionedAddressBook.sortPersonsByName();
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+        assertEquals(unsortedState, versionedAddressBook);
+
+        versionedAddressBook.undo();
+        assertEquals(initialState, versionedAddressBook);
+    }
+
+    @Test
+    public void undo_resetData_restoresPreviousPersons() throws CommandException {
+        AddressBook initialState = new AddressBook(versionedAddressBook);
+        versionedAddressBook.resetData(new AddressBook());
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(initialState, versionedAddressBook);
+        // the identity index is restored along with the persons
+        assertTrue(versionedAddressBook.hasPerson(ALICE));
+    }
+
+    @Test
+    public void commit_afterUndo_discardsRedoHistory() throws CommandException {
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.commit();
+        assertFalse(versionedAddressBook.canRedo());
+    }
+
+    @Test
+    public void undoRedo_trackedArchivedBook_restoresBothBooks() throws CommandException {
+        ArchivedBook archivedBook = new ArchivedBook();
+        versionedAddressBook.trackArchivedBook(archivedBook);
+
+        // archiving moves a person between the books, and is undone as a whole
+        archivedBook.addArchivedPerson(ALICE);
+        versionedAddressBook.removePerson(ALICE);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertTrue(versionedAddressBook.hasPerson(ALICE));
+        assertFalse(archivedBook.hasPerson(ALICE));
+
+        versionedAddressBook.redo();
+        assertFalse(versionedAddressBook.hasPerson(ALICE));
+        assertTrue(archivedBook.hasPerson(ALICE));
+    }
+
+    @Test
+    public void commit_historyFull_discardsOldestCommit() throws CommandException {
+        VersionedAddressBook shallowHistory = new VersionedAddressBook(new AddressBook(), 2);
+        shallowHistory.addPerson(ALICE);
+        shallowHistory.commit();
+        shallowHistory.addPerson(AMY);
+        shallowHistory.commit();
+        shallowHistory.addPerson(BOB);
+        shallowHistory.commit();
+
+        shallowHistory.undo();
+        shallowHistory.undo();
+        assertFalse(shallowHistory.canUndo());
+        assertTrue(shallowHistory.hasPerson(ALICE));
+        assertFalse(shallowHistory.hasPerson(AMY));
+    }
+}
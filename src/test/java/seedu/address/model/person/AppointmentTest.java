@@ -48,12 +48,26 @@ public class AppointmentTest {
         Appointment appointment3 = new Appointment(dt2, "Meeting");
         assertNotEquals(appointment1, appointment3);
 
+        // appointments less than the conflict window apart, even across days, are the same appointment
+        assertEquals(new Appointment("31-12-2025 23:50"), new Appointment("01-01-2026 00:04"));
+        assertNotEquals(new Appointment("31-12-2025 23:50"), new Appointment("01-01-2026 00:05"));
+
         // Test default constructor behavior (dateTime is null)
         Appointment defaultAppointment1 = new Appointment();
         Appointment defaultAppointment2 = new Appointment();
         assertEquals(defaultAppointment1, defaultAppointment2);
     }
 
+    @Test
+    public void testGetSortKey() {
+        Appointment earlier = new Appointment("18-03-2026 10:00");
+        Appointment later = new Appointment("18-03-2026 10:01");
+        assertEquals(1, later.getSortKey() - earlier.getSortKey());
+        assertTrue(later.getSortKey() < new Appointment().getSortKey());
+        assertTrue(DateTime.FAR_FUTURE.getEpochMinute() < new Appointment().getSortKey());
+        assertEquals(Appointment.NO_DATE_TIME_SORT_KEY, new Appointment("").getSortKey());
+    }
+
     @Test
     public void testToString() {
         DateTime dt = new DateTime("18-03-2026 10:00");
@@ -0,0 +1,168 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class BatchableObservableListTest {
+
+    private final BatchableObservableList<String> list = new BatchableObservableList<>();
+    private final List<String> mirror = new ArrayList<>();
+    /** Whether each change reported so far was a permutation. */
+    private final List<Boolean> changes = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        list.addAll(List.of("a", "b", "c", "d", "e"));
+        mirror.addAll(list);
+        list.addListener((ListChangeListener<String>) change -> {
+            changes.add(change.next() && change.wasPermutated());
+            applyTo(mirror, change);
+        });
+    }
+
+    @Test
+    public void endBatch_noBatch_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, list::endBatch);
+    }
+
+    @Test
+    public void permute_wrongLength_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> list.permute(new int[] {0, 1}));
+    }
+
+    @Test
+    public void permute_outsideBatch_reportedAsPermutation() {
+        list.permute(new int[] {4, 3, 2, 1, 0});
+
+        assertEquals(List.of("e", "d", "c", "b", "a"), list);
+        assertEquals(List.of(true), changes);
+        assertEquals(list, mirror);
+    }
+
+    @Test
+    public void permute_insideBatch_reportedWhenBatchEnds() {
+        list.beginBatch();
+        list.permute(new int[] {1, 0, 2, 3, 4});
+        list.set(0, "x");
+        assertEquals(0, changes.size());
+        list.endBatch();
+
+        assertEquals(List.of("x", "a", "c", "d", "e"), list);
+        assertEquals(1, changes.size());
+        assertEquals(list, mirror);
+    }
+
+    @Test
+    public void removeAt_unorderedIndexes_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> list.removeAt(new int[] {2, 1}));
+        assertThrows(IllegalArgumentException.class, () -> list.removeAt(new int[] {4, 5}));
+        assertEquals(List.of("a", "b", "c", "d", "e"), list);
+    }
+
+    @Test
+    public void removeAt_severalRuns_reportedAsOneChange() {
+        List<String> removed = list.removeAt(new int[] {0, 2, 3});
+
+        assertEquals(List.of("a", "c", "d"), removed);
+        assertEquals(List.of("b", "e"), list);
+        assertEquals(1, changes.size());
+        assertEquals(list, mirror);
+    }
+
+    @Test
+    public void insertAt_severalRuns_reportedAsOneChange() {
+        list.insertAt(new int[] {0, 3, 4, 7}, List.of("p", "q", "r", "s"));
+
+        assertEquals(List.of("p", "a", "b", "q", "r", "c", "d", "s", "e"), list);
+        assertEquals(1, changes.size());
+        assertEquals(list, mirror);
+    }
+
+    @Test
+    public void insertAt_removedIndexes_restoresList() {
+        int[] indexes = {1, 2, 4};
+        List<String> removed = list.removeAt(indexes);
+        list.insertAt(indexes, removed);
+
+        assertEquals(List.of("a", "b", "c", "d", "e"), list);
+        assertEquals(list, mirror);
+    }
+
+    @Test
+    public void setAll_insideBatch_reportedWhenBatchEnds() {
+        list.beginBatch();
+        list.add("f");
+        list.setAll(List.of("p", "q"));
+        list.add(1, "r");
+        assertEquals(0, changes.size());
+        list.endBatch();
+
+        assertEquals(List.of("p", "r", "q"), list);
+        assertEquals(1, changes.size());
+        assertEquals(list, mirror);
+    }
+
+    @Test
+    public void removeRange_insideBatch_reportedWhenBatchEnds() {
+        list.beginBatch();
+        list.remove(1, 3);
+        list.add("f");
+        list.remove(0, 1);
+        assertEquals(0, changes.size());
+        list.endBatch();
+
+        assertEquals(List.of("d", "e", "f"), list);
+        assertEquals(1, changes.size());
+        assertEquals(list, mirror);
+    }
+
+    @Test
+    public void endBatch_nestedBatch_reportedWhenOutermostBatchEnds() {
+        list.beginBatch();
+        list.beginBatch();
+        list.permute(new int[] {4, 3, 2, 1, 0});
+        list.remove(0, 2);
+        list.endBatch();
+        assertEquals(0, changes.size());
+
+        list.setAll(List.of("c", "b", "a", "z"));
+        list.endBatch();
+
+        assertEquals(List.of("c", "b", "a", "z"), list);
+        assertEquals(1, changes.size());
+        assertEquals(list, mirror);
+
+        // the list is no longer in a batch
+        list.add("y");
+        assertEquals(2, changes.size());
+        assertEquals(list, mirror);
+    }
+
+    /**
+     * Applies {@code change} to {@code target}, which held the same elements as the list before the change.
+     */
+    private static void applyTo(List<String> target, ListChangeListener.Change<? extends String> change) {
+        change.reset();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                List<String> permuted = new ArrayList<>(target);
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permuted.set(change.getPermutation(i), target.get(i));
+                }
+                target.clear();
+                target.addAll(permuted);
+                continue;
+            }
+            target.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+            target.addAll(change.getFrom(), change.getAddedSubList());
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class BkTreeTest {
+
+    private static final List<String> WORDS = List.of("alice", "alex", "alexa", "bernice", "bernie", "david",
+            "davina", "irfan", "roy", "ray", "rey", "yeoh", "li", "lee", "leo");
+
+    private final BkTree tree = new BkTree();
+
+    @Test
+    public void getDistance() {
+        assertEquals(0, BkTree.getDistance("alex", "alex"));
+        assertEquals(1, BkTree.getDistance("alex", "alexa"));
+        assertEquals(1, BkTree.getDistance("roy", "ray"));
+        assertEquals(3, BkTree.getDistance("", "roy"));
+        assertEquals(3, BkTree.getDistance("kitten", "sitting"));
+    }
+
+    @Test
+    public void search_emptyTree_noMatches() {
+        assertEquals(Map.of(), tree.search("alex", 2));
+    }
+
+    @Test
+    public void search_maxDistance_onlyWordsWithinDistanceFound() {
+        WORDS.forEach(tree::add);
+
+        assertEquals(Map.of("roy", 0), tree.search("roy", 0));
+        assertEquals(Map.of("roy", 0, "ray", 1, "rey", 1), tree.search("roy", 1));
+        assertEquals(Map.of("alex", 1, "alexa", 2, "li", 2), tree.search("alx", 2));
+        assertEquals(Map.of(), tree.search("zzzzzz", 2));
+    }
+
+    @Test
+    public void search_randomWords_sameAsComparingEveryWord() {
+        // pruning children by the triangle inequality must not lose any match
+        Random random = new Random(2103);
+        List<String> words = random.ints(500, 0, 1 << 20).mapToObj(i -> Integer.toString(i, 4)).toList();
+        words.forEach(tree::add);
+
+        for (int i = 0; i < 50; i++) {
+            String query = Integer.toString(random.nextInt(1 << 20), 4);
+            for (int maxDistance = 0; maxDistance <= 3; maxDistance++) {
+                assertEquals(searchEveryWord(words, query, maxDistance), tree.search(query, maxDistance),
+                        query + " within " + maxDistance);
+            }
+        }
+    }
+
+    @Test
+    public void remove_words_removedWordsNotFound() {
+        WORDS.forEach(tree::add);
+        tree.remove("ray");
+        assertEquals(Map.of("roy", 0, "rey", 1), tree.search("roy", 1));
+
+        // adding a removed word back finds it again
+        tree.add("ray");
+        assertEquals(Map.of("roy", 0, "ray", 1, "rey", 1), tree.search("roy", 1));
+    }
+
+    @Test
+    public void remove_mostWords_treeRebuiltWithRemainingWords() {
+        WORDS.forEach(tree::add);
+        WORDS.stream().filter(word -> !word.startsWith("r")).forEach(tree::remove);
+
+        assertEquals(Map.of("roy", 0, "ray", 1, "rey", 1), tree.search("roy", 5));
+        assertEquals(Map.of(), tree.search("alice", 1));
+    }
+
+    private static Map<String, Integer> searchEveryWord(List<String> words, String query, int maxDistance) {
+        Map<String, Integer> matches = new HashMap<>();
+        for (String word : words) {
+            int distance = BkTree.getDistance(query, word);
+            if (distance <= maxDistance) {
+                matches.put(word, distance);
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,132 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class CandidateFilteredListTest {
+
+    private static final Predicate<String> IS_VOWEL = element -> "aeiou".contains(element);
+
+    private final ObservableList<String> source = FXCollections.observableArrayList();
+    private final List<String> tested = new ArrayList<>();
+    private final Predicate<String> isVowel = element -> {
+        tested.add(element);
+        return IS_VOWEL.test(element);
+    };
+    private CandidateFilteredList<String> list;
+    private final List<String> mirror = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        source.setAll("a", "b", "c", "d", "e", "f");
+        list = new CandidateFilteredList<>(source);
+        mirror.addAll(list);
+        list.addListener((ListChangeListener<String>) change -> applyTo(mirror, change));
+    }
+
+    @Test
+    public void constructor_noPredicate_showsEveryElement() {
+        assertEquals(source, list);
+    }
+
+    @Test
+    public void setPredicate_noCandidates_everyElementTested() {
+        list.setPredicate(isVowel);
+
+        assertEquals(List.of("a", "e"), list);
+        assertEquals(source, tested);
+        assertEquals(list, mirror);
+    }
+
+    @Test
+    public void setPredicate_candidates_onlyCandidatesTestedAndListedInSourceOrder() {
+        list.setPredicate(isVowel, Set.of("e", "c", "a"));
+
+        assertEquals(List.of("a", "e"), list);
+        assertEquals(3, tested.size());
+        assertEquals(list, mirror);
+    }
+
+    @Test
+    public void setPredicate_candidateNotInSource_ignored() {
+        list.setPredicate(isVowel, Set.of("e", "o"));
+
+        assertEquals(List.of("e"), list);
+        assertEquals(list, mirror);
+    }
+
+    @Test
+    public void sourceChanged_elementsAddedAndRemoved_filterKept() {
+        list.setPredicate(isVowel, Set.of("a", "e"));
+        tested.clear();
+
+        source.add(1, "i");
+        source.remove("a");
+        source.addAll("o", "x");
+        source.removeAll(List.of("c", "d"));
+
+        assertEquals(List.of("i", "e", "o"), list);
+        // only the elements added to the source are tested
+        assertEquals(List.of("i", "o", "x"), tested);
+        assertEquals(list, mirror);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+    }
+
+    @Test
+    public void sourceChanged_sourceSorted_orderFollowed() {
+        list.setPredicate(isVowel);
+
+        FXCollections.sort(source, Comparator.reverseOrder());
+
+        assertEquals(List.of("e", "a"), list);
+        assertEquals(list.size() - 1, list.getViewIndex(source.indexOf("a")));
+        assertEquals(-1, list.getViewIndex(source.indexOf("b")));
+        assertEquals(list, mirror);
+    }
+
+    @Test
+    public void setPredicate_candidatesAfterSourceChanged_listedInNewOrder() {
+        list.setPredicate(isVowel, Set.of("a", "e"));
+        source.remove("a");
+        source.add(0, "u");
+        FXCollections.sort(source, Comparator.reverseOrder());
+
+        list.setPredicate(isVowel, Set.of("a", "e", "u"));
+
+        assertEquals(List.of("u", "e"), list);
+        assertEquals(list, mirror);
+    }
+
+    /**
+     * Applies {@code change} to {@code target}, which held the same elements as the list before the change.
+     */
+    private static void applyTo(List<String> target, ListChangeListener.Change<? extends String> change) {
+        change.reset();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                List<String> permuted = new ArrayList<>(target);
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permuted.set(change.getPermutation(i), target.get(i));
+                }
+                target.clear();
+                target.addAll(permuted);
+                continue;
+            }
+            target.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+            target.addAll(change.getFrom(), change.getAddedSubList());
+        }
+    }
+}
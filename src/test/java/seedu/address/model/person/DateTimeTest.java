@@ -0,0 +1,69 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+public class DateTimeTest {
+
+    @Test
+    public void isValidDateTime() {
+        assertTrue(DateTime.isValidDateTime("29-02-2024 23:59"));
+        assertFalse(DateTime.isValidDateTime("29-02-2023 10:00"));
+        assertFalse(DateTime.isValidDateTime("2024-02-01 10:00"));
+        assertFalse(DateTime.isValidDateTime("01-02-2024"));
+    }
+
+    @Test
+    public void getEpochMinute() {
+        assertEquals(0, new DateTime("01-01-1970 00:00").getEpochMinute());
+        assertEquals(-1, new DateTime("31-12-1969 23:59").getEpochMinute());
+        assertEquals(DateTime.toEpochMinute(LocalDateTime.of(2024, 3, 18, 11, 15)),
+                new DateTime("18-03-2024 11:15").getEpochMinute());
+    }
+
+    @Test
+    public void ofEpochMinute_roundTrips() {
+        DateTime dateTime = new DateTime("18-03-2024 11:15");
+        DateTime copy = DateTime.ofEpochMinute(dateTime.getEpochMinute());
+        assertEquals(dateTime, copy);
+        assertEquals("18-03-2024 11:15", copy.toString());
+        assertEquals(LocalDateTime.of(2024, 3, 18, 11, 15), copy.getLocalDateTime());
+        assertEquals("31-12-9999 23:59", DateTime.FAR_FUTURE.toString());
+    }
+
+    @Test
+    public void toString_formattedOnce() {
+        DateTime dateTime = new DateTime("05-02-2024 16:45");
+        assertSame(dateTime.toString(), dateTime.toString());
+    }
+
+    @Test
+    public void compareAndMinutesUntil() {
+        DateTime earlier = new DateTime("31-12-2023 23:50");
+        DateTime later = new DateTime("01-01-2024 00:05");
+        assertEquals(15, earlier.minutesUntil(later));
+        assertEquals(-15, later.minutesUntil(earlier));
+        assertTrue(earlier.compareTo(later) < 0);
+        assertTrue(later.compareTo(earlier) > 0);
+        assertEquals(0, earlier.compareTo(new DateTime("31-12-2023 23:50")));
+    }
+
+    @Test
+    public void equals() {
+        DateTime dateTime = new DateTime("18-03-2024 11:15");
+
+        assertTrue(dateTime.equals(dateTime));
+        assertTrue(dateTime.equals(new DateTime("18-03-2024 11:15")));
+        assertEquals(dateTime.hashCode(), new DateTime("18-03-2024 11:15").hashCode());
+        assertFalse(dateTime.equals(null));
+        assertFalse(dateTime.equals("18-03-2024 11:15"));
+        assertNotEquals(dateTime, new DateTime("18-03-2024 11:16"));
+    }
+}
@@ -7,6 +7,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
@@ -74,6 +76,27 @@ public class NameContainsKeywordsPredicateTest {
                 .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
 
+    @Test
+    public void usingIndex_sameResultAsTest() {
+        UniquePersonList persons = new UniquePersonList();
+        Person alice = new PersonBuilder().withName("Alice Bob").withPhone("12345").withEmail("alice@email.com")
+                .withAddress("Main Street").build();
+        Person carol = new PersonBuilder().withName("Carol").withPhone("54321").withEmail("carol@email.com").build();
+        persons.add(alice);
+        persons.add(carol);
+
+        for (List<String> keywords : List.of(List.of("aLIce"), List.of("bob", "Carol"), List.of("Main"),
+                List.of("12345"), List.of("carol@email.com"), List.<String>of())) {
+            NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
+            Predicate<Person> indexedPredicate = predicate.usingIndex(persons.getSearchIndex());
+            Set<Person> candidates = predicate.getCandidates(persons.getSearchIndex()).get();
+            for (Person person : persons) {
+                assertEquals(predicate.test(person), indexedPredicate.test(person));
+                assertEquals(predicate.test(person), candidates.contains(person));
+            }
+        }
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
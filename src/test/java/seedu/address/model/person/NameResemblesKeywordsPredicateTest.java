@@ -0,0 +1,69 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameResemblesKeywordsPredicateTest {
+
+    @Test
+    public void equals() {
+        NameResemblesKeywordsPredicate firstPredicate = new NameResemblesKeywordsPredicate(List.of("first"));
+        NameResemblesKeywordsPredicate secondPredicate = new NameResemblesKeywordsPredicate(List.of("second"));
+
+        assertTrue(firstPredicate.equals(firstPredicate));
+        assertTrue(firstPredicate.equals(new NameResemblesKeywordsPredicate(List.of("first"))));
+        assertFalse(firstPredicate.equals(1));
+        assertFalse(firstPredicate.equals(null));
+        assertFalse(firstPredicate.equals(secondPredicate));
+        assertFalse(firstPredicate.equals(new NameContainsKeywordsPredicate(List.of("first"))));
+    }
+
+    @Test
+    public void test_partialOrMisspelledKeywords_returnsTrue() {
+        Person person = new PersonBuilder().withName("Alice Bob").withPhone("94351253").build();
+
+        assertTrue(new NameResemblesKeywordsPredicate(List.of("ALI")).test(person));
+        assertTrue(new NameResemblesKeywordsPredicate(List.of("Alyce")).test(person));
+        assertTrue(new NameResemblesKeywordsPredicate(List.of("9435")).test(person));
+        assertFalse(new NameResemblesKeywordsPredicate(List.of("Carol")).test(person));
+    }
+
+    @Test
+    public void usingIndex_sameResultAsTest() {
+        UniquePersonList persons = new UniquePersonList();
+        getTypicalPersons().forEach(persons::add);
+
+        for (List<String> keywords : List.of(List.of("meir"), List.of("al", "kurz"), List.of("best"),
+                List.of("example"), List.of("9482"), List.of("zzzz"))) {
+            NameResemblesKeywordsPredicate predicate = new NameResemblesKeywordsPredicate(keywords);
+            Predicate<Person> indexedPredicate = predicate.usingIndex(persons.getSearchIndex());
+            Set<Person> candidates = predicate.getCandidates(persons.getSearchIndex()).get();
+            for (Person person : persons) {
+                assertEquals(predicate.test(person), indexedPredicate.test(person), keywords + " " + person);
+                assertEquals(predicate.test(person), candidates.contains(person), keywords + " " + person);
+            }
+        }
+    }
+
+    @Test
+    public void usingIndex_listChanged_newPersonsMatched() {
+        UniquePersonList persons = new UniquePersonList();
+        Predicate<Person> indexedPredicate = new NameResemblesKeywordsPredicate(List.of("alyce"))
+                .usingIndex(persons.getSearchIndex());
+
+        Person alice = new PersonBuilder().withName("Alice").build();
+        assertFalse(indexedPredicate.test(alice));
+        persons.add(alice);
+        assertTrue(indexedPredicate.test(alice));
+    }
+}
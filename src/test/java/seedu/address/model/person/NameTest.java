@@ -1,9 +1,12 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Locale;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -57,4 +60,22 @@ public class NameTest {
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
     }
+
+    @Test
+    public void getSortKey() {
+        assertEquals("peter jack", new Name("peter Jack").getSortKey());
+        assertEquals(new Name("ALICE").getSortKey(), new Name("alice").getSortKey());
+    }
+
+    @Test
+    public void getSortKey_turkishDefaultLocale_sameAsRootLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.forLanguageTag("tr"));
+            assertEquals("iris", new Name("IRIS").getSortKey());
+            assertEquals("Iris", new Name("iris").value);
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
 }
@@ -0,0 +1,114 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonAppointmentIndexTest {
+
+    private static final int WINDOW = Appointment.CONFLICT_WINDOW_MINUTES;
+
+    private static final Person AMY_AT_TEN = new PersonBuilder().withName("Amy").withAppointment("18-03-2025 10:00")
+            .build();
+    private static final Person BOB_AT_TEN = new PersonBuilder().withName("Bob").withAppointment("18-03-2025 10:00")
+            .build();
+    private static final Person CAT_AT_ELEVEN = new PersonBuilder().withName("Cat")
+            .withAppointment("18-03-2025 11:00").build();
+    private static final Person DAN_WITHOUT_APPOINTMENT = new PersonBuilder().withName("Dan").withAppointment("")
+            .build();
+
+    private final PersonAppointmentIndex index = new PersonAppointmentIndex();
+
+    @Test
+    public void hasAppointmentWithin_nullDateTime_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.hasAppointmentWithin(null, WINDOW));
+    }
+
+    @Test
+    public void hasAppointmentWithin_windowEdges_exclusive() {
+        index.add(AMY_AT_TEN);
+
+        // exactly one window before or after does not clash
+        assertFalse(index.hasAppointmentWithin(new DateTime("18-03-2025 09:45"), WINDOW));
+        assertFalse(index.hasAppointmentWithin(new DateTime("18-03-2025 10:15"), WINDOW));
+
+        // a minute inside the window clashes
+        assertTrue(index.hasAppointmentWithin(new DateTime("18-03-2025 09:46"), WINDOW));
+        assertTrue(index.hasAppointmentWithin(new DateTime("18-03-2025 10:14"), WINDOW));
+        assertTrue(index.hasAppointmentWithin(new DateTime("18-03-2025 10:00"), WINDOW));
+    }
+
+    @Test
+    public void hasAppointmentWithin_personWithoutAppointment_notIndexed() {
+        index.add(DAN_WITHOUT_APPOINTMENT);
+        assertEquals(List.of(), index.getPersonsWithAppointmentsBetween(LocalDateTime.MIN, LocalDateTime.MAX));
+
+        // removing a person that was never indexed does nothing
+        index.remove(DAN_WITHOUT_APPOINTMENT);
+        index.remove(CAT_AT_ELEVEN);
+    }
+
+    @Test
+    public void remove_lastPersonAtMinute_minuteNoLongerClashes() {
+        index.add(AMY_AT_TEN);
+        index.add(BOB_AT_TEN);
+        DateTime ten = new DateTime("18-03-2025 10:00");
+
+        // another person still has an appointment at that minute
+        index.remove(AMY_AT_TEN);
+        assertTrue(index.hasAppointmentWithin(ten, WINDOW));
+        assertEquals(List.of(BOB_AT_TEN), getPersonsOnDay());
+
+        index.remove(BOB_AT_TEN);
+        assertFalse(index.hasAppointmentWithin(ten, WINDOW));
+        assertEquals(List.of(), getPersonsOnDay());
+        assertEquals(0, index.getPersonCountBetween(LocalDateTime.MIN, LocalDateTime.MAX));
+    }
+
+    @Test
+    public void remove_equalPerson_onlySameObjectRemoved() {
+        index.add(AMY_AT_TEN);
+        index.remove(new PersonBuilder(AMY_AT_TEN).build());
+        assertEquals(List.of(AMY_AT_TEN), getPersonsOnDay());
+    }
+
+    @Test
+    public void getPersonsWithAppointmentsBetween_range_startInclusiveEndExclusive() {
+        index.add(CAT_AT_ELEVEN);
+        index.add(AMY_AT_TEN);
+        index.add(BOB_AT_TEN);
+
+        // in order of appointments, and then of being indexed
+        assertEquals(List.of(AMY_AT_TEN, BOB_AT_TEN, CAT_AT_ELEVEN), getPersonsOnDay());
+        assertEquals(List.of(AMY_AT_TEN, BOB_AT_TEN), index.getPersonsWithAppointmentsBetween(
+                LocalDateTime.of(2025, 3, 18, 10, 0), LocalDateTime.of(2025, 3, 18, 11, 0)));
+        assertEquals(1, index.getPersonCountBetween(
+                LocalDateTime.of(2025, 3, 18, 10, 1), LocalDateTime.of(2025, 3, 18, 11, 1)));
+
+        // an empty or reversed range has no persons
+        LocalDateTime ten = LocalDateTime.of(2025, 3, 18, 10, 0);
+        assertEquals(List.of(), index.getPersonsWithAppointmentsBetween(ten, ten));
+        assertEquals(0, index.getPersonCountBetween(ten.plusHours(1), ten));
+    }
+
+    @Test
+    public void clear_indexedPersons_allRemoved() {
+        index.add(AMY_AT_TEN);
+        index.add(CAT_AT_ELEVEN);
+        index.clear();
+        assertEquals(List.of(), getPersonsOnDay());
+    }
+
+    private List<Person> getPersonsOnDay() {
+        return index.getPersonsWithAppointmentsBetween(LocalDateTime.of(2025, 3, 18, 0, 0),
+                LocalDateTime.of(2025, 3, 19, 0, 0));
+    }
+}
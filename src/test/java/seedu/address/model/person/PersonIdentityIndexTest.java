@@ -0,0 +1,138 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonIdentityIndexTest {
+
+    private final PersonIdentityIndex index = new PersonIdentityIndex();
+
+    @Test
+    public void contains_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.contains(null));
+    }
+
+    @Test
+    public void contains_personNotIndexed_returnsFalse() {
+        index.add(BOB);
+        assertFalse(index.contains(ALICE));
+    }
+
+    @Test
+    public void contains_sameNameAndPhone_returnsTrue() {
+        index.add(ALICE);
+        assertTrue(index.contains(new PersonBuilder(ALICE).withEmail(VALID_EMAIL_BOB).build()));
+    }
+
+    @Test
+    public void contains_sameNameAndEmail_returnsTrue() {
+        index.add(ALICE);
+        assertTrue(index.contains(new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build()));
+    }
+
+    @Test
+    public void contains_nameDiffersOnlyInCase_returnsTrue() {
+        index.add(ALICE);
+        String upperCaseName = ALICE.getName().value.toUpperCase();
+        assertTrue(index.contains(new PersonBuilder(ALICE).withName(upperCaseName).build()));
+    }
+
+    @Test
+    public void contains_nameDiffersOnlyInCaseWithTurkishDefaultLocale_returnsTrue() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            // the Turkish lower case of "I" is a dotless "i"
+            Locale.setDefault(Locale.forLanguageTag("tr"));
+            PersonIdentityIndex turkishIndex = new PersonIdentityIndex();
+            turkishIndex.add(new PersonBuilder(ALICE).withName("Iris Ito").build());
+            assertTrue(turkishIndex.contains(new PersonBuilder(ALICE).withName("iris ito").build()));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void contains_sameNameDifferentPhoneAndEmail_returnsFalse() {
+        index.add(ALICE);
+        Person otherAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).withEmail(VALID_EMAIL_BOB).build();
+        assertFalse(index.contains(otherAlice));
+    }
+
+    @Test
+    public void remove_indexedPerson_personNoLongerContained() {
+        index.add(ALICE);
+        index.remove(ALICE);
+        assertFalse(index.contains(ALICE));
+    }
+
+    @Test
+    public void remove_keySharedWithOtherPerson_otherPersonStillContained() {
+        Person aliceWithBobEmail = new PersonBuilder(ALICE).withEmail(VALID_EMAIL_BOB).build();
+        index.add(ALICE);
+        index.add(aliceWithBobEmail);
+        index.remove(ALICE);
+        assertTrue(index.contains(aliceWithBobEmail));
+    }
+
+    @Test
+    public void containsOtherThan() {
+        index.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress("Block 1").build();
+
+        // only the excluded person has the same identity -> returns false
+        assertFalse(index.containsOtherThan(editedAlice, ALICE));
+
+        // a different person has the same identity -> returns true
+        assertTrue(index.containsOtherThan(editedAlice, BOB));
+    }
+
+    @Test
+    public void clear_removesAllPersons() {
+        index.add(ALICE);
+        index.add(BOB);
+        index.clear();
+        assertFalse(index.contains(ALICE));
+        assertFalse(index.contains(BOB));
+    }
+
+    @Test
+    public void findDuplicatePairs_uniquePersons_returnsEmptyList() {
+        assertEquals(List.of(), PersonIdentityIndex.findDuplicatePairs(List.of(ALICE, BENSON, BOB)));
+    }
+
+    @Test
+    public void findDuplicatePairs_duplicatePersons_returnsEveryPair() {
+        Person aliceWithBobPhone = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        Person aliceWithBobEmail = new PersonBuilder(ALICE).withEmail(VALID_EMAIL_BOB).build();
+
+        // ALICE matches both others, which only match each other through ALICE
+        List<List<Person>> expectedPairs = List.of(
+                List.of(ALICE, aliceWithBobPhone),
+                List.of(ALICE, aliceWithBobEmail));
+        assertEquals(expectedPairs, PersonIdentityIndex.findDuplicatePairs(
+                List.of(ALICE, BOB, aliceWithBobPhone, aliceWithBobEmail)));
+    }
+
+    @Test
+    public void findDuplicatePairs_samePersonRepeated_reportsEachPairOnce() {
+        List<List<Person>> expectedPairs = List.of(
+                List.of(ALICE, ALICE),
+                List.of(ALICE, ALICE),
+                List.of(ALICE, ALICE));
+        assertEquals(expectedPairs, PersonIdentityIndex.findDuplicatePairs(List.of(ALICE, ALICE, ALICE)));
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSearchIndexTest {
+
+    private final UniquePersonList persons = new UniquePersonList();
+    private final PersonSearchIndex index = persons.getSearchIndex();
+
+    @Test
+    public void tokenize() {
+        assertEquals(List.of(), PersonSearchIndex.tokenize("   "));
+        assertEquals(List.of("alice", "pauline"), PersonSearchIndex.tokenize(" Alice \t PAULINE "));
+    }
+
+    @Test
+    public void getPersonsWithAnyToken_nameEmailOrPhone_matchesCaseInsensitively() {
+        persons.add(ALICE);
+        persons.add(BENSON);
+        persons.add(DANIEL);
+
+        assertEquals(Set.of(BENSON, DANIEL), index.getPersonsWithAnyToken(List.of("meier")));
+        assertEquals(Set.of(ALICE, BENSON), index.getPersonsWithAnyToken(
+                List.of(PersonSearchIndex.normalize(ALICE.getEmail().value), BENSON.getPhone().value)));
+        assertEquals(Set.of(), index.getPersonsWithAnyToken(List.of("meie")));
+    }
+
+    @Test
+    public void hasAnyToken_listChanged_indexUpdated() {
+        persons.add(ALICE);
+        assertTrue(index.hasAnyToken(ALICE, List.of("alice")));
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia Pauline").build();
+        persons.setPerson(ALICE, editedAlice);
+        assertFalse(index.hasAnyToken(editedAlice, List.of("alice")));
+        assertTrue(index.hasAnyToken(editedAlice, List.of("alicia")));
+        assertEquals(Set.of(editedAlice), index.getPersonsWithAnyToken(List.of("pauline")));
+
+        persons.remove(editedAlice);
+        assertEquals(Set.of(), index.getPersonsWithAnyToken(List.of("pauline")));
+
+        persons.setPersons(List.of(BENSON));
+        assertTrue(index.hasAnyToken(BENSON, List.of("benson")));
+    }
+
+    @Test
+    public void getApproximateMatches_prefixesAndMisspellings_bestScorePerPerson() {
+        persons.add(ALICE);
+        persons.add(BENSON);
+        persons.add(DANIEL);
+
+        Map<Person, Integer> matches = index.getApproximateMatches(List.of("meir", "dan"));
+        assertEquals(Map.of(BENSON, 2, DANIEL, PersonSearchIndex.PREFIX_MATCH_SCORE), matches);
+
+        matches = index.getApproximateMatches(List.of("alice"));
+        assertEquals(Map.of(ALICE, PersonSearchIndex.EXACT_MATCH_SCORE), matches);
+    }
+
+    @Test
+    public void getApproximateMatches_manyPersonsRemoved_remainingPersonsFound() {
+        List<Person> added = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Person person = new PersonBuilder().withName("Person" + (char) ('a' + i % 26) + i)
+                    .withPhone(String.valueOf(10000000 + i)).withEmail("person" + i + "@example.com").build();
+            persons.add(person);
+            added.add(person);
+        }
+        added.subList(0, 40).forEach(persons::remove);
+
+        // the tree is rebuilt along the way, and still finds only the remaining persons
+        Map<Person, Integer> matches = index.getApproximateMatches(List.of("persont45"));
+        assertEquals(Integer.valueOf(PersonSearchIndex.EXACT_MATCH_SCORE), matches.get(added.get(45)));
+        assertTrue(added.subList(0, 40).stream().noneMatch(matches::containsKey));
+        assertEquals(new HashSet<>(added.subList(40, 50)),
+                new HashSet<>(index.getApproximateMatches(List.of("person")).keySet()));
+    }
+
+    @Test
+    public void getMatchScore() {
+        assertEquals(PersonSearchIndex.EXACT_MATCH_SCORE, PersonSearchIndex.getMatchScore("alice", "alice"));
+        assertEquals(PersonSearchIndex.PREFIX_MATCH_SCORE, PersonSearchIndex.getMatchScore("ali", "alice"));
+        assertEquals(2, PersonSearchIndex.getMatchScore("alyce", "alice"));
+
+        // short keywords must match exactly or as a prefix
+        assertEquals(-1, PersonSearchIndex.getMatchScore("al", "bl"));
+
+        // too many edits
+        assertEquals(-1, PersonSearchIndex.getMatchScore("alice", "bob"));
+    }
+}
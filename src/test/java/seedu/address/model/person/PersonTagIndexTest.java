@@ -0,0 +1,78 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ArchivedBook;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagCategory;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonTagIndexTest {
+
+    private static final Tag BASIC_INSURANCE = new Tag("Basic Health Insurance");
+
+    private final AddressBook addressBook = new AddressBook();
+    private final PersonTagIndex index = addressBook.getTagIndex();
+
+    @Test
+    public void getPersonsWithTag_personsAdded_personsInCategoryFound() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        addressBook.addPerson(CARL);
+
+        assertEquals(Set.of(ALICE, CARL), index.getPersonsWithTag(TagCategory.INSURANCE, BASIC_INSURANCE));
+        assertEquals(Set.of(ALICE), index.getPersonsWithTag(TagCategory.ALLERGY, new Tag("Peanuts")));
+
+        // tags in other categories are not found
+        assertTrue(index.getPersonsWithTag(TagCategory.CONDITION, new Tag("Peanuts")).isEmpty());
+        assertTrue(index.getPersonsWithTag(TagCategory.ALLERGY, new Tag("peanuts")).isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithTagIgnoreCase_differentCases_allFound() {
+        Person lowerCase = new PersonBuilder().withName("Lower Case").withAllergies("peanuts").build();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(lowerCase);
+
+        assertEquals(Set.of(ALICE, lowerCase), index.getPersonsWithTagIgnoreCase(TagCategory.ALLERGY, "PEANUTS"));
+        assertEquals(2, index.getPersonCountIgnoreCase(TagCategory.ALLERGY, "Peanuts"));
+        assertEquals(0, index.getPersonCountIgnoreCase(TagCategory.INSURANCE, "Peanuts"));
+    }
+
+    @Test
+    public void getTagCounts_personsEditedAndRemoved_countsUpdated() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(CARL);
+        assertEquals(Map.of(BASIC_INSURANCE, 2), index.getTagCounts(TagCategory.INSURANCE));
+
+        Person editedCarl = new PersonBuilder(CARL).withInsurances("Premium Health Insurance").build();
+        addressBook.setPerson(CARL, editedCarl);
+        assertEquals(Map.of(BASIC_INSURANCE, 2, new Tag("Premium Health Insurance"), 1),
+                index.getTagCounts(TagCategory.INSURANCE));
+
+        addressBook.removePerson(ALICE);
+        addressBook.removePerson(editedCarl);
+        assertTrue(index.getTagCounts(TagCategory.INSURANCE).isEmpty());
+    }
+
+    @Test
+    public void getTagIndex_archivedBook_archivedPersonsIndexed() {
+        ArchivedBook archivedBook = new ArchivedBook();
+        archivedBook.addArchivedPerson(ALICE);
+        assertEquals(Set.of(ALICE),
+                archivedBook.getTagIndex().getPersonsWithTag(TagCategory.CONDITION, new Tag("Hypertension")));
+
+        archivedBook.unarchivePerson(ALICE);
+        assertTrue(archivedBook.getTagIndex().getTagCounts(TagCategory.CONDITION).isEmpty());
+    }
+}
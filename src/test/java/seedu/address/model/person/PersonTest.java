@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -23,6 +24,17 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().remove(0));
     }
 
+    @Test
+    public void getEarliestAppointment() {
+        assertEquals(ALICE.getAppointment().getDateTime(), ALICE.getEarliestAppointment());
+
+        // the sentinel is shared rather than parsed on every call
+        Person withoutAppointment = ALICE.withAppointment(new Appointment());
+        assertSame(DateTime.FAR_FUTURE, withoutAppointment.getEarliestAppointment());
+        assertSame(withoutAppointment.getEarliestAppointment(), BOB.withAppointment(new Appointment())
+                .getEarliestAppointment());
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
@@ -0,0 +1,80 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class SortKeyTest {
+
+    private static final Person NO_APPOINTMENT = new PersonBuilder().withName("alice pauline").build()
+            .withAppointment(new Appointment());
+    private static final Person LATE_ALICE = new PersonBuilder(ALICE)
+            .withAppointment("01-01-2025 09:00").build();
+
+    @Test
+    public void fieldFromKeyword() {
+        assertEquals(Optional.of(SortKey.Field.NAME), SortKey.Field.fromKeyword("NaMe"));
+        assertEquals(Optional.of(SortKey.Field.APPOINTMENT), SortKey.Field.fromKeyword("appointment"));
+        assertEquals(Optional.empty(), SortKey.Field.fromKeyword("phone"));
+    }
+
+    @Test
+    public void getComparator_appointment_personsWithoutAppointmentLast() {
+        assertEquals(List.of(ALICE, BENSON, NO_APPOINTMENT),
+                sort(new SortKey(SortKey.Field.APPOINTMENT, false), NO_APPOINTMENT, BENSON, ALICE));
+        assertEquals(List.of(BENSON, ALICE, NO_APPOINTMENT),
+                sort(new SortKey(SortKey.Field.APPOINTMENT, true), NO_APPOINTMENT, ALICE, BENSON));
+    }
+
+    @Test
+    public void getComparator_name_ignoresCase() {
+        assertEquals(0, new SortKey(SortKey.Field.NAME, false).getComparator().compare(ALICE, NO_APPOINTMENT));
+        assertEquals(List.of(CARL, BENSON, ALICE), sort(new SortKey(SortKey.Field.NAME, true), ALICE, CARL, BENSON));
+    }
+
+    @Test
+    public void toComparator_laterKeysBreakTies() {
+        List<Person> persons = new ArrayList<>(List.of(LATE_ALICE, BENSON, NO_APPOINTMENT, ALICE));
+        persons.sort(SortKey.toComparator(List.of(new SortKey(SortKey.Field.NAME, false),
+                new SortKey(SortKey.Field.APPOINTMENT, true))));
+        assertEquals(List.of(LATE_ALICE, ALICE, NO_APPOINTMENT, BENSON), persons);
+
+        assertThrows(IllegalArgumentException.class, () -> SortKey.toComparator(List.of()));
+    }
+
+    @Test
+    public void getDescription() {
+        assertEquals("name", new SortKey(SortKey.Field.NAME, false).getDescription());
+        assertEquals("appointment desc", new SortKey(SortKey.Field.APPOINTMENT, true).getDescription());
+    }
+
+    @Test
+    public void equals() {
+        SortKey key = new SortKey(SortKey.Field.NAME, false);
+
+        assertTrue(key.equals(key));
+        assertTrue(key.equals(new SortKey(SortKey.Field.NAME, false)));
+        assertFalse(key.equals(null));
+        assertFalse(key.equals(SortKey.Field.NAME));
+        assertFalse(key.equals(new SortKey(SortKey.Field.NAME, true)));
+        assertFalse(key.equals(new SortKey(SortKey.Field.APPOINTMENT, false)));
+    }
+
+    private static List<Person> sort(SortKey key, Person... persons) {
+        List<Person> sorted = new ArrayList<>(List.of(persons));
+        sorted.sort(key.getComparator());
+        return sorted;
+    }
+}
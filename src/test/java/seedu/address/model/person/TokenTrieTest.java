@@ -0,0 +1,80 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TokenTrieTest {
+
+    private final TokenTrie trie = new TokenTrie();
+
+    @Test
+    public void getTokensWithPrefix_emptyTrie_noTokens() {
+        assertEquals(List.of(), trie.getTokensWithPrefix("an"));
+        assertEquals(List.of(), trie.getTokensWithPrefix(""));
+    }
+
+    @Test
+    public void getTokensWithPrefix_prefix_tokensStartingWithPrefixFound() {
+        List.of("ann", "anna", "annabel", "andrew", "bob").forEach(trie::add);
+
+        assertEquals(Set.of("ann", "anna", "annabel", "andrew"), getTokensWithPrefix("an"));
+
+        // a token is a prefix of itself
+        assertEquals(Set.of("ann", "anna", "annabel"), getTokensWithPrefix("ann"));
+        assertEquals(Set.of("annabel"), getTokensWithPrefix("annabel"));
+
+        // the empty prefix matches every token
+        assertEquals(Set.of("ann", "anna", "annabel", "andrew", "bob"), getTokensWithPrefix(""));
+
+        // a prefix that is longer than any token, or leads nowhere, matches nothing
+        assertEquals(Set.of(), getTokensWithPrefix("annabelle"));
+        assertEquals(Set.of(), getTokensWithPrefix("c"));
+    }
+
+    @Test
+    public void add_sameTokenTwice_foundOnce() {
+        trie.add("ann");
+        trie.add("ann");
+        assertEquals(List.of("ann"), trie.getTokensWithPrefix("a"));
+    }
+
+    @Test
+    public void remove_tokenSharingPrefix_otherTokensKept() {
+        List.of("ann", "anna", "annabel").forEach(trie::add);
+
+        // removing a token that other tokens extend keeps them
+        trie.remove("anna");
+        assertEquals(Set.of("ann", "annabel"), getTokensWithPrefix("ann"));
+
+        // removing the longest token keeps the shorter ones
+        trie.remove("annabel");
+        assertEquals(Set.of("ann"), getTokensWithPrefix("a"));
+        assertEquals(Set.of(), getTokensWithPrefix("anna"));
+
+        trie.remove("ann");
+        assertEquals(Set.of(), getTokensWithPrefix(""));
+    }
+
+    @Test
+    public void remove_tokenNotInTrie_nothingRemoved() {
+        List.of("ann", "annabel").forEach(trie::add);
+
+        // neither a missing token nor a prefix of a token that is not itself a token is removed
+        trie.remove("bob");
+        trie.remove("anna");
+        trie.remove("annabelle");
+        assertEquals(Set.of("ann", "annabel"), getTokensWithPrefix(""));
+    }
+
+    private Set<String> getTokensWithPrefix(String prefix) {
+        List<String> tokens = trie.getTokensWithPrefix(prefix);
+        Set<String> distinctTokens = new HashSet<>(tokens);
+        assertEquals(tokens.size(), distinctTokens.size());
+        return distinctTokens;
+    }
+}
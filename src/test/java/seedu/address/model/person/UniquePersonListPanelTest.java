@@ -4,19 +4,25 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalPersons;
 
 public class UniquePersonListPanelTest {
 
@@ -108,6 +114,24 @@ public class UniquePersonListPanelTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_editedPersonSharesIdentityWithTargetAndAnotherPerson_throwsDuplicatePersonException() {
+        Person aliceWithBobPhone = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB)
+                .withEmail(VALID_EMAIL_BOB).build();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(aliceWithBobPhone);
+        Person editedAlice = new PersonBuilder(ALICE).withEmail(VALID_EMAIL_BOB).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, editedAlice));
+    }
+
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_targetIdentityReleased() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -126,6 +150,46 @@ public class UniquePersonListPanelTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_existingPerson_identityReleased() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void removeAll_nullPerson_throwsNullPointerException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(NullPointerException.class, () -> uniquePersonList.removeAll(Arrays.asList(ALICE, null)));
+    }
+
+    @Test
+    public void removeAll_personDoesNotExist_nothingRemoved() {
+        uniquePersonList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.removeAll(List.of(ALICE, BOB)));
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void removeAll_existingPersons_removedInOneChange() {
+        uniquePersonList.setPersons(TypicalPersons.getTypicalPersons());
+        List<Person> toRemove = List.of(TypicalPersons.GEORGE, TypicalPersons.ALICE, TypicalPersons.DANIEL,
+                TypicalPersons.CARL);
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener(changes::add);
+
+        uniquePersonList.removeAll(toRemove);
+
+        assertEquals(List.of(TypicalPersons.BENSON, TypicalPersons.ELLE, TypicalPersons.FIONA),
+                uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changes.size());
+        toRemove.forEach(person -> assertFalse(uniquePersonList.contains(person)));
+        assertTrue(uniquePersonList.contains(TypicalPersons.BENSON));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -153,6 +217,8 @@ public class UniquePersonListPanelTest {
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         expectedUniquePersonList.add(BOB);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
     }
 
     @Test
@@ -161,6 +227,58 @@ public class UniquePersonListPanelTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_reportsEveryDuplicatePair() {
+        Person editedBob = new PersonBuilder(BOB).withAddress(VALID_ADDRESS_BOB).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, ALICE, editedBob);
+        String expectedMessage = "Operation would result in duplicate persons: "
+                + ALICE.getName() + " and " + ALICE.getName() + ", " + BOB.getName() + " and " + editedBob.getName();
+        assertThrows(DuplicatePersonException.class, expectedMessage, ()
+            -> uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void batch_severalChanges_listenersToldOnceAtEnd() {
+        uniquePersonList.add(ALICE);
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener(changes::add);
+
+        uniquePersonList.beginBatch();
+        uniquePersonList.add(BOB);
+        uniquePersonList.beginBatch();
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.endBatch();
+        assertTrue(changes.isEmpty());
+        // the indexes are kept up to date during the batch
+        assertTrue(uniquePersonList.contains(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+
+        uniquePersonList.endBatch();
+        assertEquals(1, changes.size());
+        assertEquals(List.of(BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void endBatch_noBatch_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, uniquePersonList::endBatch);
+    }
+
+    @Test
+    public void sort_unsortedList_firesPermutation() {
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(ALICE);
+        List<Boolean> arePermutations = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                arePermutations.add(change.wasPermutated());
+            }
+        });
+
+        uniquePersonList.sort(Comparator.comparing(person -> person.getName().value));
+        assertEquals(List.of(true), arePermutations);
+        assertEquals(List.of(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,116 @@
+package seedu.address.model.person.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+import seedu.address.model.person.query.FieldQuery.Field;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonQueryPredicateTest {
+
+    private static final PersonQuery NAME_MEIER = new FieldQuery(Field.NAME, "meier");
+    private static final PersonQuery NAME_BENSON_MEIER = new FieldQuery(Field.NAME, "Benson Meier");
+    private static final PersonQuery ALLERGY_NONE = new FieldQuery(Field.ALLERGY, "none");
+    private static final PersonQuery DECEMBER_2023 =
+            new AppointmentQuery(LocalDate.of(2023, 12, 1), LocalDate.of(2023, 12, 31));
+
+    @Test
+    public void test_fieldClauses() {
+        assertTrue(NAME_BENSON_MEIER.test(BENSON));
+        assertFalse(NAME_BENSON_MEIER.test(DANIEL));
+        assertTrue(new FieldQuery(Field.ADDRESS, "JURONG west").test(ALICE));
+        assertTrue(new FieldQuery(Field.INSURANCE, "basic health insurance").test(ALICE));
+        assertFalse(new FieldQuery(Field.CONDITION, "Hyper").test(ALICE));
+        assertTrue(DECEMBER_2023.test(ALICE));
+        assertFalse(DECEMBER_2023.test(DANIEL));
+        assertFalse(DECEMBER_2023.test(new PersonBuilder().withAppointment("").build()));
+    }
+
+    @Test
+    public void usingIndex_sameResultAsTest() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(getTypicalPersons());
+
+        List<PersonQuery> queries = List.of(NAME_MEIER, NAME_BENSON_MEIER, DECEMBER_2023,
+                new AndQuery(List.of(ALLERGY_NONE, NAME_MEIER)),
+                new OrQuery(List.of(NAME_MEIER, new FieldQuery(Field.EMAIL, "alice@example.com"))),
+                new OrQuery(List.of(NAME_MEIER, DECEMBER_2023)),
+                new NotQuery(NAME_MEIER));
+        for (PersonQuery query : queries) {
+            PersonQueryPredicate predicate = new PersonQueryPredicate(query);
+            Predicate<Person> indexedPredicate = predicate.usingIndex(addressBook.getSearchIndex());
+            Optional<Set<Person>> candidates = predicate.getCandidates(addressBook.getSearchIndex());
+            for (Person person : addressBook.getPersonList()) {
+                assertEquals(predicate.test(person), indexedPredicate.test(person), query + " " + person);
+                // every match is a candidate, when the index can narrow the query down
+                assertTrue(!predicate.test(person) || candidates.map(set -> set.contains(person)).orElse(true),
+                        query + " " + person);
+            }
+        }
+    }
+
+    @Test
+    public void estimateCandidateCount_mostSelectiveIndexUsed() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(getTypicalPersons());
+        PersonSearchIndex index = addressBook.getSearchIndex();
+
+        assertEquals(2, NAME_MEIER.estimateCandidateCount(index));
+        assertEquals(1, NAME_BENSON_MEIER.estimateCandidateCount(index));
+        assertEquals(4, ALLERGY_NONE.estimateCandidateCount(index));
+        assertEquals(2, DECEMBER_2023.estimateCandidateCount(index));
+        assertEquals(Set.of(ALICE, BENSON), new HashSet<>(DECEMBER_2023.getCandidates(index).get()));
+
+        PersonQuery query = new AndQuery(List.of(ALLERGY_NONE, NAME_MEIER));
+        assertEquals(2, query.estimateCandidateCount(index));
+        assertEquals(Set.of(BENSON, DANIEL), query.getCandidates(index).get().stream().collect(Collectors.toSet()));
+
+        PersonQuery unboundedQuery = new OrQuery(List.of(NAME_MEIER, new NotQuery(ALLERGY_NONE)));
+        assertEquals(PersonQuery.UNBOUNDED, unboundedQuery.estimateCandidateCount(index));
+        assertEquals(Optional.empty(), unboundedQuery.getCandidates(index));
+        assertEquals(Optional.empty(), new NotQuery(ALLERGY_NONE).getCandidates(index));
+        assertEquals(Optional.empty(), new AndQuery(List.of(new NotQuery(ALLERGY_NONE))).getCandidates(index));
+        assertEquals(6, new OrQuery(List.of(NAME_MEIER, ALLERGY_NONE)).estimateCandidateCount(index));
+        assertEquals(3, new OrQuery(List.of(NAME_MEIER, NAME_BENSON_MEIER)).estimateCandidateCount(index));
+    }
+
+    @Test
+    public void usingIndex_listChanged_candidatesUpdated() {
+        AddressBook addressBook = new AddressBook();
+        Predicate<Person> indexedPredicate = new PersonQueryPredicate(NAME_MEIER)
+                .usingIndex(addressBook.getSearchIndex());
+
+        assertFalse(indexedPredicate.test(BENSON));
+        addressBook.addPerson(BENSON);
+        assertTrue(indexedPredicate.test(BENSON));
+    }
+
+    @Test
+    public void equals() {
+        PersonQueryPredicate predicate = new PersonQueryPredicate(NAME_MEIER);
+
+        assertTrue(predicate.equals(predicate));
+        assertTrue(predicate.equals(new PersonQueryPredicate(new FieldQuery(Field.NAME, "meier"))));
+        assertFalse(predicate.equals(null));
+        assertFalse(predicate.equals(new PersonQueryPredicate(new FieldQuery(Field.EMAIL, "meier"))));
+        assertFalse(predicate.equals(new PersonQueryPredicate(new NotQuery(NAME_MEIER))));
+    }
+}
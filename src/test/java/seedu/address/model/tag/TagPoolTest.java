@@ -0,0 +1,55 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class TagPoolTest {
+
+    @Test
+    public void intern_sameName_sameTag() {
+        Tag tag = TagPool.intern("Medisave");
+        assertSame(tag, TagPool.intern(new String("Medisave")));
+        assertSame(tag, TagPool.intern(new Tag("Medisave")));
+        assertEquals("Medisave", tag.tagName);
+
+        // tag names are case-sensitive
+        assertNotSame(tag, TagPool.intern("medisave"));
+    }
+
+    @Test
+    public void intern_sameNameFromSeveralThreads_sameTag() {
+        String tagName = "Shared " + System.nanoTime();
+        List<Tag> tags = IntStream.range(0, 1000).parallel()
+                .mapToObj(i -> TagPool.intern(new String(tagName)))
+                .collect(Collectors.toList());
+
+        Tag canonicalTag = TagPool.intern(tagName);
+        tags.forEach(tag -> assertSame(canonicalTag, tag));
+    }
+
+    @Test
+    public void intern_tagNoLongerUsed_tagCollected() throws Exception {
+        WeakReference<Tag> tagReference = new WeakReference<>(TagPool.intern("Unused " + System.nanoTime()));
+        for (int i = 0; i < 10 && tagReference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(tagReference.get());
+    }
+
+    @Test
+    public void intern_invalidTagName_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> TagPool.intern((String) null));
+        assertThrows(IllegalArgumentException.class, () -> TagPool.intern(" "));
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    private static final Tag PEANUTS = new Tag("Peanuts");
+    private static final Tag POLLEN = new Tag("Pollen");
+    private static final Tag GLUTEN = new Tag("Gluten");
+
+    @Test
+    public void of_tags_sortedAndDistinct() {
+        TagSet tags = TagSet.of(List.of(POLLEN, PEANUTS, GLUTEN, new Tag("Pollen")));
+        assertEquals(List.of(GLUTEN, PEANUTS, POLLEN), List.copyOf(tags));
+        assertEquals(Set.of(PEANUTS, POLLEN, GLUTEN), tags);
+        assertEquals(new HashSet<>(List.of(PEANUTS, POLLEN, GLUTEN)).hashCode(), tags.hashCode());
+
+        assertSame(tags, TagSet.of(tags));
+        assertSame(TagSet.EMPTY, TagSet.of(Set.of()));
+    }
+
+    @Test
+    public void of_tags_canonicalTagsStored() {
+        TagSet tags = TagSet.of(Set.of(new Tag("Medisave")));
+        assertSame(TagPool.intern("Medisave"), tags.iterator().next());
+    }
+
+    @Test
+    public void contains() {
+        TagSet tags = TagSet.of(Set.of(PEANUTS, POLLEN));
+        assertTrue(tags.contains(new Tag("Peanuts")));
+        assertFalse(tags.contains(GLUTEN));
+        assertFalse(tags.contains("Peanuts"));
+        assertFalse(tags.contains(null));
+    }
+
+    @Test
+    public void unionAndDifference() {
+        TagSet tags = TagSet.of(Set.of(PEANUTS));
+        assertEquals(Set.of(PEANUTS, POLLEN), tags.union(Set.of(POLLEN)));
+        assertEquals(Set.of(), tags.difference(Set.of(PEANUTS)));
+
+        // unchanged sets are not copied
+        assertSame(tags, tags.union(Set.of(PEANUTS)));
+        assertSame(tags, tags.difference(Set.of(GLUTEN)));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        TagSet tags = TagSet.of(Set.of(PEANUTS));
+        assertThrows(UnsupportedOperationException.class, () -> tags.add(POLLEN));
+        assertThrows(UnsupportedOperationException.class, () -> tags.remove(PEANUTS));
+        assertThrows(UnsupportedOperationException.class, () -> tags.iterator().remove());
+    }
+}
@@ -0,0 +1,137 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class CsvPersonFileTest {
+
+    private static final String HEADER_LINE = String.join(",", CsvPersonFile.HEADER);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CsvPersonFile.read(null, row -> { }));
+        assertThrows(NullPointerException.class, () -> CsvPersonFile.read(testFolder.resolve("persons.csv"), null));
+    }
+
+    @Test
+    public void writeThenRead_typicalPersons_samePersons() throws Exception {
+        Path filePath = testFolder.resolve("persons.csv");
+        CsvPersonFile.write(filePath, getTypicalPersons());
+
+        List<CsvPersonFile.Row> rows = read(filePath);
+        List<Person> persons = new ArrayList<>();
+        for (CsvPersonFile.Row row : rows) {
+            assertTrue(row.isValid());
+            persons.add(row.getPerson());
+        }
+        assertEquals(getTypicalPersons(), persons);
+    }
+
+    @Test
+    public void writeThenRead_fieldsNeedingQuotes_samePerson() throws Exception {
+        Person person = new PersonBuilder().withAddress("Blk 10, \"Sunny\" Lodge, #01-01")
+                .withAllergies("Peanuts", "Shellfish").build();
+        Path filePath = testFolder.resolve("quoted.csv");
+        CsvPersonFile.write(filePath, List.of(person));
+
+        List<CsvPersonFile.Row> rows = read(filePath);
+        assertEquals(1, rows.size());
+        assertEquals(person, rows.get(0).getPerson());
+    }
+
+    @Test
+    public void read_invalidRows_reportedWithoutFailingFile() throws Exception {
+        Path filePath = writeFile(HEADER_LINE,
+                "Amy Bee,85355255,amy@gmail.com,\"Blk 1, Jurong\",,,,,,,",
+                "Bob Choo,92345678,bob@gmail.com,\"Blk 2\nJurong\",,,,,,,",
+                "",
+                "Carl Kurz,95352563",
+                "Daniel Meier,87652533,daniel@gmail.com,Blk 3,Pollen;Dust,,,,Jane Meier,92345678,Sister");
+
+        List<CsvPersonFile.Row> rows = read(filePath);
+        assertEquals(4, rows.size());
+
+        assertTrue(rows.get(0).isValid());
+        assertEquals(2, rows.get(0).getLineNumber());
+        assertEquals(Person.NIL_EMERGENCY_CONTACT, rows.get(0).getPerson().getEmergencyContact());
+
+        // an address cannot span lines, but the row is still split as one
+        assertFalse(rows.get(1).isValid());
+        assertEquals(3, rows.get(1).getLineNumber());
+
+        // line numbers count the line break inside the quoted address, and the blank line
+        assertFalse(rows.get(2).isValid());
+        assertEquals(6, rows.get(2).getLineNumber());
+        assertEquals(String.format(CsvPersonFile.MESSAGE_WRONG_FIELD_COUNT, CsvPersonFile.HEADER.size(), 2),
+                rows.get(2).getError());
+
+        assertTrue(rows.get(3).isValid());
+        assertEquals(2, rows.get(3).getPerson().getAllergyTags().size());
+        assertEquals(new Name("Jane Meier"), rows.get(3).getPerson().getEmergencyContact().getName());
+    }
+
+    @Test
+    public void read_moreRowsThanBatch_rowsInOrder() throws Exception {
+        // several batches, the last of which is split into chunks of different sizes
+        int rowCount = CsvPersonFile.BATCH_SIZE * 2 + CsvPersonFile.CHUNK_SIZE * 3 + 7;
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER_LINE);
+        for (int i = 0; i < rowCount; i++) {
+            lines.add("Patient " + i + "," + (80000000 + i) + ",patient" + i + "@example.com,Blk " + i + ",,,,,,,");
+        }
+        Path filePath = writeFile(lines.toArray(new String[0]));
+
+        List<CsvPersonFile.Row> rows = read(filePath);
+        assertEquals(rowCount, rows.size());
+        for (int i = 0; i < rowCount; i++) {
+            assertEquals(i + 2, rows.get(i).getLineNumber());
+            assertEquals(new Name("Patient " + i), rows.get(i).getPerson().getName());
+        }
+    }
+
+    @Test
+    public void read_missingHeader_throwsIllegalValueException() throws Exception {
+        Path filePath = writeFile("Amy Bee,85355255,amy@gmail.com,Blk 1,,,,,,,");
+        assertThrows(IllegalValueException.class, () -> read(filePath));
+        assertThrows(IllegalValueException.class, () -> read(writeFile("")));
+    }
+
+    @Test
+    public void read_unclosedQuote_throwsIllegalValueException() throws Exception {
+        Path filePath = writeFile(HEADER_LINE, "Amy Bee,85355255,amy@gmail.com,\"Blk 1,,,,,,,");
+        assertThrows(IllegalValueException.class, String.format(CsvPersonFile.MESSAGE_UNCLOSED_QUOTE, 2), () ->
+                read(filePath));
+    }
+
+    private List<CsvPersonFile.Row> read(Path filePath) throws Exception {
+        List<CsvPersonFile.Row> rows = new ArrayList<>();
+        CsvPersonFile.read(filePath, rows::add);
+        return rows;
+    }
+
+    private Path writeFile(String... lines) throws Exception {
+        Path filePath = Files.createTempFile(testFolder, "persons", ".csv");
+        Files.write(filePath, List.of(lines), StandardCharsets.UTF_8);
+        return filePath;
+    }
+}
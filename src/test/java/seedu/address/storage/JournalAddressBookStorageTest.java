@@ -0,0 +1,185 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("missing.json");
+        assertFalse(new JournalAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readSave_changesAppendedToJournal_readsLatestData() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withAddress("Block 123").build());
+        storage.saveAddressBook(original);
+
+        // only the journal is written to
+        assertEquals(snapshot, Files.readString(filePath));
+        assertTrue(Files.exists(getJournalFilePath(filePath)));
+
+        ReadOnlyAddressBook readBack = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_recordDiscarded() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        Files.write(getJournalFilePath(filePath), "{\"index\":0,\"remo".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        JournalAddressBookStorage reopenedStorage = new JournalAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(reopenedStorage.readAddressBook().get()));
+
+        // appending after the discarded record still produces a readable journal
+        original.addPerson(IDA);
+        reopenedStorage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_nonAsciiRecordThenIncompleteRecord_truncatedAfterLastRecord() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        // characters of several bytes, so lengths in characters and in bytes differ
+        original.addPerson(new PersonBuilder(HOON).withAddress("Zoë Straße 東京 3").build());
+        storage.saveAddressBook(original);
+        long validLength = Files.size(getJournalFilePath(filePath));
+
+        Files.write(getJournalFilePath(filePath), "{\"splices\":[{\"index\":0,\"é".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(validLength, Files.size(getJournalFilePath(filePath)));
+    }
+
+    @Test
+    public void readAddressBook_invalidRecord_earlierRecordsKept() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        long validLength = Files.size(getJournalFilePath(filePath));
+
+        // a record that does not fit the persons, followed by one that would
+        Files.write(getJournalFilePath(filePath), ("{\"splices\":[{\"index\":999,\"removedCount\":1}]}\n"
+                + "{\"splices\":[{\"index\":0,\"removedCount\":1}]}\n").getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        JournalAddressBookStorage reopenedStorage = new JournalAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(reopenedStorage.readAddressBook().get()));
+        assertEquals(validLength, Files.size(getJournalFilePath(filePath)));
+
+        // appending after the discarded records still produces a readable journal
+        original.addPerson(IDA);
+        reopenedStorage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_snapshotMissing_backupAndJournalLoaded() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // only the backup of the snapshot that the journal was started from is left
+        Files.move(filePath, FileUtil.getBackupFilePath(filePath));
+
+        JournalAddressBookStorage reopenedStorage = new JournalAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(reopenedStorage.readAddressBook().get()));
+
+        // the next save writes the snapshot again, without losing the backup first
+        original.addPerson(IDA);
+        reopenedStorage.saveAddressBook(original);
+        assertTrue(Files.exists(filePath));
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalOfOtherSnapshot_journalIgnored() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // the snapshot is replaced without restarting the journal
+        AddressBook replacement = new AddressBook();
+        replacement.addPerson(IDA);
+        new JsonAddressBookStorage(filePath).saveAddressBook(replacement);
+
+        assertEquals(replacement, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_compactionThresholdReached_snapshotRewritten() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        for (int i = 0; i <= PersonListJournal.COMPACTION_THRESHOLD; i++) {
+            if (original.hasPerson(HOON)) {
+                original.removePerson(HOON);
+            } else {
+                original.addPerson(HOON);
+            }
+            storage.saveAddressBook(original);
+        }
+
+        ReadOnlyAddressBook snapshot = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(snapshot));
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    private Path getJournalFilePath(Path filePath) {
+        return new PersonListJournal(filePath).getJournalFilePath();
+    }
+}
@@ -2,17 +2,24 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
+import seedu.address.model.ArchivedBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyArchivedBook;
 import seedu.address.model.UserPrefs;
 
 public class StorageManagerTest {
@@ -61,6 +68,118 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void addressBookReadSave_savedInBackground() throws Exception {
+        StorageManager backgroundStorageManager = new StorageManager(
+                new JsonAddressBookStorage(getTempFilePath("ab")), new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new JsonArchivedBookStorage(getTempFilePath("archived")), true);
+        AddressBook original = getTypicalAddressBook();
+        backgroundStorageManager.saveAddressBook(original);
+
+        // later changes are not part of the snapshot that was saved
+        AddressBook expected = new AddressBook(original);
+        original.addPerson(HOON);
+
+        backgroundStorageManager.flush();
+        assertEquals(expected, new AddressBook(backgroundStorageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void flush_backgroundSaveFailed_throwsIoException() throws Exception {
+        CountDownLatch addressBookQueued = new CountDownLatch(1);
+        JsonAddressBookStorage failingStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                try {
+                    addressBookQueued.await();
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new IOException("dummy IO exception");
+            }
+        };
+        StorageManager backgroundStorageManager = new StorageManager(failingStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new JsonArchivedBookStorage(getTempFilePath("archived")), true);
+
+        // the save fails only after it is queued, so queueing it cannot report the failure
+        backgroundStorageManager.saveAddressBook(getTypicalAddressBook());
+        addressBookQueued.countDown();
+        assertThrows(IOException.class, String.format(StorageManager.MESSAGE_BACKGROUND_SAVE_FAILED,
+                getTempFilePath("ab"), "dummy IO exception"), backgroundStorageManager::flush);
+
+        // the failure is only reported once
+        backgroundStorageManager.flush();
+    }
+
+    @Test
+    public void saveAddressBook_earlierBackgroundSaveFailed_snapshotStillSaved() throws Exception {
+        CountDownLatch archivedBookQueued = new CountDownLatch(1);
+        JsonAddressBookStorage failingOnceStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            private boolean hasFailed = false;
+
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (!hasFailed) {
+                    hasFailed = true;
+                    try {
+                        archivedBookQueued.await();
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                    }
+                    throw new IOException("dummy IO exception");
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        CountDownLatch archivedBookSaved = new CountDownLatch(1);
+        JsonArchivedBookStorage archivedBookStorage = new JsonArchivedBookStorage(getTempFilePath("archived")) {
+            @Override
+            public void saveArchivedContacts(ReadOnlyArchivedBook archivedBook, Path filePath) throws IOException {
+                super.saveArchivedContacts(archivedBook, filePath);
+                archivedBookSaved.countDown();
+            }
+        };
+        StorageManager backgroundStorageManager = new StorageManager(failingOnceStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), archivedBookStorage, true);
+
+        backgroundStorageManager.saveAddressBook(new AddressBook());
+        // the failing save waits until the archived book is queued, so queueing it cannot report the failure
+        backgroundStorageManager.saveArchivedContacts(new ArchivedBook());
+        archivedBookQueued.countDown();
+        // the writer saves books in order, so the failed save is over once the archived book is saved
+        archivedBookSaved.await();
+
+        AddressBook expected = getTypicalAddressBook();
+        assertThrows(IOException.class, String.format(StorageManager.MESSAGE_BACKGROUND_SAVE_FAILED,
+                getTempFilePath("ab"), "dummy IO exception"), () -> backgroundStorageManager.saveAddressBook(expected));
+        backgroundStorageManager.flush();
+        assertEquals(expected, new AddressBook(backgroundStorageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void checkBackgroundSaves_noFailure_success() throws Exception {
+        StorageManager backgroundStorageManager = new StorageManager(
+                new JsonAddressBookStorage(getTempFilePath("ab")), new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new JsonArchivedBookStorage(getTempFilePath("archived")), true);
+        backgroundStorageManager.saveAddressBook(getTypicalAddressBook());
+        backgroundStorageManager.checkBackgroundSaves();
+        backgroundStorageManager.flush();
+    }
+
+    @Test
+    public void convertAddressBook_dataFileInUse_throwsIoException() throws Exception {
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        Path otherFilePath = getTempFilePath("other");
+
+        assertThrows(IOException.class, String.format(StorageManager.MESSAGE_FILE_IN_USE, getTempFilePath("ab")), () ->
+                storageManager.convertAddressBook(getTempFilePath("ab"), otherFilePath));
+        assertThrows(IOException.class, String.format(StorageManager.MESSAGE_FILE_IN_USE, getTempFilePath("archived")),
+                () -> storageManager.convertAddressBook(otherFilePath, getTempFilePath("archived")));
+        assertThrows(IOException.class, String.format(StorageManager.MESSAGE_FILE_IN_USE, getTempFilePath("ab")), () ->
+                storageManager.saveAddressBookAs(new AddressBook(), DataFileFormat.BINARY, getTempFilePath("ab")));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());